@@ -0,0 +1,39 @@
+-- member.email 정규화 충돌 해결 (직접 실행)
+--
+-- SchemaMigrator는 lower(trim(email))이 같은 회원이 있으면 이메일 정규화와 uk_member_email 추가를 건너뛰고,
+-- 충돌한 회원 id를 "정규화하면 같아지는 이메일" 로그로 남긴다.
+-- 충돌마다 남길 회원과 합칠 회원을 정해서 2번을 실행하고, 충돌이 모두 없어지면 애플리케이션을 다시 띄운다.
+-- 합칠 회원의 일정은 남길 회원에게 옮기고 합칠 회원은 지우므로 되돌릴 수 없다. 실행하기 전에 백업하고 리뷰를 받는다.
+
+use ptd;
+
+-- 1. 충돌 목록 (SchemaMigrator 로그와 같다.)
+select lower(trim(email)) as normalized, group_concat(id order by id) as member_ids
+from member
+where email is not null
+group by lower(trim(email))
+having count(*) > 1;
+
+-- 2. 충돌 하나 해결
+-- 두 회원의 이메일이 정규화하면 같을 때만 바꾼다. (id를 잘못 넣으면 아무것도 바뀌지 않는다.)
+set @keeper_id = 0;     -- 남길 회원 id
+set @duplicate_id = 0;  -- 합칠 회원 id
+
+start transaction;
+
+update plan p
+    join member d on d.id = p.member_id
+    join member k on k.id = @keeper_id
+set p.member_id = k.id
+where d.id = @duplicate_id
+  and k.id <> d.id
+  and lower(trim(d.email)) = lower(trim(k.email));
+
+delete d
+from member d
+    join member k on k.id = @keeper_id
+where d.id = @duplicate_id
+  and k.id <> d.id
+  and lower(trim(d.email)) = lower(trim(k.email));
+
+commit;
@@ -0,0 +1,76 @@
+package yeonleaf.plantodo.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import yeonleaf.plantodo.cache.CompactRedisSerializer;
+import yeonleaf.plantodo.domain.PlanStatus;
+import yeonleaf.plantodo.dto.PlanResDto;
+import yeonleaf.plantodo.wrapper.PlanResDtoWrap;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 캐시 값 직렬화 비교 (GenericJackson2JsonRedisSerializer vs CompactRedisSerializer)
+ * planCount : 한 회원의 일정 목록(PlanResDtoWrap) 크기, 1은 단건(plan) 캐시와 비슷한 크기
+ * 실행 : ./gradlew jmh
+ * 값 크기(byte)는 @Setup에서 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheSerializerBenchmark {
+
+    @Param({"1", "20", "200"})
+    private int planCount;
+
+    private final RedisSerializer<Object> jackson = new GenericJackson2JsonRedisSerializer();
+    private final RedisSerializer<Object> compact = new CompactRedisSerializer(512);
+
+    private PlanResDtoWrap value;
+    private byte[] jacksonBytes;
+    private byte[] compactBytes;
+
+    @Setup
+    public void setUp() {
+
+        List<PlanResDto> plans = new ArrayList<>();
+        LocalDate start = LocalDate.of(2023, 7, 1);
+        for (int i = 0; i < planCount; i++) {
+            plans.add(new PlanResDto(10_000L + i, "plan title " + i, start.plusDays(i % 30), start.plusDays(i % 30 + 14),
+                    i % 3 == 0 ? PlanStatus.COMPLETED : PlanStatus.NOW));
+        }
+        value = new PlanResDtoWrap(plans);
+        jacksonBytes = jackson.serialize(value);
+        compactBytes = compact.serialize(value);
+        System.out.printf("%n[planCount=%d] jackson=%d bytes, compact=%d bytes%n", planCount, jacksonBytes.length, compactBytes.length);
+
+    }
+
+    @Benchmark
+    public byte[] jacksonSerialize() {
+        return jackson.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] compactSerialize() {
+        return compact.serialize(value);
+    }
+
+    @Benchmark
+    public Object jacksonDeserialize() {
+        return jackson.deserialize(jacksonBytes);
+    }
+
+    @Benchmark
+    public Object compactDeserialize() {
+        return compact.deserialize(compactBytes);
+    }
+
+}
@@ -22,6 +22,8 @@ public class QPlan extends EntityPathBase<Plan> {
 
     public static final QPlan plan = new QPlan("plan");
 
+    public final QGroup dailyGroup;
+
     public final DatePath<java.time.LocalDate> end = createDate("end", java.time.LocalDate.class);
 
     public final NumberPath<Long> id = createNumber("id", Long.class);
@@ -52,6 +54,7 @@ public class QPlan extends EntityPathBase<Plan> {
 
     public QPlan(Class<? extends Plan> type, PathMetadata metadata, PathInits inits) {
         super(type, metadata, inits);
+        this.dailyGroup = inits.isInitialized("dailyGroup") ? new QGroup(forProperty("dailyGroup"), inits.get("dailyGroup")) : null;
         this.member = inits.isInitialized("member") ? new QMember(forProperty("member")) : null;
     }
 
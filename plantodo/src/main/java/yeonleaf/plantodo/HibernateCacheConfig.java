@@ -0,0 +1,66 @@
+package yeonleaf.plantodo;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * 거의 바뀌지 않는 엔티티(Member, Repetition, Group)를 위한 Hibernate 2차 캐시 설정
+ * 리전마다 최대 크기를 두고, 미리 만들지 않은 리전이 쓰이면 기동 시점에 실패하도록 한다.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final String MEMBER_REGION = "member";
+    public static final String MEMBER_NATURAL_ID_REGION = "memberNaturalId";
+    public static final String GROUP_REGION = "group";
+    public static final String REPETITION_REGION = "repetition";
+
+    private static final Map<String, Long> REGION_MAXIMUM_SIZES = Map.of(
+            MEMBER_REGION, 10_000L,
+            MEMBER_NATURAL_ID_REGION, 10_000L,
+            GROUP_REGION, 50_000L,
+            REPETITION_REGION, 50_000L
+    );
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+
+        // 테스트에서 컨텍스트가 여러 개 떠도 서로의 캐시 매니저를 닫지 않도록 URI를 분리
+        URI uri = URI.create("plantodo-hibernate-" + UUID.randomUUID());
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(uri, getClass().getClassLoader());
+
+        REGION_MAXIMUM_SIZES.forEach((region, maximumSize) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(region, configuration);
+        });
+        return cacheManager;
+
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateSecondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+}
@@ -6,6 +6,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
 import yeonleaf.plantodo.provider.JwtBasicProvider;
 import yeonleaf.plantodo.provider.JwtProvider;
+import yeonleaf.plantodo.provider.JwtTokenVerifier;
 
 import javax.crypto.SecretKey;
 
@@ -20,4 +21,9 @@ public class JwtConfig {
         return jwtProvider.secretKey();
     }
 
+    @Bean
+    public JwtTokenVerifier jwtTokenVerifier() {
+        return jwtProvider.tokenVerifier();
+    }
+
 }
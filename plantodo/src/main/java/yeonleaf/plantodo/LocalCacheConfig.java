@@ -0,0 +1,37 @@
+package yeonleaf.plantodo;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import yeonleaf.plantodo.cache.CacheTagInvalidator;
+import yeonleaf.plantodo.cache.LocalCacheTagInvalidator;
+
+import java.time.Duration;
+
+/**
+ * Redis 클러스터 없이 단일 노드로 띄울 때 쓰는 Caffeine 전용 캐시
+ * 노드가 하나뿐이므로 invalidation 없이 Redis 캐시와 같은 TTL을 쓴다.
+ */
+@Profile("!con & !test")
+@Configuration
+public class LocalCacheConfig {
+
+    @Bean
+    @Primary
+    public CaffeineCacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(10_000L)
+                .expireAfterWrite(Duration.ofMinutes(5L)));
+        return cacheManager;
+    }
+
+    @Bean
+    public CacheTagInvalidator cacheTagInvalidator(CaffeineCacheManager cacheManager) {
+        return new LocalCacheTagInvalidator(cacheManager);
+    }
+
+}
@@ -5,8 +5,13 @@ import io.swagger.v3.oas.annotations.servers.Server;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
 
-@EnableCaching
+// 캐시 조회가 트랜잭션 밖에서 먼저 일어나도록 (캐시 hit이면 트랜잭션을 시작하지 않고, DB 연결 실패도 캐시 쪽에서 처리)
+// 트랜잭션 advice 순서도 기본값에 기대지 않고 캐시 advice보다 안쪽으로 고정한다.
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+@EnableTransactionManagement(order = Ordered.LOWEST_PRECEDENCE)
 @OpenAPIDefinition(servers = {
 		@Server(url = "https://plantodo.site/", description = "Prod Server URL"),
 		@Server(url = "http://localhost:8080/", description = "Dev server URL (window)"),
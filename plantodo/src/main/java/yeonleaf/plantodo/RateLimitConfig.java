@@ -0,0 +1,42 @@
+package yeonleaf.plantodo;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import yeonleaf.plantodo.ratelimit.LocalRateLimiter;
+import yeonleaf.plantodo.ratelimit.RateLimiter;
+import yeonleaf.plantodo.ratelimit.RedisRateLimiter;
+
+/**
+ * 회원별 요청 한도 (RateLimitInterceptor)
+ */
+@Configuration
+public class RateLimitConfig {
+
+    /**
+     * plantodo.rate-limit.global=true면 노드 수와 상관없이 회원마다 같은 한도를 Redis에서 나눠 쓴다.
+     * 꺼 두면 노드마다 따로 센다. (노드 수만큼 한도가 늘어난다.)
+     */
+    @Bean
+    @Profile({"con", "test"})
+    public RateLimiter rateLimiter(RedisConnectionFactory redisConnectionFactory,
+                                   @Value("${plantodo.rate-limit.global:false}") boolean global) {
+        if (!global) {
+            return new LocalRateLimiter();
+        }
+        return new RedisRateLimiter(new StringRedisTemplate(redisConnectionFactory), new LocalRateLimiter());
+    }
+
+    /**
+     * Redis 없이 단일 노드로 띄울 때
+     */
+    @Bean
+    @Profile("!con & !test")
+    public RateLimiter localRateLimiter() {
+        return new LocalRateLimiter();
+    }
+
+}
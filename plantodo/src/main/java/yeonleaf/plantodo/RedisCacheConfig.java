@@ -1,27 +1,56 @@
 package yeonleaf.plantodo;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.lettuce.core.ReadFrom;
 import io.lettuce.core.SocketOptions;
 import io.lettuce.core.cluster.ClusterClientOptions;
 import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.cache.RedisCache;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisClusterConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClusterConnection;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import yeonleaf.plantodo.cache.AdaptiveTtlPolicy;
+import yeonleaf.plantodo.cache.AdaptiveTtlRedisCacheWriter;
+import yeonleaf.plantodo.cache.CacheCircuitBreaker;
+import yeonleaf.plantodo.cache.CacheLoadLease;
+import yeonleaf.plantodo.cache.CacheRefreshPolicy;
+import yeonleaf.plantodo.cache.CacheTagInvalidator;
+import yeonleaf.plantodo.cache.CircuitBreakingCacheManager;
+import yeonleaf.plantodo.cache.CompactRedisSerializer;
+import yeonleaf.plantodo.cache.MultiGetRedisCacheManager;
+import yeonleaf.plantodo.cache.NotFoundCache;
+import yeonleaf.plantodo.cache.OwnershipIndex;
+import yeonleaf.plantodo.cache.RedisCacheInvalidationBus;
+import yeonleaf.plantodo.cache.RedisCacheLoadLease;
+import yeonleaf.plantodo.cache.RedisCacheTagInvalidator;
+import yeonleaf.plantodo.cache.StaleIfErrorPolicy;
+import yeonleaf.plantodo.cache.TaggingRedisCacheWriter;
+import yeonleaf.plantodo.cache.TwoLevelCacheManager;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @Profile({"con", "test"})
@@ -29,10 +58,53 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class RedisCacheConfig {
 
+    /**
+     * 이보다 큰 캐시 값(byte)만 LZ4 압축
+     */
+    private static final int VALUE_COMPRESSION_THRESHOLD = 512;
+
+    private static final Duration CACHE_TTL = Duration.ofMinutes(5L);
+
+    private static final Duration COMMAND_TIMEOUT = Duration.ofMillis(150L);
+
+    /**
+     * 소유 관계는 바뀌지 않으므로 메모리만 고려해서 길게 둔다.
+     */
+    private static final Duration OWNERSHIP_TTL = Duration.ofDays(1L);
+
     private final RedisInfo redisInfo;
 
+    /**
+     * DB에 접근할 수 없을 때 마지막으로 읽어 온 캐시 값을 대신 돌려줄 수 있는 최대 시간
+     */
+    @Value("${plantodo.cache.max-stale:30m}")
+    private Duration maxStale;
+
+    @Value("${plantodo.cache.not-found-ttl:30s}")
+    private Duration notFoundTtl;
+
+    /**
+     * 캐시 값을 읽을 노드 (Lettuce ReadFrom 이름 : replicaPreferred, master, nearest ...)
+     */
+    @Value("${plantodo.cache.read-from:replicaPreferred}")
+    private String cacheReadFrom;
+
     @Bean(name = "redisConnectionFactory")
+    @Primary
     public RedisConnectionFactory redisConnectionFactory() {
+        return clusterConnectionFactory(ReadFrom.UPSTREAM);
+    }
+
+    /**
+     * 캐시 값 조회 전용 연결
+     * 복제 노드에서 읽으면 복제가 늦은 동안(보통 수 ms) 지워지기 전 값을 읽을 수 있으므로 태그 set, lease 등은 redisConnectionFactory로 읽는다.
+     */
+    @Bean
+    public RedisConnectionFactory cacheReadConnectionFactory() {
+        return clusterConnectionFactory(ReadFrom.valueOf(cacheReadFrom));
+    }
+
+    private LettuceConnectionFactory clusterConnectionFactory(ReadFrom readFrom) {
 
         SocketOptions socketOptions = SocketOptions.builder()
                 .connectTimeout(Duration.ofMillis(100L))
@@ -56,8 +128,9 @@ public class RedisCacheConfig {
 
         final LettuceClientConfiguration clientConfig = LettuceClientConfiguration
                 .builder()
-                .commandTimeout(Duration.ofMillis(150L))
+                .commandTimeout(COMMAND_TIMEOUT)
                 .clientOptions(clusterClientOptions)
+                .readFrom(readFrom)
                 .build();
 
         RedisClusterConfiguration clusterConfig = new RedisClusterConfiguration(redisInfo.getNodes());
@@ -69,13 +142,106 @@ public class RedisCacheConfig {
 
     }
 
+    /**
+     * negative 캐시 항목은 값에 넣은 만료 시각으로 확인하지만, Redis에서도 같은 시간이 지나면 지워지게 한다.
+     * 소유 관계 index는 기본 TTL과 다르게 두므로 AdaptiveTtlPolicy가 TTL을 바꾸지 않는다.
+     */
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory,
+                                               @Qualifier("cacheReadConnectionFactory") RedisConnectionFactory cacheReadConnectionFactory,
+                                               AdaptiveTtlPolicy adaptiveTtlPolicy) {
         RedisCacheConfiguration redisCacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
-                .entryTtl(Duration.ofMinutes(5L));
-        return RedisCacheManager.RedisCacheManagerBuilder.fromConnectionFactory(redisConnectionFactory).cacheDefaults(redisCacheConfiguration).build();
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new CompactRedisSerializer(VALUE_COMPRESSION_THRESHOLD)))
+                .entryTtl(CACHE_TTL);
+        RedisCacheWriter redisCacheWriter = new AdaptiveTtlRedisCacheWriter(
+                new TaggingRedisCacheWriter(RedisCacheWriter.nonLockingRedisCacheWriter(cacheReadConnectionFactory), redisConnectionFactory),
+                adaptiveTtlPolicy);
+        return new MultiGetRedisCacheManager(redisCacheWriter, redisCacheConfiguration,
+                Map.of(NotFoundCache.CACHE_NAME, redisCacheConfiguration.entryTtl(notFoundTtl),
+                        OwnershipIndex.CACHE_NAME, redisCacheConfiguration.entryTtl(OWNERSHIP_TTL)),
+                cacheReadConnectionFactory, COMMAND_TIMEOUT);
+    }
+
+    @Bean
+    public RedisCacheInvalidationBus redisCacheInvalidationBus(RedisConnectionFactory redisConnectionFactory, ObjectMapper objectMapper) {
+        return new RedisCacheInvalidationBus(new StringRedisTemplate(redisConnectionFactory), objectMapper);
+    }
+
+    /**
+     * Caffeine L1 + Redis L2
+     * L1 TTL은 invalidation 메시지가 유실됐을 때 다른 노드와 어긋나 있을 수 있는 최대 시간 (핫 키는 AdaptiveTtlPolicy에 따라 5분)
+     * lease TTL은 한 노드가 DB에서 값을 읽어 오는 동안 다른 노드가 같은 key를 읽지 않고 기다리는 최대 시간
+     * sync 조회(@Cacheable(sync = true))로 채운 값은 만료 전에 XFetch로 백그라운드에서 다시 읽어 온다. (읽기 전용 트랜잭션이라 replica에서 읽는다.)
+     */
+    @Bean
+    @Primary
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory, RedisCacheManager redisCacheManager,
+                                             RedisCacheInvalidationBus redisCacheInvalidationBus, @Qualifier("cacheRefreshExecutor") ThreadPoolTaskExecutor cacheRefreshExecutor,
+                                             CacheCircuitBreaker cacheCircuitBreaker, AdaptiveTtlPolicy adaptiveTtlPolicy,
+                                             PlatformTransactionManager transactionManager) {
+        Caffeine<Object, Object> localCacheSpec = Caffeine.newBuilder()
+                .maximumSize(10_000L)
+                .expireAfter(AdaptiveTtlPolicy.localExpiry(Duration.ofMinutes(1L)));
+        CacheLoadLease loadLease = new RedisCacheLoadLease(new StringRedisTemplate(redisConnectionFactory), Duration.ofSeconds(2L), cacheCircuitBreaker);
+        TransactionTemplate refreshTransaction = new TransactionTemplate(transactionManager);
+        refreshTransaction.setReadOnly(true);
+        CacheRefreshPolicy refreshPolicy = new CacheRefreshPolicy(CACHE_TTL, 1.0, cacheRefreshExecutor, refreshTransaction);
+        StaleIfErrorPolicy staleIfErrorPolicy = new StaleIfErrorPolicy(maxStale, 10_000L);
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(new CircuitBreakingCacheManager(redisCacheManager, cacheCircuitBreaker),
+                localCacheSpec, redisCacheInvalidationBus, loadLease, refreshPolicy, staleIfErrorPolicy, adaptiveTtlPolicy);
+        redisCacheInvalidationBus.subscribe(cacheManager);
+        return cacheManager;
+    }
+
+    /**
+     * 1분 window마다 캐시/key별 조회·쓰기 수로 L2 TTL을 1분 ~ 30분 사이에서 정한다.
+     * key별 수는 8번에 한 번만 세고, 추정 조회 수가 120 이상이면 핫 키, 1200 이상이면 L1에도 5분 동안 둔다.
+     */
+    @Bean
+    public AdaptiveTtlPolicy adaptiveTtlPolicy() {
+        return new AdaptiveTtlPolicy(CACHE_TTL, Duration.ofMinutes(1L), Duration.ofMinutes(30L), Duration.ofMinutes(5L),
+                120L, 1_200L, Duration.ofMinutes(1L), 8);
+    }
+
+    /**
+     * 연속 5번 실패하면 10초 동안 Redis를 건너뛰고 DB에서 바로 읽는다.
+     */
+    @Bean
+    public CacheCircuitBreaker cacheCircuitBreaker() {
+        return new CacheCircuitBreaker(5, Duration.ofSeconds(10L));
+    }
+
+    /**
+     * 캐시 값을 미리 다시 읽어 오는 작업 전용
+     * 큐가 차면 갱신을 건너뛰고, 그 key는 다음 조회 때 다시 시도한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(256);
+        executor.setThreadNamePrefix("cache-refresh-");
+        return executor;
+    }
+
+    @Bean
+    public CacheTagInvalidator cacheTagInvalidator(RedisConnectionFactory redisConnectionFactory, TwoLevelCacheManager cacheManager,
+                                                   RedisCacheInvalidationBus redisCacheInvalidationBus) {
+        return new RedisCacheTagInvalidator(new StringRedisTemplate(redisConnectionFactory), cacheManager, redisCacheInvalidationBus);
+    }
+
+    /**
+     * 캐시 invalidation 메시지를 받는 연결 (refresh 토큰 폐기 메시지는 RefreshTokenConfig가 같은 연결에 등록한다.)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       RedisCacheInvalidationBus redisCacheInvalidationBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(redisCacheInvalidationBus, new ChannelTopic(RedisCacheInvalidationBus.CHANNEL));
+        return container;
     }
 
 }
@@ -0,0 +1,58 @@
+package yeonleaf.plantodo;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import yeonleaf.plantodo.provider.JwtProvider;
+import yeonleaf.plantodo.provider.MemoryRefreshTokenStore;
+import yeonleaf.plantodo.provider.RedisRefreshTokenStore;
+import yeonleaf.plantodo.provider.RefreshTokenStore;
+
+import java.time.Duration;
+
+/**
+ * refresh 토큰 저장소
+ * Redis 클러스터를 쓰는 프로필은 노드가 같은 토큰과 폐기 목록을 보도록 Redis에, 단일 노드는 메모리에 둔다.
+ */
+@Configuration
+public class RefreshTokenConfig {
+
+    /**
+     * access 토큰 TTL(30분) 동안 폐기되는 family를 1만 개로 잡고, 30초마다 폐기 목록을 다시 읽어 Bloom filter를 새로 만든다.
+     * 다른 노드의 폐기 메시지는 캐시 invalidation과 같은 listener 연결로 받는다.
+     */
+    @Bean
+    @Profile({"con", "test"})
+    public RedisRefreshTokenStore refreshTokenStore(RedisConnectionFactory redisConnectionFactory,
+                                                    RedisMessageListenerContainer redisMessageListenerContainer,
+                                                    @Qualifier("refreshTokenReloadScheduler") ThreadPoolTaskScheduler refreshTokenReloadScheduler) {
+        RedisRefreshTokenStore refreshTokenStore = new RedisRefreshTokenStore(new StringRedisTemplate(redisConnectionFactory),
+                JwtProvider.REFRESH_TOKEN_TTL, JwtProvider.ACCESS_TOKEN_TTL, 10_000);
+        redisMessageListenerContainer.addMessageListener(refreshTokenStore, new ChannelTopic(RedisRefreshTokenStore.CHANNEL));
+        refreshTokenStore.reload();
+        refreshTokenReloadScheduler.scheduleAtFixedRate(refreshTokenStore::reload, Duration.ofSeconds(30L));
+        return refreshTokenStore;
+    }
+
+    @Bean
+    @Profile({"con", "test"})
+    public ThreadPoolTaskScheduler refreshTokenReloadScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("refresh-token-reload-");
+        return scheduler;
+    }
+
+    @Bean
+    @Profile("!con & !test")
+    public RefreshTokenStore memoryRefreshTokenStore() {
+        return new MemoryRefreshTokenStore(JwtProvider.REFRESH_TOKEN_TTL, JwtProvider.ACCESS_TOKEN_TTL);
+    }
+
+}
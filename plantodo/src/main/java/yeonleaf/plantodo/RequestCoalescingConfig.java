@@ -0,0 +1,33 @@
+package yeonleaf.plantodo;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import yeonleaf.plantodo.filter.RequestCoalescer;
+import yeonleaf.plantodo.filter.RequestCoalescingFilter;
+
+/**
+ * 같은 회원의 동시 GET 요청 합치기
+ * 필터가 leader의 응답을 모으고, 인터셉터(WebConfig)는 JWT 확인이 끝난 뒤에 leader와 follower를 정한다.
+ * 필터는 ResponseCacheFilter보다 안쪽에서 실행되어 gzip으로 인코딩하기 전의 응답을 넘긴다.
+ */
+@Configuration
+public class RequestCoalescingConfig {
+
+    @Bean
+    public RequestCoalescer requestCoalescer(@Value("${plantodo.coalescing.max-wait-millis:3000}") long maxWaitMillis) {
+        return new RequestCoalescer(maxWaitMillis);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestCoalescingFilter> requestCoalescingFilter(RequestCoalescer requestCoalescer) {
+        FilterRegistrationBean<RequestCoalescingFilter> registration = new FilterRegistrationBean<>(new RequestCoalescingFilter(requestCoalescer));
+        registration.addUrlPatterns("/plan/*", "/plans", "/plans/*", "/group/*", "/groups", "/groups/*",
+                "/checkbox/*", "/checkboxes", "/checkboxes/*", "/calendar/*");
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return registration;
+    }
+
+}
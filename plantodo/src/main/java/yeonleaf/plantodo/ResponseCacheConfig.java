@@ -0,0 +1,50 @@
+package yeonleaf.plantodo;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import yeonleaf.plantodo.cache.ResponseCache;
+import yeonleaf.plantodo.filter.ResponseCacheFilter;
+import yeonleaf.plantodo.interceptor.ResponseCacheInterceptor;
+
+import java.util.Objects;
+
+/**
+ * 응답 byte 캐시
+ * 필터가 응답을 모아 저장하고, 인터셉터는 JWT 확인(LoginCheckInterceptor)이 끝난 뒤에 캐시된 응답을 내보낸다.
+ * 인터셉터는 AdmissionControlInterceptor보다 먼저 실행되어, 캐시된 응답은 과부하일 때도 bulkhead를 기다리지 않고 내보낸다.
+ */
+@Configuration
+public class ResponseCacheConfig {
+
+    @Bean
+    public ResponseCache responseCache(@Qualifier("cacheManager") CacheManager cacheManager) {
+        return new ResponseCache(Objects.requireNonNull(cacheManager.getCache(ResponseCache.CACHE_NAME)));
+    }
+
+    @Bean
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(ResponseCache responseCache) {
+        FilterRegistrationBean<ResponseCacheFilter> registration = new FilterRegistrationBean<>(new ResponseCacheFilter(responseCache));
+        registration.addUrlPatterns("/plan/*", "/plans", "/plans/*", "/calendar/*");
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return registration;
+    }
+
+    @Bean
+    public WebMvcConfigurer responseCacheWebMvcConfigurer(ResponseCache responseCache) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new ResponseCacheInterceptor(responseCache))
+                        .addPathPatterns("/plan/*", "/plans", "/plans/*", "/calendar/*")
+                        .order(Ordered.LOWEST_PRECEDENCE - 1);
+            }
+        };
+    }
+
+}
@@ -13,9 +13,9 @@ public class RoutingDataSource extends AbstractRoutingDataSource {
     protected Object determineCurrentLookupKey() {
         boolean isReadOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
         if (isReadOnly) {
-            log.info("Slave DataSource 호출");
+            log.debug("Slave DataSource 호출");
         } else {
-            log.info("Master DataSource 호출");
+            log.debug("Master DataSource 호출");
         }
         return isReadOnly ? "slave" : "master";
     }
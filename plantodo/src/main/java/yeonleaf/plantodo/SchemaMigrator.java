@@ -0,0 +1,132 @@
+package yeonleaf.plantodo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+
+/**
+ * 이미 만들어진 DB에 schema.sql의 변경을 반영한다.
+ * schema.sql은 create table if not exists라서 테이블이 이미 있으면 새 컬럼이나 인덱스가 들어가지 않는다.
+ * 요청을 받기 전(싱글톤을 모두 만든 직후)에 실행하고, 단계마다 information_schema를 확인해서 이미 반영된 단계는 건너뛴다.
+ * 여러 노드가 동시에 뜨면 GET_LOCK으로 한 노드씩 실행한다.
+ * MySQL이 아닌 DB(H2)는 Hibernate가 엔티티로 스키마를 만들므로 실행하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchemaMigrator implements SmartInitializingSingleton {
+
+    private static final String LOCK_NAME = "plantodo_schema_migration";
+    private static final int LOCK_TIMEOUT_SECONDS = 60;
+
+    private final DataSource dataSource;
+
+    /**
+     * member.email에 unique 제약이 있고 모든 이메일이 정규화되어 있는지
+     * false인 동안 MemberService는 대소문자를 무시하고 다시 조회하고, 회원가입할 때 이메일 filter를 믿지 않는다.
+     */
+    private volatile boolean memberEmailUnique;
+
+    public boolean isMemberEmailUnique() {
+        return memberEmailUnique;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        new JdbcTemplate(dataSource).execute((ConnectionCallback<Void>) connection -> {
+            if (!"MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+                // Hibernate가 @NaturalId인 email에 unique 제약을 만든다.
+                memberEmailUnique = true;
+                return null;
+            }
+            migrate(connection);
+            return null;
+        });
+    }
+
+    private void migrate(Connection connection) {
+
+        // GET_LOCK은 연결에 묶이므로 모든 단계를 같은 연결에서 실행한다.
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+        Integer locked = jdbcTemplate.queryForObject("select get_lock(?, ?)", Integer.class, LOCK_NAME, LOCK_TIMEOUT_SECONDS);
+        if (locked == null || locked != 1) {
+            throw new IllegalStateException("스키마 마이그레이션 잠금을 얻지 못함");
+        }
+        try {
+            addPlanDailyGroupId(jdbcTemplate);
+            normalizeMemberEmail(jdbcTemplate);
+        } finally {
+            jdbcTemplate.queryForObject("select release_lock(?)", Integer.class, LOCK_NAME);
+        }
+
+    }
+
+    /**
+     * Plan.dailyGroup (plan.daily_group_id)
+     * 값은 비워 두고, 할일을 처음 추가할 때 CheckboxService가 repOption = 0인 그룹을 찾아 채운다.
+     */
+    private void addPlanDailyGroupId(JdbcTemplate jdbcTemplate) {
+        if (columnExists(jdbcTemplate, "plan", "daily_group_id")) {
+            return;
+        }
+        log.info("plan.daily_group_id 컬럼 추가");
+        jdbcTemplate.execute("alter table plan add column daily_group_id bigint");
+    }
+
+    /**
+     * 이메일을 lower(trim(email))로 바꾸고 unique 제약을 건다.
+     * 정규화하면 같아지는 이메일이 있으면 어느 회원을 남길지 정할 수 없으므로 아무것도 바꾸지 않고 충돌한 회원 id를 로그로 남긴다.
+     * 충돌은 migration/resolve_member_email_collisions.sql을 검토해서 직접 실행하고, 다시 띄우면 그때 정규화한다.
+     * 다른 노드가 그 사이에 대소문자만 다른 이메일로 가입해서 제약을 걸지 못하면, 다음에 뜰 때 다시 시도한다. (그동안은 대소문자를 무시하고 조회한다.)
+     */
+    private void normalizeMemberEmail(JdbcTemplate jdbcTemplate) {
+
+        if (uniqueIndexExists(jdbcTemplate, "member", "email")) {
+            memberEmailUnique = true;
+            return;
+        }
+
+        try {
+            List<String> collisions = jdbcTemplate.queryForList(
+                    "select group_concat(id order by id) from member where email is not null " +
+                    "group by lower(trim(email)) having count(*) > 1", String.class);
+            if (!collisions.isEmpty()) {
+                collisions.forEach(memberIds -> log.error("정규화하면 같아지는 이메일 회원 id={}", memberIds));
+                log.error("member.email 정규화와 unique 제약을 건너뜀 충돌 {}건 (대소문자를 무시하고 조회함)", collisions.size());
+                return;
+            }
+            int normalizedCount = jdbcTemplate.update("update member set email = lower(trim(email)) " +
+                    "where email is not null and cast(email as binary) <> cast(lower(trim(email)) as binary)");
+            log.info("member.email 정규화 {}건, unique 제약 추가", normalizedCount);
+            jdbcTemplate.execute("alter table member add unique key uk_member_email (email)");
+            memberEmailUnique = true;
+        } catch (RuntimeException e) {
+            log.error("member.email 정규화 실패 (대소문자를 무시하고 조회함)", e);
+        }
+
+    }
+
+    private boolean uniqueIndexExists(JdbcTemplate jdbcTemplate, String table, String column) {
+        Integer count = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.statistics where table_schema = database() and table_name = ? " +
+                "and column_name = ? and non_unique = 0 and seq_in_index = 1",
+                Integer.class, table, column);
+        return count != null && count > 0;
+    }
+
+    private boolean columnExists(JdbcTemplate jdbcTemplate, String table, String column) {
+        Integer count = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.columns where table_schema = database() and table_name = ? and column_name = ?",
+                Integer.class, table, column);
+        return count != null && count > 0;
+    }
+
+}
@@ -3,6 +3,7 @@ package yeonleaf.plantodo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import yeonleaf.plantodo.converter.RepInToOutConverter;
 import yeonleaf.plantodo.converter.RepOutToInConverter;
 import yeonleaf.plantodo.util.DateRange;
@@ -36,4 +37,18 @@ public class UtilConfig {
         return new DateRange();
     }
 
+    /**
+     * 로그인 후 캐시를 미리 채우는 작업 전용
+     * 스레드 2개로 DB 동시 조회 수를 제한하고, 큐를 두지 않아서 스레드가 모두 바쁘면 작업을 버린다. (CacheWarmer가 건너뛴다.)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor cacheWarmUpExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("cache-warm-up-");
+        return executor;
+    }
+
 }
@@ -5,28 +5,55 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import yeonleaf.plantodo.admission.AdmissionController;
+import yeonleaf.plantodo.cache.OwnershipIndex;
+import yeonleaf.plantodo.filter.RequestCoalescer;
+import yeonleaf.plantodo.interceptor.AdmissionControlInterceptor;
 import yeonleaf.plantodo.interceptor.LoginCheckInterceptor;
-
-import javax.crypto.SecretKey;
+import yeonleaf.plantodo.interceptor.OwnershipCheckInterceptor;
+import yeonleaf.plantodo.interceptor.RateLimitInterceptor;
+import yeonleaf.plantodo.interceptor.RequestCoalescingInterceptor;
+import yeonleaf.plantodo.provider.JwtTokenVerifier;
+import yeonleaf.plantodo.provider.RefreshTokenStore;
+import yeonleaf.plantodo.ratelimit.RateLimitPolicy;
+import yeonleaf.plantodo.ratelimit.RateLimiter;
 
 @Configuration
 @RequiredArgsConstructor
 public class WebConfig {
 
-    private final SecretKey jwtSecretKey;
+    private final JwtTokenVerifier jwtTokenVerifier;
+    private final RefreshTokenStore refreshTokenStore;
     private final ObjectMapper objectMapper;
+    private final OwnershipIndex ownershipIndex;
+    private final RateLimiter rateLimiter;
+    private final RateLimitPolicy rateLimitPolicy;
+    private final AdmissionController admissionController;
+    private final RequestCoalescer requestCoalescer;
 
     @Bean
     public WebMvcConfigurer webMvcConfigurer() {
         return new WebMvcConfigurer() {
             @Override
             public void addInterceptors(InterceptorRegistry registry) {
-                registry.addInterceptor(new LoginCheckInterceptor(jwtSecretKey, objectMapper))
-                        .addPathPatterns("/plan", "/plan/*", "/checkbox", "/checkbox/*", "/group", "/group/*",
-                                "/plans", "/plans/*", "/groups", "/groups/*", "/checkboxes", "/checkboxes/*", "/checkboxes/*/*",
-                                "/calendar", "/calendar/*");
+                String[] pathPatterns = {"/plan", "/plan/*", "/checkbox", "/checkbox/*", "/group", "/group/*",
+                        "/plans", "/plans/*", "/groups", "/groups/*", "/checkboxes", "/checkboxes/*", "/checkboxes/*/*",
+                        "/calendar", "/calendar/*"};
+                registry.addInterceptor(new LoginCheckInterceptor(jwtTokenVerifier, refreshTokenStore, objectMapper))
+                        .addPathPatterns(pathPatterns);
+                registry.addInterceptor(new RateLimitInterceptor(rateLimiter, rateLimitPolicy))
+                        .addPathPatterns(pathPatterns);
+                registry.addInterceptor(new OwnershipCheckInterceptor(ownershipIndex))
+                        .addPathPatterns(pathPatterns);
+                registry.addInterceptor(new RequestCoalescingInterceptor(requestCoalescer))
+                        .addPathPatterns(pathPatterns);
+                // 응답 캐시 인터셉터(LOWEST_PRECEDENCE - 1) 다음에 실행해서 캐시된 응답은 permit을 받지 않는다.
+                registry.addInterceptor(new AdmissionControlInterceptor(admissionController))
+                        .addPathPatterns(pathPatterns)
+                        .order(Ordered.LOWEST_PRECEDENCE);
             }
         };
     }
@@ -0,0 +1,74 @@
+package yeonleaf.plantodo.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 기간으로 조회하는 API의 비용을 요청 파라미터로 어림하고, 종류별 {@link Bulkhead}에 들여보낸다.
+ *   - /calendar/range : 기간 안의 모든 일정, 그룹, 할일을 읽으므로 하루를 2로 센다.
+ *   - /groups/range, /checkboxes/group/range, /checkboxes/plan/range : 일정 하나 안에서만 읽으므로 하루를 1로 센다.
+ * 나머지 API는 비용이 작으므로 bulkhead를 거치지 않는다. (캘린더 요청이 몰려도 기다리지 않는다.)
+ * 날짜가 없거나 형식이 틀린 요청은 비용 1로 들여보내서 컨트롤러가 400으로 응답하게 둔다.
+ */
+@Component
+public class AdmissionController {
+
+    private static final int CALENDAR_COST_PER_DAY = 2;
+    private static final int RANGE_COST_PER_DAY = 1;
+
+    private final Bulkhead calendarBulkhead;
+    private final Bulkhead rangeBulkhead;
+
+    public AdmissionController(@Value("${plantodo.admission.calendar.capacity:120}") int calendarCapacity,
+                               @Value("${plantodo.admission.calendar.max-concurrent:4}") int calendarMaxConcurrent,
+                               @Value("${plantodo.admission.range.capacity:240}") int rangeCapacity,
+                               @Value("${plantodo.admission.range.max-concurrent:8}") int rangeMaxConcurrent,
+                               @Value("${plantodo.admission.max-queued:32}") int maxQueued,
+                               @Value("${plantodo.admission.max-queued-per-member:2}") int maxQueuedPerMember,
+                               @Value("${plantodo.admission.max-wait-millis:500}") long maxWaitMillis) {
+        this.calendarBulkhead = new Bulkhead("calendar", calendarCapacity, calendarMaxConcurrent, maxQueued, maxQueuedPerMember, maxWaitMillis);
+        this.rangeBulkhead = new Bulkhead("range", rangeCapacity, rangeMaxConcurrent, maxQueued, maxQueuedPerMember, maxWaitMillis);
+    }
+
+    /**
+     * @return 비용이 큰 요청이면 요청이 끝날 때 close해야 하는 permit, 아니면 null
+     */
+    @Nullable
+    public Bulkhead.Permit admit(HttpServletRequest request, Long memberId) {
+        String uri = request.getRequestURI();
+        if (!uri.endsWith("/range")) {
+            return null;
+        }
+        if (uri.startsWith("/calendar")) {
+            return calendarBulkhead.acquire(memberId, cost(request, CALENDAR_COST_PER_DAY));
+        }
+        if (uri.startsWith("/groups") || uri.startsWith("/checkboxes")) {
+            return rangeBulkhead.acquire(memberId, cost(request, RANGE_COST_PER_DAY));
+        }
+        return null;
+    }
+
+    /**
+     * 기간을 읽을 수 없는 요청은 컨트롤러에서 400으로 끝나므로 1로 센다.
+     */
+    private static int cost(HttpServletRequest request, int costPerDay) {
+        String searchStart = request.getParameter("searchStart");
+        String searchEnd = request.getParameter("searchEnd");
+        if (searchStart == null || searchEnd == null) {
+            return 1;
+        }
+        try {
+            long days = ChronoUnit.DAYS.between(LocalDate.parse(searchStart), LocalDate.parse(searchEnd)) + 1;
+            return (int) Math.min(Integer.MAX_VALUE, Math.max(1L, days) * costPerDay);
+        } catch (DateTimeParseException e) {
+            return 1;
+        }
+    }
+
+}
@@ -0,0 +1,212 @@
+package yeonleaf.plantodo.admission;
+
+import yeonleaf.plantodo.exceptions.ServiceOverloadedException;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 비용이 큰 요청끼리만 나눠 쓰는 실행 한도
+ * 동시에 실행하는 요청 수(maxConcurrent)와 실행 중인 요청의 비용 합(capacity)을 모두 넘지 않을 때만 들여보낸다.
+ * 자리가 없으면 회원별 대기열에 넣고, 자리가 나면 회원을 돌아가며 한 요청씩 꺼내서 한 회원이 대기열을 차지하지 못하게 한다.
+ * 대기열이 가득 찼거나 maxWait 안에 자리가 나지 않으면 {@link ServiceOverloadedException}을 던진다.
+ * (기다리는 요청도 Tomcat 스레드를 잡고 있으므로 오래 세워 두지 않고 돌려보낸다.)
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int capacity;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final int maxQueuedPerMember;
+    private final long maxWaitNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, ArrayDeque<Waiter>> queues = new HashMap<>();
+
+    /**
+     * 기다리는 요청이 있는 회원, 앞에 있는 회원의 요청부터 꺼낸다.
+     */
+    private final ArrayDeque<Long> turns = new ArrayDeque<>();
+
+    private int used;
+    private int running;
+    private int queued;
+
+    public Bulkhead(String name, int capacity, int maxConcurrent, int maxQueued, int maxQueuedPerMember, long maxWaitMillis) {
+        this.name = name;
+        this.capacity = capacity;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.maxQueuedPerMember = maxQueuedPerMember;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * capacity보다 큰 비용은 capacity로 줄인다. (다른 요청이 모두 끝나면 혼자 실행된다.)
+     * @return 요청이 끝나면 close해야 하는 permit
+     */
+    public Permit acquire(Long memberId, int requestedCost) {
+
+        int cost = Math.min(Math.max(1, requestedCost), capacity);
+        lock.lock();
+        try {
+            if (queued == 0 && fits(cost)) {
+                return grant(cost);
+            }
+            ArrayDeque<Waiter> queue = queues.get(memberId);
+            if (queued >= maxQueued || (queue != null && queue.size() >= maxQueuedPerMember)) {
+                throw new ServiceOverloadedException(1L);
+            }
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                queues.put(memberId, queue);
+                turns.addLast(memberId);
+            }
+            Waiter waiter = new Waiter(memberId, cost, lock.newCondition());
+            queue.addLast(waiter);
+            queued++;
+            await(waiter);
+            return new Permit(cost);
+        } finally {
+            lock.unlock();
+        }
+
+    }
+
+    private void await(Waiter waiter) {
+        long remaining = maxWaitNanos;
+        while (!waiter.granted) {
+            if (remaining <= 0L) {
+                giveUp(waiter);
+                throw new ServiceOverloadedException(1L);
+            }
+            try {
+                remaining = waiter.condition.awaitNanos(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (waiter.granted) {
+                    return;
+                }
+                giveUp(waiter);
+                throw new ServiceOverloadedException(1L);
+            }
+        }
+    }
+
+    /**
+     * 기다리다 돌아간 요청이 대기열 맨 앞에서 다른 요청을 막고 있었을 수 있으므로 다시 꺼내 본다.
+     */
+    private void giveUp(Waiter waiter) {
+        ArrayDeque<Waiter> queue = queues.get(waiter.memberId);
+        queue.remove(waiter);
+        queued--;
+        if (queue.isEmpty()) {
+            queues.remove(waiter.memberId);
+            turns.remove(waiter.memberId);
+        }
+        dispatch();
+    }
+
+    private boolean fits(int cost) {
+        return running < maxConcurrent && used + cost <= capacity;
+    }
+
+    private Permit grant(int cost) {
+        used += cost;
+        running++;
+        return new Permit(cost);
+    }
+
+    /**
+     * 차례인 회원의 첫 요청이 들어갈 자리가 생길 때까지는 뒤의 회원도 꺼내지 않는다. (큰 요청이 계속 밀리지 않게 한다.)
+     */
+    private void dispatch() {
+        while (!turns.isEmpty()) {
+            Long memberId = turns.peekFirst();
+            ArrayDeque<Waiter> queue = queues.get(memberId);
+            Waiter next = queue.peekFirst();
+            if (!fits(next.cost)) {
+                return;
+            }
+            queue.pollFirst();
+            queued--;
+            turns.pollFirst();
+            if (queue.isEmpty()) {
+                queues.remove(memberId);
+            } else {
+                turns.addLast(memberId);
+            }
+            used += next.cost;
+            running++;
+            next.granted = true;
+            next.condition.signal();
+        }
+    }
+
+    private void release(int cost) {
+        lock.lock();
+        try {
+            used -= cost;
+            running--;
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 대기열에 있는 요청 수
+     */
+    public int queued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static class Waiter {
+
+        private final Long memberId;
+        private final int cost;
+        private final Condition condition;
+        private boolean granted;
+
+        private Waiter(Long memberId, int cost, Condition condition) {
+            this.memberId = memberId;
+            this.cost = cost;
+            this.condition = condition;
+        }
+
+    }
+
+    public class Permit implements AutoCloseable {
+
+        private final int cost;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Permit(int cost) {
+            this.cost = cost;
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(cost);
+            }
+        }
+
+    }
+
+}
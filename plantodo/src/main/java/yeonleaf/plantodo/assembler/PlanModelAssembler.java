@@ -19,8 +19,8 @@ public class PlanModelAssembler implements RepresentationModelAssembler<PlanResD
     public EntityModel<PlanResDto> toModel(PlanResDto planResDto) {
         return EntityModel.of(planResDto,
                 linkTo(methodOn(PlanController.class).one(planResDto.getId())).withSelfRel(),
-                linkTo(methodOn(GroupController.class).all(planResDto.getId())).withRel("groups"),
-                linkTo(methodOn(CheckboxController.class).allByPlan(planResDto.getId())).withRel("checkboxes"),
+                linkTo(methodOn(GroupController.class).page(planResDto.getId(), null, null)).withRel("groups"),
+                linkTo(methodOn(CheckboxController.class).pageByPlan(planResDto.getId(), null, null)).withRel("checkboxes"),
                 linkTo(methodOn(PlanController.class).delete(planResDto.getId())).withRel("deletion"),
                 linkTo(methodOn(PlanController.class).change(planResDto.getId())).withRel("changing")
         );
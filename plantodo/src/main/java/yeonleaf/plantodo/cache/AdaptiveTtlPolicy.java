@@ -0,0 +1,213 @@
+package yeonleaf.plantodo.cache;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 캐시(region)와 key마다 조회/쓰기 수를 재서 TTL을 정하는 설정
+ * - region TTL : 지난 window의 조회/쓰기 비율이 READS_PER_WRITE면 baseTtl, 그보다 크면 길게, 작으면 짧게 (minTtl ~ maxTtl)
+ *                조회가 없었던 region은 minTtl
+ * - key TTL : 조회보다 쓰기가 많은 key는 minTtl, 조회가 hotReads 이상이고 쓰기의 READS_PER_WRITE배 이상인 key는 maxTtl
+ * - 조회가 promoteReads 이상인 key는 L1에도 promotedLocalTtl 동안 둔다. (나머지 key는 L1 spec의 TTL)
+ * 조회 수는 {@link CacheAccessStats}가 window마다 절반으로 줄이는 추정값이다.
+ * 따로 TTL을 정한 캐시(negative 캐시 등)는 L2 TTL을 바꾸지 않는다. ({@link AdaptiveTtlRedisCacheWriter})
+ */
+@Slf4j
+public class AdaptiveTtlPolicy {
+
+    public static final AdaptiveTtlPolicy NONE = new AdaptiveTtlPolicy(Duration.ZERO, Duration.ZERO, Duration.ZERO,
+            Duration.ZERO, 0L, 0L, Duration.ZERO, 1);
+
+    private static final double READS_PER_WRITE = 10.0;
+
+    /**
+     * window마다 로그로 남길 핫 키 수
+     */
+    private static final int REPORT_LIMIT = 10;
+
+    private static final long MAXIMUM_KEYS = 2_000L;
+
+    private final Duration baseTtl;
+    private final Duration minTtl;
+    private final Duration maxTtl;
+    private final Duration promotedLocalTtl;
+    private final long hotReads;
+    private final long promoteReads;
+    private final long windowMillis;
+    private final int sampleRate;
+    private final ConcurrentMap<String, CacheAccessStats> stats = new ConcurrentHashMap<>();
+    private final AtomicLong windowEndMillis;
+
+    /**
+     * @param baseTtl 통계가 아직 없을 때와 조회/쓰기 비율이 READS_PER_WRITE일 때의 L2 TTL (0이면 끈다.)
+     * @param hotReads 핫 키로 볼 추정 조회 수
+     * @param promoteReads L1에 오래 둘 추정 조회 수
+     * @param window 통계를 모으는 단위
+     * @param sampleRate key별 조회/쓰기를 몇 번에 한 번 셀지
+     */
+    public AdaptiveTtlPolicy(Duration baseTtl, Duration minTtl, Duration maxTtl, Duration promotedLocalTtl,
+                             long hotReads, long promoteReads, Duration window, int sampleRate) {
+        this.baseTtl = baseTtl;
+        this.minTtl = minTtl;
+        this.maxTtl = maxTtl;
+        this.promotedLocalTtl = promotedLocalTtl;
+        this.hotReads = hotReads;
+        this.promoteReads = promoteReads;
+        this.windowMillis = window.toMillis();
+        this.sampleRate = sampleRate;
+        this.windowEndMillis = new AtomicLong(System.currentTimeMillis() + windowMillis);
+    }
+
+    /**
+     * L1 spec에 쓰는 Expiry (쓴 뒤 localTtl이 지나면 만료)
+     * expireAfterWrite 대신 써야 핫 키만 {@link com.github.benmanes.caffeine.cache.Policy.VarExpiration}으로 더 오래 둘 수 있다.
+     */
+    public static Expiry<Object, Object> localExpiry(Duration localTtl) {
+        long localTtlNanos = localTtl.toNanos();
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(Object key, Object value, long currentTime) {
+                return localTtlNanos;
+            }
+
+            @Override
+            public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+                return localTtlNanos;
+            }
+
+            @Override
+            public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    boolean isEnabled() {
+        return !baseTtl.isZero();
+    }
+
+    void recordRead(String cacheName, String localKey) {
+        if (isEnabled()) {
+            stats(cacheName).recordRead(localKey);
+            rollIfDue();
+        }
+    }
+
+    void recordWrite(String cacheName, String localKey) {
+        if (isEnabled()) {
+            stats(cacheName).recordWrite(localKey);
+        }
+    }
+
+    private CacheAccessStats stats(String cacheName) {
+        return stats.computeIfAbsent(cacheName, name -> new CacheAccessStats(sampleRate, MAXIMUM_KEYS));
+    }
+
+    private void rollIfDue() {
+        long windowEnd = windowEndMillis.get();
+        long now = System.currentTimeMillis();
+        if (now >= windowEnd && windowEndMillis.compareAndSet(windowEnd, now + windowMillis)) {
+            roll();
+        }
+    }
+
+    /**
+     * window를 끝내고 다음 window를 시작한다. 핫 키가 있으면 로그로 남긴다.
+     */
+    public void roll() {
+        stats.values().forEach(CacheAccessStats::roll);
+        Map<String, List<CacheAccessStats.HotKey>> hotKeys = hotKeys(REPORT_LIMIT);
+        if (!hotKeys.isEmpty()) {
+            log.info("캐시 핫 키 {}", hotKeys);
+        }
+    }
+
+    /**
+     * 캐시마다 추정 조회 수가 hotReads 이상인 key를 많은 순서로 limit개
+     */
+    public Map<String, List<CacheAccessStats.HotKey>> hotKeys(int limit) {
+        Map<String, List<CacheAccessStats.HotKey>> hotKeys = new LinkedHashMap<>();
+        stats.forEach((cacheName, cacheStats) -> {
+            List<CacheAccessStats.HotKey> keys = cacheStats.hotKeys(limit).stream()
+                    .filter(hotKey -> hotKey.estimatedReads() >= hotReads)
+                    .toList();
+            if (!keys.isEmpty()) {
+                hotKeys.put(cacheName, keys);
+            }
+        });
+        return hotKeys;
+    }
+
+    /**
+     * @return 끈 경우 null (설정한 TTL을 그대로 쓴다.)
+     */
+    @Nullable
+    public Duration remoteTtl(String cacheName, String localKey) {
+
+        if (!isEnabled()) {
+            return null;
+        }
+        CacheAccessStats cacheStats = stats.get(cacheName);
+        if (cacheStats == null) {
+            return baseTtl;
+        }
+
+        long reads = cacheStats.estimatedReads(localKey);
+        long writes = cacheStats.estimatedWrites(localKey);
+        if (writes > 0 && reads <= writes) {
+            return minTtl;
+        }
+        if (reads >= hotReads && reads >= writes * READS_PER_WRITE) {
+            return maxTtl;
+        }
+        return regionTtl(cacheStats);
+
+    }
+
+    private Duration regionTtl(CacheAccessStats cacheStats) {
+
+        double ratio = cacheStats.readWriteRatio();
+        if (ratio < 0) {
+            return baseTtl;
+        }
+        if (cacheStats.isIdle()) {
+            return minTtl;
+        }
+        long ttlMillis = (long) (baseTtl.toMillis() * ratio / READS_PER_WRITE);
+        return Duration.ofMillis(Math.min(Math.max(ttlMillis, minTtl.toMillis()), maxTtl.toMillis()));
+
+    }
+
+    /**
+     * @return L1에 더 오래 둘 key면 그 TTL, 아니면 null
+     */
+    @Nullable
+    Duration promotedLocalTtl(String cacheName, String localKey) {
+
+        if (!isEnabled()) {
+            return null;
+        }
+        CacheAccessStats cacheStats = stats.get(cacheName);
+        if (cacheStats == null) {
+            return null;
+        }
+        long reads = cacheStats.estimatedReads(localKey);
+        long writes = cacheStats.estimatedWrites(localKey);
+        return reads >= promoteReads && reads > writes ? promotedLocalTtl : null;
+
+    }
+
+    Duration getBaseTtl() {
+        return baseTtl;
+    }
+
+}
@@ -0,0 +1,82 @@
+package yeonleaf.plantodo.cache;
+
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.lang.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 저장할 때 {@link AdaptiveTtlPolicy}가 정한 TTL로 바꿔서 저장하는 {@link RedisCacheWriter}
+ * 기본 TTL(baseTtl)로 저장하는 캐시만 바꾸고, 따로 TTL을 정한 캐시는 그대로 둔다.
+ */
+public class AdaptiveTtlRedisCacheWriter implements RedisCacheWriter {
+
+    private final RedisCacheWriter delegate;
+    private final AdaptiveTtlPolicy ttlPolicy;
+
+    public AdaptiveTtlRedisCacheWriter(RedisCacheWriter delegate, AdaptiveTtlPolicy ttlPolicy) {
+        this.delegate = delegate;
+        this.ttlPolicy = ttlPolicy;
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+        delegate.put(name, key, value, adapt(name, key, ttl));
+    }
+
+    @Override
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+        return delegate.putIfAbsent(name, key, value, adapt(name, key, ttl));
+    }
+
+    /**
+     * Redis key는 "캐시 이름::key"이므로 앞부분을 떼어 L1 key와 맞춘다.
+     */
+    @Nullable
+    private Duration adapt(String name, byte[] key, @Nullable Duration ttl) {
+
+        if (ttl == null || !ttl.equals(ttlPolicy.getBaseTtl())) {
+            return ttl;
+        }
+        String redisKey = new String(key, StandardCharsets.UTF_8);
+        String prefix = name + "::";
+        String localKey = redisKey.startsWith(prefix) ? redisKey.substring(prefix.length()) : redisKey;
+        Duration adaptiveTtl = ttlPolicy.remoteTtl(name, localKey);
+        return adaptiveTtl == null ? ttl : adaptiveTtl;
+
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key) {
+        return delegate.get(name, key);
+    }
+
+    @Override
+    public void remove(String name, byte[] key) {
+        delegate.remove(name, key);
+    }
+
+    @Override
+    public void clean(String name, byte[] pattern) {
+        delegate.clean(name, pattern);
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+        delegate.clearStatistics(name);
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+        return new AdaptiveTtlRedisCacheWriter(delegate.withStatisticsCollector(cacheStatisticsCollector), ttlPolicy);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return delegate.getCacheStatistics(cacheName);
+    }
+
+}
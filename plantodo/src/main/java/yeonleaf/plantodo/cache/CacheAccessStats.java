@@ -0,0 +1,130 @@
+package yeonleaf.plantodo.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캐시 하나(region)의 노드 로컬 조회/쓰기 통계
+ * region 전체 조회/쓰기 수는 모두 세고, key별 조회/쓰기 수는 sampleRate번에 한 번만 세서 추정한다.
+ * 통계는 window 단위로 모으고, window가 끝나면({@link #roll()}) region 전체 수는 비율로 남긴 뒤 0으로, key별 수는 절반으로 줄인다.
+ */
+public class CacheAccessStats {
+
+    private final int sampleRate;
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+    private final Cache<String, KeyCounter> sampledKeys;
+
+    private volatile long lastReads = -1L;
+    private volatile long lastWrites;
+
+    /**
+     * @param sampleRate key별 수를 몇 번에 한 번 셀지 (1이면 모두 센다)
+     * @param maximumKeys key별 수를 들고 있을 최대 key 수 (W-TinyLFU로 자주 세는 key가 남는다)
+     */
+    public CacheAccessStats(int sampleRate, long maximumKeys) {
+        this.sampleRate = sampleRate;
+        this.sampledKeys = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .build();
+    }
+
+    void recordRead(String localKey) {
+        reads.increment();
+        if (sampled()) {
+            sampledKeys.get(localKey, k -> new KeyCounter()).reads.increment();
+        }
+    }
+
+    void recordWrite(String localKey) {
+        writes.increment();
+        if (sampled()) {
+            sampledKeys.get(localKey, k -> new KeyCounter()).writes.increment();
+        }
+    }
+
+    private boolean sampled() {
+        return sampleRate <= 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+    }
+
+    /**
+     * 지난 window의 조회 수 / 쓰기 수 (쓰기가 없으면 조회 수)
+     * @return 아직 끝난 window가 없으면 -1
+     */
+    public double readWriteRatio() {
+        if (lastReads < 0) {
+            return -1;
+        }
+        return (double) lastReads / Math.max(lastWrites, 1L);
+    }
+
+    /**
+     * 지난 window에 조회가 한 번도 없었는지
+     */
+    public boolean isIdle() {
+        return lastReads == 0;
+    }
+
+    /**
+     * 지금까지 센 수(sample)에 sampleRate를 곱한 추정 조회 수 (window마다 절반으로 줄어든다.)
+     */
+    public long estimatedReads(String localKey) {
+        KeyCounter counter = sampledKeys.getIfPresent(localKey);
+        return counter == null ? 0L : counter.reads.sum() * sampleRate;
+    }
+
+    public long estimatedWrites(String localKey) {
+        KeyCounter counter = sampledKeys.getIfPresent(localKey);
+        return counter == null ? 0L : counter.writes.sum() * sampleRate;
+    }
+
+    /**
+     * 추정 조회 수가 많은 순서로 limit개
+     */
+    public List<HotKey> hotKeys(int limit) {
+        return sampledKeys.asMap().entrySet().stream()
+                .map(entry -> new HotKey(entry.getKey(), entry.getValue().reads.sum() * sampleRate,
+                        entry.getValue().writes.sum() * sampleRate))
+                .filter(hotKey -> hotKey.estimatedReads() > 0)
+                .sorted(Comparator.comparingLong(HotKey::estimatedReads).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    void roll() {
+
+        lastReads = reads.sumThenReset();
+        lastWrites = writes.sumThenReset();
+        sampledKeys.asMap().values().removeIf(counter -> {
+            counter.halve();
+            return counter.reads.sum() == 0 && counter.writes.sum() == 0;
+        });
+
+    }
+
+    public record HotKey(String key, long estimatedReads, long estimatedWrites) {
+    }
+
+    private static class KeyCounter {
+
+        private final LongAdder reads = new LongAdder();
+        private final LongAdder writes = new LongAdder();
+
+        /**
+         * 세는 중인 값과 겹쳐도 조금 틀릴 뿐이므로 따로 잠그지 않는다.
+         */
+        void halve() {
+            long readCount = reads.sum();
+            long writeCount = writes.sum();
+            reads.add(-(readCount - readCount / 2));
+            writes.add(-(writeCount - writeCount / 2));
+        }
+
+    }
+
+}
@@ -0,0 +1,78 @@
+package yeonleaf.plantodo.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Redis 캐시 앞의 circuit breaker
+ * 연속으로 failureThreshold번 실패하면 열려서 openDuration 동안 Redis를 호출하지 않는다. (command timeout을 기다리지 않음)
+ * openDuration이 지나면 요청 하나만 보내 보고(half-open), 성공하면 닫고 실패하면 다시 연다.
+ */
+@Slf4j
+public class CacheCircuitBreaker {
+
+    private enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAt;
+
+    public CacheCircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openDuration.toMillis();
+    }
+
+    /**
+     * @return false이면 Redis를 호출하지 않고 바로 miss로 처리한다.
+     */
+    public boolean allowRequest() {
+
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis) {
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return false;
+
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        if (state.getAndSet(State.CLOSED) != State.CLOSED) {
+            log.info("Redis 캐시 circuit 닫힘");
+        }
+    }
+
+    public void recordFailure() {
+        if (state.get() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt = System.currentTimeMillis();
+            consecutiveFailures.set(0);
+            if (state.getAndSet(State.OPEN) != State.OPEN) {
+                log.warn("Redis 캐시 circuit 열림, {}ms 동안 캐시를 건너뜀", openMillis);
+            }
+        }
+    }
+
+    /**
+     * DB/Redis 장애가 아닌 예외(직렬화 오류 등)
+     * 닫혀 있을 때는 세지 않지만, half-open의 시험 요청이 이런 예외로 끝나면 실패로 기록한다.
+     * 기록하지 않으면 시험 요청을 다시 보내지 않아서 half-open에 계속 머문다.
+     */
+    public void recordUnexpectedFailure() {
+        if (state.get() == State.HALF_OPEN) {
+            recordFailure();
+        }
+    }
+
+    public boolean isOpen() {
+        return state.get() != State.CLOSED;
+    }
+
+}
@@ -0,0 +1,25 @@
+package yeonleaf.plantodo.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidationMessage {
+
+    private String nodeId;
+    private String cacheName;
+    private String key;
+    private String tag;
+
+    public CacheInvalidationMessage(String nodeId, String cacheName, String key) {
+        this(nodeId, cacheName, key, null);
+    }
+
+    public static CacheInvalidationMessage ofTag(String nodeId, String tag) {
+        return new CacheInvalidationMessage(nodeId, null, null, tag);
+    }
+
+}
@@ -0,0 +1,13 @@
+package yeonleaf.plantodo.cache;
+
+import org.springframework.lang.Nullable;
+
+@FunctionalInterface
+public interface CacheInvalidationPublisher {
+
+    /**
+     * @param localKey 지워진 L1 key, null이면 캐시 전체
+     */
+    void publish(String cacheName, @Nullable String localKey);
+
+}
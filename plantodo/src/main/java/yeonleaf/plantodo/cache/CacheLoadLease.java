@@ -0,0 +1,33 @@
+package yeonleaf.plantodo.cache;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 캐시 miss 때 값을 읽어 오는(DB 조회) 노드를 하나로 제한하기 위한 짧은 lease
+ * 노드 안에서는 L1(Caffeine)이 key마다 loader를 하나만 실행하고, 노드 사이에서는 이 lease로 제한한다.
+ */
+public interface CacheLoadLease {
+
+    /**
+     * 항상 lease를 얻는다. (노드가 하나인 경우)
+     */
+    CacheLoadLease NONE = new CacheLoadLease() {
+        @Override
+        public String tryAcquire(String leaseKey) {
+            return leaseKey;
+        }
+
+        @Override
+        public void release(String leaseKey, String token) {
+        }
+    };
+
+    /**
+     * @return lease를 구분하는 token, null이면 다른 노드가 이미 값을 읽어 오는 중
+     */
+    @Nullable
+    String tryAcquire(String leaseKey);
+
+    void release(String leaseKey, String token);
+
+}
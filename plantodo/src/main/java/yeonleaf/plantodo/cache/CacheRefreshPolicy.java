@@ -0,0 +1,102 @@
+package yeonleaf.plantodo.cache;
+
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * XFetch(probabilistic early recomputation) 설정
+ * 조회할 때마다 now - delta * beta * ln(rand) >= expiry 이면 만료 전에 백그라운드에서 값을 다시 계산한다.
+ * 자주 읽히는 key일수록 만료 전에 다시 계산되므로 요청 경로에서는 거의 만료되지 않는다.
+ */
+public class CacheRefreshPolicy {
+
+    public static final CacheRefreshPolicy NONE = new CacheRefreshPolicy(Duration.ZERO, 0, Runnable::run);
+
+    private final Duration ttl;
+    private final double beta;
+    private final Executor executor;
+    private final TransactionOperations transactionOperations;
+
+    /**
+     * @param ttl L2 entry TTL (만료 시각 계산용)
+     * @param beta 1보다 크면 더 일찍, 작으면 더 늦게 다시 계산한다. 0이면 끈다.
+     * @param executor 다시 계산하는 loader를 실행할 executor
+     */
+    public CacheRefreshPolicy(Duration ttl, double beta, Executor executor) {
+        this(ttl, beta, executor, TransactionOperations.withoutTransaction());
+    }
+
+    /**
+     * @param transactionOperations 다시 계산하는 loader를 감쌀 트랜잭션
+     */
+    public CacheRefreshPolicy(Duration ttl, double beta, Executor executor, TransactionOperations transactionOperations) {
+        this.ttl = ttl;
+        this.beta = beta;
+        this.executor = executor;
+        this.transactionOperations = transactionOperations;
+    }
+
+    boolean isEnabled() {
+        return beta > 0;
+    }
+
+    TimedCacheValue timed(Object storeValue, long deltaMillis) {
+        return timed(storeValue, deltaMillis, null);
+    }
+
+    /**
+     * @param entryTtl L2에 실제로 저장할 TTL ({@link AdaptiveTtlPolicy}), null이면 설정한 ttl
+     */
+    TimedCacheValue timed(Object storeValue, long deltaMillis, @Nullable Duration entryTtl) {
+        Duration expiresAfter = entryTtl == null ? ttl : entryTtl;
+        return new TimedCacheValue(storeValue, deltaMillis, System.currentTimeMillis() + expiresAfter.toMillis());
+    }
+
+    boolean shouldRefresh(TimedCacheValue timedCacheValue) {
+        if (!isEnabled()) {
+            return false;
+        }
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+        long now = System.currentTimeMillis();
+        return now - timedCacheValue.getDeltaMillis() * beta * Math.log(random) >= timedCacheValue.getExpiresAtMillis();
+    }
+
+    Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * 백그라운드에서 다시 계산할 때 loader는 캐시 interceptor 안쪽의 호출을 그대로 다시 실행하므로,
+     * 그 바깥에 있던 @Transactional(readOnly = true)을 거치지 않는다. 그래서 설정한 트랜잭션으로 직접 감싼다.
+     */
+    Object callInTransaction(Callable<?> valueLoader) throws Exception {
+        try {
+            return transactionOperations.execute(status -> {
+                try {
+                    return valueLoader.call();
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new LoaderException(e);
+                }
+            });
+        } catch (LoaderException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+    /**
+     * 트랜잭션 callback 밖으로 loader의 checked exception을 전달한다.
+     */
+    private static class LoaderException extends RuntimeException {
+        LoaderException(Exception cause) {
+            super(cause);
+        }
+    }
+
+}
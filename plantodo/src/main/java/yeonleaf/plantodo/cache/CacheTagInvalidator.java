@@ -0,0 +1,37 @@
+package yeonleaf.plantodo.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CacheTagInvalidator {
+
+    /**
+     * 태그가 붙은 모든 캐시 항목을 지운다.
+     */
+    void invalidate(String tag);
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋된 이후에 지운다.
+     * 커밋 전에 지우면 다른 요청이 커밋 전 값을 다시 캐시에 채울 수 있다.
+     */
+    default void invalidateAfterCommit(String tag) {
+        invalidateAfterCommit(List.of(tag));
+    }
+
+    default void invalidateAfterCommit(Collection<String> tags) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            tags.forEach(this::invalidate);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tags.forEach(CacheTagInvalidator.this::invalidate);
+            }
+        });
+    }
+
+}
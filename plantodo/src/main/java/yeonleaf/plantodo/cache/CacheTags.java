@@ -0,0 +1,97 @@
+package yeonleaf.plantodo.cache;
+
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * 회원, 일정, 할일 그룹 단위로 캐시를 묶기 위한 태그
+ * 태그는 Redis 클러스터 hash tag 형태({member:42})라서 같은 태그의 캐시 key와 태그 set이 모두 같은 슬롯에 저장된다.
+ * 날짜 하나에 대한 목록은 날짜 태그({plan:7:2023-07-19})로 따로 묶어서, 할일 하나가 바뀌면 그 날짜의 목록만 지울 수 있다.
+ */
+public final class CacheTags {
+
+    private static final String TAG_SET_PREFIX = "tag:";
+
+    private CacheTags() {
+    }
+
+    public static String member(Long memberId) {
+        return "{member:" + memberId + "}";
+    }
+
+    /**
+     * 회원 단위 응답 byte 캐시({@link ResponseCache})의 태그
+     * 일정, 할일 그룹, 할일 중 무엇이 바뀌어도 지운다.
+     */
+    public static String memberResponses(Long memberId) {
+        return "{member:" + memberId + ":responses}";
+    }
+
+    public static String plan(Long planId) {
+        return "{plan:" + planId + "}";
+    }
+
+    /**
+     * 일정 단건 응답 byte 캐시의 태그
+     */
+    public static String planResponses(Long planId) {
+        return "{plan:" + planId + ":responses}";
+    }
+
+    public static String planDate(Long planId, LocalDate date) {
+        return "{plan:" + planId + ":" + date + "}";
+    }
+
+    public static String group(Long groupId) {
+        return "{group:" + groupId + "}";
+    }
+
+    public static String groupDate(Long groupId, LocalDate date) {
+        return "{group:" + groupId + ":" + date + "}";
+    }
+
+    /**
+     * 할일이 바뀌었을 때 지워야 하는 태그
+     * 일정/그룹 전체 목록과 기간 목록은 날짜와 상관없이 지우고, 날짜 목록은 바뀐 날짜만 지운다.
+     */
+    public static List<String> checkboxTags(Long planId, Long groupId, Collection<LocalDate> dates) {
+        List<String> tags = new ArrayList<>(2 + dates.size() * 2);
+        tags.add(plan(planId));
+        tags.add(group(groupId));
+        for (LocalDate date : new HashSet<>(dates)) {
+            tags.add(planDate(planId, date));
+            tags.add(groupDate(groupId, date));
+        }
+        return tags;
+    }
+
+    /**
+     * 태그가 붙은 key들을 모아 두는 Redis set의 key
+     */
+    public static String tagSetKey(String tag) {
+        return TAG_SET_PREFIX + tag;
+    }
+
+    /**
+     * Redis key에서 hash tag를 찾는다. Redis와 같은 규칙으로 첫 번째 '{'와 그 뒤의 첫 번째 '}' 사이를 본다.
+     * @return "{...}" 형태의 태그, 없으면 null
+     */
+    @Nullable
+    public static String extract(String redisKey) {
+        int start = redisKey.indexOf('{');
+        if (start < 0) {
+            return null;
+        }
+        int end = redisKey.indexOf('}', start + 1);
+        if (end <= start + 1) {
+            return null;
+        }
+        return redisKey.substring(start, end + 1);
+    }
+
+}
@@ -0,0 +1,18 @@
+package yeonleaf.plantodo.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link ResponseCache}에 저장하는 최종 응답 byte
+ * 같은 응답을 인코딩 없이(identity) 한 벌, gzip으로 한 벌 저장해 두고 Accept-Encoding에 맞는 쪽을 그대로 내보낸다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CachedResponse {
+
+    private final String contentType;
+    private final byte[] body;
+    private final byte[] gzipBody;
+
+}
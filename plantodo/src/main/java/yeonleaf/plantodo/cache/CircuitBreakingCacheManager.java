@@ -0,0 +1,148 @@
+package yeonleaf.plantodo.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * CacheManager가 만든 캐시를 {@link CacheCircuitBreaker}로 감싼다.
+ * Redis 접근 실패(DataAccessException)는 예외를 던지지 않고 조회는 miss, 쓰기/삭제는 건너뛴 것으로 처리한다.
+ * 삭제를 건너뛴 값은 L2 TTL이 지나면 사라진다.
+ */
+@Slf4j
+public class CircuitBreakingCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final CacheCircuitBreaker circuitBreaker;
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public CircuitBreakingCacheManager(CacheManager delegate, CacheCircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    @Nullable
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache cache = delegate.getCache(cacheName);
+            return cache == null ? null : new CircuitBreakingCache(cache);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    private class CircuitBreakingCache implements Cache, MultiGetCache {
+
+        private final Cache cache;
+
+        CircuitBreakingCache(Cache cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public String getName() {
+            return cache.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return cache.getNativeCache();
+        }
+
+        @Override
+        @Nullable
+        public ValueWrapper get(Object key) {
+            return call(() -> cache.get(key));
+        }
+
+        @Override
+        @Nullable
+        public <T> T get(Object key, @Nullable Class<T> type) {
+            return call(() -> cache.get(key, type));
+        }
+
+        @Override
+        @Nullable
+        @SuppressWarnings("unchecked")
+        public <T> T get(Object key, Callable<T> valueLoader) {
+
+            ValueWrapper value = get(key);
+            if (value != null) {
+                return (T) value.get();
+            }
+            T loaded;
+            try {
+                loaded = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            put(key, loaded);
+            return loaded;
+
+        }
+
+        @Override
+        public Map<Object, ValueWrapper> getAll(Collection<?> keys) {
+            Map<Object, ValueWrapper> values = call(() -> MultiGetCache.getAll(cache, keys));
+            return values == null ? Map.of() : values;
+        }
+
+        @Override
+        public void put(Object key, @Nullable Object value) {
+            run(() -> cache.put(key, value));
+        }
+
+        @Override
+        public void evict(Object key) {
+            run(() -> cache.evict(key));
+        }
+
+        @Override
+        public void clear() {
+            run(cache::clear);
+        }
+
+        private void run(Runnable command) {
+            call(() -> {
+                command.run();
+                return null;
+            });
+        }
+
+        @Nullable
+        private <T> T call(Supplier<T> command) {
+
+            if (!circuitBreaker.allowRequest()) {
+                return null;
+            }
+            try {
+                T result = command.get();
+                circuitBreaker.recordSuccess();
+                return result;
+            } catch (DataAccessException e) {
+                circuitBreaker.recordFailure();
+                log.warn("Redis 캐시 접근 실패 cache={}", cache.getName(), e);
+                return null;
+            } catch (RuntimeException e) {
+                circuitBreaker.recordUnexpectedFailure();
+                throw e;
+            }
+
+        }
+
+    }
+
+}
@@ -0,0 +1,446 @@
+package yeonleaf.plantodo.cache;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.Nullable;
+import yeonleaf.plantodo.domain.PlanStatus;
+import yeonleaf.plantodo.dto.CheckboxResDto;
+import yeonleaf.plantodo.dto.GroupResDto;
+import yeonleaf.plantodo.dto.PlanResDto;
+import yeonleaf.plantodo.wrapper.PlanResDtoWrap;
+import yeonleaf.plantodo.wrapper.SliceWrap;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 캐시 값을 위한 바이너리 직렬화
+ *
+ * [포맷 버전 1byte][flags 1byte][(LZ4인 경우) 원본 길이 varint][본문]
+ * 본문 : [타입 1byte][타입별 필드]
+ * {@link TimedCacheValue}는 [delta][만료 시각] 뒤에 감싼 값의 본문을 그대로 이어 쓴다.
+ * List는 [크기] 뒤에 원소마다 본문을 이어 쓰고, 읽을 때는 ArrayList로 만든다.
+ * {@link CachedResponse}는 [Content-Type][응답 byte][gzip 응답 byte]를 길이와 함께 쓴다.
+ * {@link SliceWrap}은 [hasNext] 뒤에 List와 같은 형식으로 원소를 이어 쓴다.
+ *
+ * 자주 캐시되는 DTO는 필드를 직접 쓰고(클래스명, ISO 날짜 문자열 없이), 나머지 타입은 Jackson으로 직렬화해서 본문에 넣는다.
+ * 본문이 threshold보다 크고 압축해서 작아지는 경우에만 LZ4로 압축한다.
+ * 첫 byte가 포맷 버전이 아니면 이전에 Jackson으로 저장된 값으로 보고 Jackson으로 읽는다.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    /**
+     * 2 : Jackson 본문 앞에 길이를 붙임 (List 원소처럼 중간에 들어갈 수 있도록)
+     */
+    static final byte FORMAT_VERSION = 2;
+    private static final byte FORMAT_VERSION_UNFRAMED_JACKSON = 1;
+
+    private static final byte FLAG_LZ4 = 1;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_PLAN = 1;
+    private static final byte TYPE_PLAN_WRAP = 2;
+    private static final byte TYPE_TIMED = 3;
+    private static final byte TYPE_GROUP = 4;
+    private static final byte TYPE_CHECKBOX = 5;
+    private static final byte TYPE_LIST = 6;
+    private static final byte TYPE_RESPONSE = 7;
+    private static final byte TYPE_SLICE = 8;
+    private static final byte TYPE_JACKSON = 127;
+
+    private static final PlanStatus[] PLAN_STATUSES = PlanStatus.values();
+
+    private final int compressionThreshold;
+    private final GenericJackson2JsonRedisSerializer fallback = new GenericJackson2JsonRedisSerializer();
+    private final LZ4Compressor compressor = LZ4Factory.fastestInstance().fastCompressor();
+    private final LZ4FastDecompressor decompressor = LZ4Factory.fastestInstance().fastDecompressor();
+
+    /**
+     * @param compressionThreshold 이 크기(byte)를 넘는 본문만 압축을 시도한다.
+     */
+    public CompactRedisSerializer(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(@Nullable Object value) throws SerializationException {
+
+        if (value == null) {
+            return null;
+        }
+
+        byte[] body = writeBody(value);
+        if (body.length > compressionThreshold) {
+            byte[] compressed = compress(body);
+            if (compressed.length < body.length) {
+                return compressed;
+            }
+        }
+
+        byte[] result = new byte[body.length + 2];
+        result[0] = FORMAT_VERSION;
+        result[1] = 0;
+        System.arraycopy(body, 0, result, 2, body.length);
+        return result;
+
+    }
+
+    @Override
+    public Object deserialize(@Nullable byte[] bytes) throws SerializationException {
+
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        byte version = bytes[0];
+        if (version != FORMAT_VERSION && version != FORMAT_VERSION_UNFRAMED_JACKSON) {
+            return fallback.deserialize(bytes);
+        }
+
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 2, bytes.length - 2));
+            if ((bytes[1] & FLAG_LZ4) != 0) {
+                int rawLength = readVarInt(in);
+                byte[] body = new byte[rawLength];
+                int offset = bytes.length - in.available();
+                decompressor.decompress(bytes, offset, body, 0, rawLength);
+                in = new DataInputStream(new ByteArrayInputStream(body));
+            }
+            return readBody(in, version);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("캐시 값을 읽을 수 없음", e);
+        }
+
+    }
+
+    private byte[] compress(byte[] body) {
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream(8);
+        header.write(FORMAT_VERSION);
+        header.write(FLAG_LZ4);
+        try {
+            writeVarInt(new DataOutputStream(header), body.length);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값을 쓸 수 없음", e);
+        }
+
+        byte[] prefix = header.toByteArray();
+        byte[] result = new byte[prefix.length + compressor.maxCompressedLength(body.length)];
+        System.arraycopy(prefix, 0, result, 0, prefix.length);
+        int compressedLength = compressor.compress(body, 0, body.length, result, prefix.length);
+        return Arrays.copyOf(result, prefix.length + compressedLength);
+
+    }
+
+    private byte[] writeBody(Object value) {
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+        try {
+            writeValue(new DataOutputStream(buffer), value);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값을 쓸 수 없음", e);
+        }
+        return buffer.toByteArray();
+
+    }
+
+    private void writeValue(DataOutputStream out, Object value) throws IOException {
+
+        if (value instanceof NullValue) {
+            out.writeByte(TYPE_NULL);
+        } else if (value instanceof PlanResDto planResDto) {
+            out.writeByte(TYPE_PLAN);
+            writePlan(out, planResDto);
+        } else if (value instanceof PlanResDtoWrap planResDtoWrap) {
+            out.writeByte(TYPE_PLAN_WRAP);
+            writeVarInt(out, planResDtoWrap.getWrap().size());
+            for (PlanResDto planResDto : planResDtoWrap.getWrap()) {
+                writePlan(out, planResDto);
+            }
+        } else if (value instanceof GroupResDto groupResDto) {
+            out.writeByte(TYPE_GROUP);
+            writeGroup(out, groupResDto);
+        } else if (value instanceof CheckboxResDto checkboxResDto) {
+            out.writeByte(TYPE_CHECKBOX);
+            writeCheckbox(out, checkboxResDto);
+        } else if (value instanceof List<?> list) {
+            out.writeByte(TYPE_LIST);
+            writeVarInt(out, list.size());
+            for (Object element : list) {
+                writeValue(out, element == null ? NullValue.INSTANCE : element);
+            }
+        } else if (value instanceof SliceWrap<?> slice) {
+            out.writeByte(TYPE_SLICE);
+            out.writeBoolean(slice.isHasNext());
+            writeValue(out, slice.getWrap());
+        } else if (value instanceof CachedResponse cachedResponse) {
+            out.writeByte(TYPE_RESPONSE);
+            writeString(out, cachedResponse.getContentType());
+            writeBytes(out, cachedResponse.getBody());
+            writeBytes(out, cachedResponse.getGzipBody());
+        } else if (value instanceof TimedCacheValue timedCacheValue) {
+            out.writeByte(TYPE_TIMED);
+            writeVarLong(out, timedCacheValue.getDeltaMillis());
+            writeVarLong(out, timedCacheValue.getExpiresAtMillis());
+            writeValue(out, timedCacheValue.getValue());
+        } else {
+            out.writeByte(TYPE_JACKSON);
+            byte[] json = fallback.serialize(value);
+            writeVarInt(out, json.length);
+            out.write(json);
+        }
+
+    }
+
+    private Object readBody(DataInputStream in, byte version) throws IOException {
+
+        byte type = in.readByte();
+        switch (type) {
+            case TYPE_NULL:
+                return NullValue.INSTANCE;
+            case TYPE_PLAN:
+                return readPlan(in);
+            case TYPE_PLAN_WRAP:
+                int size = readVarInt(in);
+                List<PlanResDto> plans = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    plans.add(readPlan(in));
+                }
+                return new PlanResDtoWrap(plans);
+            case TYPE_GROUP:
+                return readGroup(in);
+            case TYPE_CHECKBOX:
+                return readCheckbox(in);
+            case TYPE_LIST:
+                int length = readVarInt(in);
+                List<Object> list = new ArrayList<>(length);
+                for (int i = 0; i < length; i++) {
+                    Object element = readBody(in, version);
+                    list.add(element instanceof NullValue ? null : element);
+                }
+                return list;
+            case TYPE_RESPONSE:
+                return new CachedResponse(readString(in), readBytes(in), readBytes(in));
+            case TYPE_SLICE:
+                boolean hasNext = in.readBoolean();
+                return new SliceWrap<>((List<?>) readBody(in, version), hasNext);
+            case TYPE_TIMED:
+                long deltaMillis = readVarLong(in);
+                long expiresAtMillis = readVarLong(in);
+                return new TimedCacheValue(readBody(in, version), deltaMillis, expiresAtMillis);
+            case TYPE_JACKSON:
+                if (version == FORMAT_VERSION_UNFRAMED_JACKSON) {
+                    return fallback.deserialize(in.readAllBytes());
+                }
+                byte[] json = new byte[readVarInt(in)];
+                in.readFully(json);
+                return fallback.deserialize(json);
+            default:
+                throw new SerializationException("알 수 없는 캐시 값 타입 " + type);
+        }
+
+    }
+
+    /**
+     * 첫 byte는 null이 아닌 필드의 bitmask
+     */
+    private void writePlan(DataOutputStream out, PlanResDto plan) throws IOException {
+
+        int present = (plan.getId() != null ? 1 : 0)
+                | (plan.getTitle() != null ? 1 << 1 : 0)
+                | (plan.getStart() != null ? 1 << 2 : 0)
+                | (plan.getEnd() != null ? 1 << 3 : 0)
+                | (plan.getStatus() != null ? 1 << 4 : 0);
+        out.writeByte(present);
+        if (plan.getId() != null) {
+            writeVarLong(out, plan.getId());
+        }
+        if (plan.getTitle() != null) {
+            writeString(out, plan.getTitle());
+        }
+        if (plan.getStart() != null) {
+            writeVarLong(out, plan.getStart().toEpochDay());
+        }
+        if (plan.getEnd() != null) {
+            writeVarLong(out, plan.getEnd().toEpochDay());
+        }
+        if (plan.getStatus() != null) {
+            out.writeByte(plan.getStatus().ordinal());
+        }
+
+    }
+
+    private PlanResDto readPlan(DataInputStream in) throws IOException {
+
+        int present = in.readUnsignedByte();
+        PlanResDto plan = new PlanResDto();
+        if ((present & 1) != 0) {
+            plan.setId(readVarLong(in));
+        }
+        if ((present & 1 << 1) != 0) {
+            plan.setTitle(readString(in));
+        }
+        if ((present & 1 << 2) != 0) {
+            plan.setStart(LocalDate.ofEpochDay(readVarLong(in)));
+        }
+        if ((present & 1 << 3) != 0) {
+            plan.setEnd(LocalDate.ofEpochDay(readVarLong(in)));
+        }
+        if ((present & 1 << 4) != 0) {
+            plan.setStatus(PLAN_STATUSES[in.readUnsignedByte()]);
+        }
+        return plan;
+
+    }
+
+    private void writeGroup(DataOutputStream out, GroupResDto group) throws IOException {
+
+        int present = (group.getId() != null ? 1 : 0)
+                | (group.getTitle() != null ? 1 << 1 : 0)
+                | (group.getRepValue() != null ? 1 << 2 : 0);
+        out.writeByte(present);
+        if (group.getId() != null) {
+            writeVarLong(out, group.getId());
+        }
+        if (group.getTitle() != null) {
+            writeString(out, group.getTitle());
+        }
+        writeVarInt(out, group.getRepOption());
+        if (group.getRepValue() != null) {
+            writeVarInt(out, group.getRepValue().size());
+            for (String repValue : group.getRepValue()) {
+                writeString(out, repValue);
+            }
+        }
+
+    }
+
+    private GroupResDto readGroup(DataInputStream in) throws IOException {
+
+        int present = in.readUnsignedByte();
+        GroupResDto group = new GroupResDto();
+        if ((present & 1) != 0) {
+            group.setId(readVarLong(in));
+        }
+        if ((present & 1 << 1) != 0) {
+            group.setTitle(readString(in));
+        }
+        group.setRepOption(readVarInt(in));
+        if ((present & 1 << 2) != 0) {
+            int size = readVarInt(in);
+            List<String> repValue = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                repValue.add(readString(in));
+            }
+            group.setRepValue(repValue);
+        } else {
+            group.setRepValue(null);
+        }
+        return group;
+
+    }
+
+    /**
+     * 첫 byte는 null이 아닌 필드의 bitmask와 checked(1 << 7)
+     */
+    private void writeCheckbox(DataOutputStream out, CheckboxResDto checkbox) throws IOException {
+
+        int present = (checkbox.getId() != null ? 1 : 0)
+                | (checkbox.getTitle() != null ? 1 << 1 : 0)
+                | (checkbox.getDate() != null ? 1 << 2 : 0)
+                | (checkbox.isChecked() ? 1 << 7 : 0);
+        out.writeByte(present);
+        if (checkbox.getId() != null) {
+            writeVarLong(out, checkbox.getId());
+        }
+        if (checkbox.getTitle() != null) {
+            writeString(out, checkbox.getTitle());
+        }
+        if (checkbox.getDate() != null) {
+            writeVarLong(out, checkbox.getDate().toEpochDay());
+        }
+
+    }
+
+    private CheckboxResDto readCheckbox(DataInputStream in) throws IOException {
+
+        int present = in.readUnsignedByte();
+        CheckboxResDto checkbox = new CheckboxResDto();
+        if ((present & 1) != 0) {
+            checkbox.setId(readVarLong(in));
+        }
+        if ((present & 1 << 1) != 0) {
+            checkbox.setTitle(readString(in));
+        }
+        if ((present & 1 << 2) != 0) {
+            checkbox.setDate(LocalDate.ofEpochDay(readVarLong(in)));
+        }
+        checkbox.setChecked((present & 1 << 7) != 0);
+        return checkbox;
+
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] value) throws IOException {
+        writeVarInt(out, value.length);
+        out.write(value);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        writeVarLong(out, value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        return Math.toIntExact(readVarLong(in));
+    }
+
+    /**
+     * zigzag + 7bit varint
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.writeByte((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.writeByte((int) zigzag);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long zigzag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new SerializationException("varint가 너무 김");
+    }
+
+}
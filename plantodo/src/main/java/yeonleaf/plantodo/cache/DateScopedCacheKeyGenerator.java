@@ -0,0 +1,34 @@
+package yeonleaf.plantodo.cache;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * 첫 번째 파라미터(id)로 태그를 만들고 나머지 파라미터를 뒤에 붙인다.
+ * 파라미터가 (id, 날짜) 뿐이면 날짜 태그를 key로 쓴다.
+ * ex) all(7L) → "{plan:7}", all(7L, 2023-07-19) → "{plan:7:2023-07-19}", all(7L, 2023-07-01, 2023-07-31) → "{plan:7}:2023-07-01:2023-07-31",
+ *     page(7L, null, 100) → "{plan:7}:null:100"
+ */
+public abstract class DateScopedCacheKeyGenerator implements KeyGenerator {
+
+    protected abstract String tag(Long id);
+
+    protected abstract String dateTag(Long id, LocalDate date);
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        Long id = (Long) params[0];
+        if (params.length == 1) {
+            return tag(id);
+        }
+        if (params.length == 2 && params[1] instanceof LocalDate date) {
+            return dateTag(id, date);
+        }
+        return tag(id) + ":" + Arrays.stream(params, 1, params.length).map(String::valueOf).collect(Collectors.joining(":"));
+    }
+
+}
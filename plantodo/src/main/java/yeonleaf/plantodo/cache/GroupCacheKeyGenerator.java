@@ -0,0 +1,23 @@
+package yeonleaf.plantodo.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 할일 그룹 단위 목록(groupId로 조회하는 할일 목록)의 key
+ */
+@Component("groupCacheKeyGenerator")
+public class GroupCacheKeyGenerator extends DateScopedCacheKeyGenerator {
+
+    @Override
+    protected String tag(Long groupId) {
+        return CacheTags.group(groupId);
+    }
+
+    @Override
+    protected String dateTag(Long groupId, LocalDate date) {
+        return CacheTags.groupDate(groupId, date);
+    }
+
+}
@@ -0,0 +1,27 @@
+package yeonleaf.plantodo.cache;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+/**
+ * Caffeine 전용 모드에서 태그로 시작하는 key를 모든 캐시에서 지운다.
+ */
+public class LocalCacheTagInvalidator implements CacheTagInvalidator {
+
+    private final CaffeineCacheManager cacheManager;
+
+    public LocalCacheTagInvalidator(CaffeineCacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public void invalidate(String tag) {
+        cacheManager.getCacheNames().forEach(name -> {
+            CaffeineCache cache = (CaffeineCache) cacheManager.getCache(name);
+            if (cache != null) {
+                cache.getNativeCache().asMap().keySet().removeIf(key -> String.valueOf(key).startsWith(tag));
+            }
+        });
+    }
+
+}
@@ -0,0 +1,26 @@
+package yeonleaf.plantodo.cache;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * 첫 번째 파라미터(memberId)로 회원 태그를 만들고 나머지 파라미터를 뒤에 붙인다.
+ * ex) all(42L, 2023-07-19) → "{member:42}:2023-07-19"
+ */
+@Component("memberCacheKeyGenerator")
+public class MemberCacheKeyGenerator implements KeyGenerator {
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        String tag = CacheTags.member((Long) params[0]);
+        if (params.length == 1) {
+            return tag;
+        }
+        return tag + ":" + Arrays.stream(params, 1, params.length).map(String::valueOf).collect(Collectors.joining(":"));
+    }
+
+}
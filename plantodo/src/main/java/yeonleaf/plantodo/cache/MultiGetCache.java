@@ -0,0 +1,38 @@
+package yeonleaf.plantodo.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 여러 key를 한 번에 읽을 수 있는 캐시
+ */
+public interface MultiGetCache {
+
+    /**
+     * @return 캐시에 있는 key와 값 (없는 key는 빠진다.)
+     */
+    Map<Object, Cache.ValueWrapper> getAll(Collection<?> keys);
+
+    /**
+     * 캐시가 {@link MultiGetCache}가 아니면 key마다 하나씩 읽는다.
+     */
+    static Map<Object, Cache.ValueWrapper> getAll(Cache cache, Collection<?> keys) {
+
+        if (cache instanceof MultiGetCache multiGetCache) {
+            return multiGetCache.getAll(keys);
+        }
+        Map<Object, Cache.ValueWrapper> values = new LinkedHashMap<>();
+        for (Object key : keys) {
+            Cache.ValueWrapper value = cache.get(key);
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+        return values;
+
+    }
+
+}
@@ -0,0 +1,98 @@
+package yeonleaf.plantodo.cache;
+
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.api.async.RedisStringAsyncCommands;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 여러 key를 MGET으로 읽을 수 있는 RedisCache를 만든다.
+ * 클러스터에서는 Lettuce가 key를 slot별로 나눠 slot마다 MGET을 한 번씩 동시에 보내므로, 여러 일정을 읽어도 slot마다 한 번만 왕복한다.
+ */
+public class MultiGetRedisCacheManager extends RedisCacheManager {
+
+    private final RedisCacheWriter cacheWriter;
+    private final RedisConnectionFactory readConnectionFactory;
+    private final Duration timeout;
+
+    /**
+     * @param readConnectionFactory MGET을 보낼 연결 (복제 노드에서 읽도록 설정한 연결)
+     * @param timeout MGET 응답을 기다리는 최대 시간
+     */
+    public MultiGetRedisCacheManager(RedisCacheWriter cacheWriter, RedisCacheConfiguration defaultCacheConfiguration,
+                                     Map<String, RedisCacheConfiguration> initialCacheConfigurations,
+                                     RedisConnectionFactory readConnectionFactory, Duration timeout) {
+        super(cacheWriter, defaultCacheConfiguration, initialCacheConfigurations);
+        this.cacheWriter = cacheWriter;
+        this.readConnectionFactory = readConnectionFactory;
+        this.timeout = timeout;
+    }
+
+    @Override
+    protected RedisCache createRedisCache(String name, RedisCacheConfiguration cacheConfiguration) {
+        return new MultiGetRedisCache(name, cacheWriter, cacheConfiguration);
+    }
+
+    private class MultiGetRedisCache extends RedisCache implements MultiGetCache {
+
+        MultiGetRedisCache(String name, RedisCacheWriter cacheWriter, RedisCacheConfiguration cacheConfiguration) {
+            super(name, cacheWriter, cacheConfiguration);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map<Object, Cache.ValueWrapper> getAll(Collection<?> keys) {
+
+            if (keys.isEmpty()) {
+                return Map.of();
+            }
+            List<Object> keyList = new ArrayList<>(keys);
+            byte[][] rawKeys = keyList.stream().map(key -> serializeCacheKey(createCacheKey(key))).toArray(byte[][]::new);
+
+            List<KeyValue<byte[], byte[]>> rawValues;
+            try (RedisConnection connection = readConnectionFactory.getConnection()) {
+                RedisStringAsyncCommands<byte[], byte[]> commands = (RedisStringAsyncCommands<byte[], byte[]>) connection.getNativeConnection();
+                RedisFuture<List<KeyValue<byte[], byte[]>>> future = commands.mget(rawKeys);
+                rawValues = future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RedisSystemException("MGET interrupted", e);
+            } catch (ExecutionException e) {
+                throw new RedisSystemException("MGET failed", e.getCause());
+            } catch (TimeoutException e) {
+                throw new QueryTimeoutException("MGET timed out", e);
+            }
+
+            Map<Object, Cache.ValueWrapper> values = new LinkedHashMap<>();
+            for (int i = 0; i < keyList.size(); i++) {
+                KeyValue<byte[], byte[]> rawValue = rawValues.get(i);
+                if (rawValue.hasValue()) {
+                    values.put(keyList.get(i), new SimpleValueWrapper(fromStoreValue(deserializeCacheValue(rawValue.getValue()))));
+                }
+            }
+            return values;
+
+        }
+
+    }
+
+}
@@ -0,0 +1,68 @@
+package yeonleaf.plantodo.cache;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import yeonleaf.plantodo.exceptions.ResourceNotFoundException;
+
+import java.time.Duration;
+
+/**
+ * id로 찾지 못한 리소스를 짧은 시간 동안 기억하는 negative 캐시
+ * 삭제된 id를 반복해서 조회하면 DB를 조회하지 않고 캐시만 확인한 뒤 {@link ResourceNotFoundException}을 던진다.
+ * 값에는 만료 시각을 넣어 두고 읽을 때 확인하므로, 캐시 구현(Caffeine, L1/L2)의 TTL과 상관없이 ttl이 지나면 다시 DB를 조회한다.
+ * 같은 id로 리소스가 생성되면 지운다.
+ */
+@Component
+public class NotFoundCache {
+
+    public static final String CACHE_NAME = "notFound";
+
+    public static final String MEMBER = "member";
+    public static final String PLAN = "plan";
+    public static final String GROUP = "group";
+    public static final String CHECKBOX = "checkbox";
+
+    private final Cache cache;
+    private final long ttlMillis;
+
+    public NotFoundCache(@Qualifier("cacheManager") CacheManager cacheManager,
+                         @Value("${plantodo.cache.not-found-ttl:30s}") Duration ttl) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    private static String key(String type, Long id) {
+        return type + ":" + id;
+    }
+
+    /**
+     * 찾지 못한 것으로 기억하고 있는 id면 DB를 조회하지 않고 바로 예외를 던진다.
+     */
+    public void check(String type, Long id) {
+        Cache.ValueWrapper expiresAt = cache.get(key(type, id));
+        if (expiresAt != null && expiresAt.get() instanceof Number number && number.longValue() > System.currentTimeMillis()) {
+            throw new ResourceNotFoundException();
+        }
+    }
+
+    /**
+     * 찾지 못한 id를 기억하고 던질 예외를 리턴한다.
+     * orElseThrow(() -> notFoundCache.missing(PLAN, id)) 형태로 쓴다.
+     */
+    public ResourceNotFoundException missing(String type, Long id) {
+        cache.put(key(type, id), System.currentTimeMillis() + ttlMillis);
+        return new ResourceNotFoundException();
+    }
+
+    /**
+     * 리소스가 생성되면 같은 id로 기억해 둔 항목을 지운다.
+     * 생성된 id는 커밋 이후에야 클라이언트에게 전달되므로 트랜잭션 안에서 바로 지워도 된다.
+     */
+    public void forget(String type, Long id) {
+        cache.evict(key(type, id));
+    }
+
+}
@@ -0,0 +1,142 @@
+package yeonleaf.plantodo.cache;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import yeonleaf.plantodo.exceptions.ResourceForbiddenException;
+import yeonleaf.plantodo.repository.CheckboxRepository;
+import yeonleaf.plantodo.repository.GroupRepository;
+import yeonleaf.plantodo.repository.MemberRepository;
+import yeonleaf.plantodo.repository.PlanRepository;
+import yeonleaf.plantodo.util.MemberContext;
+
+import java.util.Optional;
+
+/**
+ * 할일 → 그룹 → 일정 → 회원으로 이어지는 소유 관계 index
+ * "checkbox:12" 같은 key에 부모 id(Long) 하나만 넣어서 캐시 매니저(L1 Caffeine + L2 Redis)의 owner 캐시에 둔다.
+ * 일정/그룹과 단건 할일은 생성할 때 채워 두고, 그룹/일정과 함께 여러 개가 생성되는 할일은 처음 확인할 때 부모 id 컬럼 하나를 PK로 읽어서 채운다.
+ * 리소스의 부모는 바뀌지 않고 삭제된 id는 다시 쓰이지 않으므로 항목을 지우지 않는다. (L2 TTL만 길게 둔다.)
+ * 다른 회원의 리소스로 보일 때만 DB에서 다시 읽어 확인하므로, 어긋난 항목이 있어도 잘못 거부하지 않는다.
+ */
+@Component
+public class OwnershipIndex {
+
+    public static final String CACHE_NAME = "owner";
+
+    public static final String MEMBER = "member";
+    public static final String PLAN = "plan";
+    public static final String GROUP = "group";
+    public static final String CHECKBOX = "checkbox";
+
+    private final Cache cache;
+    private final MemberRepository memberRepository;
+    private final PlanRepository planRepository;
+    private final GroupRepository groupRepository;
+    private final CheckboxRepository checkboxRepository;
+
+    public OwnershipIndex(@Qualifier("cacheManager") CacheManager cacheManager, MemberRepository memberRepository,
+                          PlanRepository planRepository, GroupRepository groupRepository, CheckboxRepository checkboxRepository) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        this.memberRepository = memberRepository;
+        this.planRepository = planRepository;
+        this.groupRepository = groupRepository;
+        this.checkboxRepository = checkboxRepository;
+    }
+
+    private static String key(String type, Long id) {
+        return type + ":" + id;
+    }
+
+    /**
+     * 생성한 리소스의 부모를 기록한다. (일정 → 회원, 그룹 → 일정, 할일 → 그룹)
+     * id는 롤백되더라도 다시 쓰이지 않으므로 트랜잭션 안에서 바로 기록해도 된다.
+     */
+    public void record(String type, Long id, Long parentId) {
+        cache.put(key(type, id), parentId);
+    }
+
+    /**
+     * @return 리소스를 가진 회원의 id, 리소스가 없으면 null
+     */
+    @Nullable
+    public Long memberOf(String type, Long id) {
+        return memberOf(type, id, false);
+    }
+
+    /**
+     * @param reload 캐시를 보지 않고 DB에서 읽어서 다시 채운다.
+     */
+    @Nullable
+    private Long memberOf(String type, Long id, boolean reload) {
+        Long parentId = parentOf(type, id, reload);
+        if (parentId == null) {
+            return null;
+        }
+        return switch (type) {
+            case PLAN -> parentId;
+            case GROUP -> memberOf(PLAN, parentId, reload);
+            case CHECKBOX -> memberOf(GROUP, parentId, reload);
+            default -> throw new IllegalArgumentException(type);
+        };
+    }
+
+    @Nullable
+    private Long parentOf(String type, Long id, boolean reload) {
+
+        String key = key(type, id);
+        Cache.ValueWrapper cached = reload ? null : cache.get(key);
+        if (cached != null && cached.get() instanceof Number parentId) {
+            return parentId.longValue();
+        }
+
+        Optional<Long> parentId = switch (type) {
+            case PLAN -> planRepository.findMemberIdById(id);
+            case GROUP -> groupRepository.findPlanIdById(id);
+            case CHECKBOX -> checkboxRepository.findGroupIdById(id);
+            default -> throw new IllegalArgumentException(type);
+        };
+        parentId.ifPresent(value -> cache.put(key, value));
+        return parentId.orElse(null);
+
+    }
+
+    /**
+     * 다른 회원의 리소스면 {@link ResourceForbiddenException}을 던진다.
+     * 없는 리소스는 통과시키고 서비스가 404로 응답하게 둔다.
+     * 회원 id는 토큰의 회원과 다를 때만 회원이 있는지 DB에서 확인한다.
+     */
+    public void check(Long memberId, String type, Long id) {
+
+        if (type.equals(MEMBER)) {
+            if (!memberId.equals(id) && memberRepository.existsById(id)) {
+                throw new ResourceForbiddenException();
+            }
+            return;
+        }
+
+        Long owner = memberOf(type, id);
+        if (owner == null || owner.equals(memberId)) {
+            return;
+        }
+        Long reloadedOwner = memberOf(type, id, true);
+        if (reloadedOwner != null && !reloadedOwner.equals(memberId)) {
+            throw new ResourceForbiddenException();
+        }
+
+    }
+
+    /**
+     * 토큰으로 확인한 회원({@link MemberContext})이 있는 요청에서만 확인한다.
+     * 요청 body에 있는 id처럼 인터셉터가 확인하지 못하는 id를 서비스에서 확인할 때 쓴다.
+     */
+    public void checkCurrent(String type, @Nullable Long id) {
+        Long memberId = MemberContext.current();
+        if (memberId != null && id != null) {
+            check(memberId, type, id);
+        }
+    }
+
+}
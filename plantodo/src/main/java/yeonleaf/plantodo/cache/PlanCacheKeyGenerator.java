@@ -0,0 +1,23 @@
+package yeonleaf.plantodo.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 일정 단위 목록(planId로 조회하는 할일 그룹/할일 목록)의 key
+ */
+@Component("planCacheKeyGenerator")
+public class PlanCacheKeyGenerator extends DateScopedCacheKeyGenerator {
+
+    @Override
+    protected String tag(Long planId) {
+        return CacheTags.plan(planId);
+    }
+
+    @Override
+    protected String dateTag(Long planId, LocalDate date) {
+        return CacheTags.planDate(planId, date);
+    }
+
+}
@@ -0,0 +1,78 @@
+package yeonleaf.plantodo.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Redis pub/sub으로 노드 사이의 L1 invalidation을 주고받는다.
+ * 자기 자신이 발행한 메시지는 이미 로컬에 반영되어 있으므로 무시한다.
+ * 메시지가 유실되더라도 L1의 짧은 TTL이 지나면 L2 값으로 다시 맞춰진다.
+ */
+@Slf4j
+public class RedisCacheInvalidationBus implements CacheInvalidationPublisher, MessageListener {
+
+    public static final String CHANNEL = "plantodo:cache:invalidation";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private TwoLevelCacheManager cacheManager;
+
+    public RedisCacheInvalidationBus(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public void subscribe(TwoLevelCacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public void publish(String cacheName, @Nullable String localKey) {
+        send(new CacheInvalidationMessage(nodeId, cacheName, localKey));
+    }
+
+    public void publishTag(String tag) {
+        send(CacheInvalidationMessage.ofTag(nodeId, tag));
+    }
+
+    private void send(CacheInvalidationMessage invalidation) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(invalidation));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        } catch (RuntimeException e) {
+            log.warn("캐시 invalidation 발행 실패 cache={}, key={}, tag={}", invalidation.getCacheName(), invalidation.getKey(), invalidation.getTag(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+
+        CacheInvalidationMessage invalidation;
+        try {
+            invalidation = objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+        } catch (IOException e) {
+            log.warn("캐시 invalidation 메시지를 읽을 수 없음", e);
+            return;
+        }
+        if (nodeId.equals(invalidation.getNodeId()) || cacheManager == null) {
+            return;
+        }
+        if (invalidation.getTag() != null) {
+            cacheManager.evictTagLocal(invalidation.getTag());
+        } else {
+            cacheManager.evictLocal(invalidation.getCacheName(), invalidation.getKey());
+        }
+
+    }
+
+}
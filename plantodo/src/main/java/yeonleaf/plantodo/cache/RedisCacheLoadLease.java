@@ -0,0 +1,77 @@
+package yeonleaf.plantodo.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * SET NX PX로 얻는 lease
+ * 값을 읽어 오던 노드가 죽더라도 ttl이 지나면 다른 노드가 다시 lease를 얻을 수 있다.
+ * Redis에 접근할 수 없거나 circuit이 열려 있으면 lease 없이 읽어 오도록 token을 돌려준다. (이 token은 반환할 때 Redis를 호출하지 않는다.)
+ */
+@Slf4j
+public class RedisCacheLoadLease implements CacheLoadLease {
+
+    private static final String LEASE_KEY_PREFIX = "lease:";
+    private static final String UNLEASED_TOKEN_PREFIX = "unleased:";
+
+    /**
+     * 자기가 얻은 lease만 지운다.
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    private final CacheCircuitBreaker circuitBreaker;
+
+    public RedisCacheLoadLease(StringRedisTemplate redisTemplate, Duration ttl, CacheCircuitBreaker circuitBreaker) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public String tryAcquire(String leaseKey) {
+
+        String token = UUID.randomUUID().toString();
+        if (!circuitBreaker.allowRequest()) {
+            return UNLEASED_TOKEN_PREFIX + token;
+        }
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LEASE_KEY_PREFIX + leaseKey, token, ttl);
+            circuitBreaker.recordSuccess();
+            return Boolean.FALSE.equals(acquired) ? null : token;
+        } catch (RuntimeException e) {
+            circuitBreaker.recordFailure();
+            log.warn("캐시 lease 획득 실패 key={}", leaseKey, e);
+            return UNLEASED_TOKEN_PREFIX + token;
+        }
+
+    }
+
+    /**
+     * Redis에서 얻은 lease는 circuit이 열렸어도 반환해 본다. (반환하지 못하면 ttl이 지나야 다른 노드가 읽어 온다.)
+     */
+    @Override
+    public void release(String leaseKey, String token) {
+        if (token.startsWith(UNLEASED_TOKEN_PREFIX)) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY_PREFIX + leaseKey), token);
+        } catch (RuntimeException e) {
+            log.warn("캐시 lease 반환 실패 key={}", leaseKey, e);
+        }
+    }
+
+}
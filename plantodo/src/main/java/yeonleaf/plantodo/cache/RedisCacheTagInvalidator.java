@@ -0,0 +1,92 @@
+package yeonleaf.plantodo.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 태그 set에 모인 key를 모두 지운 뒤 각 노드의 L1에서도 같은 태그를 지운다.
+ * Redis 클러스터에서는 스크립트가 KEYS로 받은 key만 건드려야 하므로, 태그 set을 먼저 읽고 그 key들을 KEYS로 넘겨서 지운다.
+ * 태그 set과 그 안의 key는 모두 같은 hash tag를 가지므로 한 슬롯 안에서 실행된다.
+ * 읽은 뒤에 추가된 key는 set에 남으므로 set이 빌 때까지 반복한다.
+ */
+@Slf4j
+public class RedisCacheTagInvalidator implements CacheTagInvalidator {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_ROUNDS = 10;
+
+    /**
+     * KEYS[1] : 태그 set, KEYS[2..] : 지울 캐시 key
+     * 지운 key를 set에서 빼고, set이 비면 set도 지운다.
+     * @return set에 남은 key 수
+     */
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 2, #KEYS do
+                redis.call('DEL', KEYS[i])
+                redis.call('SREM', KEYS[1], KEYS[i])
+            end
+            local remaining = redis.call('SCARD', KEYS[1])
+            if remaining == 0 then
+                redis.call('DEL', KEYS[1])
+            end
+            return remaining
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final TwoLevelCacheManager cacheManager;
+    private final RedisCacheInvalidationBus invalidationBus;
+
+    public RedisCacheTagInvalidator(StringRedisTemplate redisTemplate, TwoLevelCacheManager cacheManager,
+                                    RedisCacheInvalidationBus invalidationBus) {
+        this.redisTemplate = redisTemplate;
+        this.cacheManager = cacheManager;
+        this.invalidationBus = invalidationBus;
+    }
+
+    @Override
+    public void invalidate(String tag) {
+        try {
+            deleteTagged(CacheTags.tagSetKey(tag));
+        } catch (RuntimeException e) {
+            log.warn("캐시 태그 삭제 실패 tag={}", tag, e);
+        }
+        cacheManager.evictTagLocal(tag);
+        invalidationBus.publishTag(tag);
+    }
+
+    private void deleteTagged(String tagSetKey) {
+        for (int round = 0; round < MAX_ROUNDS; round++) {
+            Set<String> members = redisTemplate.opsForSet().members(tagSetKey);
+            if (members == null || members.isEmpty()) {
+                redisTemplate.execute(INVALIDATE_SCRIPT, List.of(tagSetKey));
+                return;
+            }
+            Long remaining = 0L;
+            List<String> batch = new ArrayList<>(BATCH_SIZE + 1);
+            for (String member : members) {
+                if (batch.isEmpty()) {
+                    batch.add(tagSetKey);
+                }
+                batch.add(member);
+                if (batch.size() > BATCH_SIZE) {
+                    remaining = redisTemplate.execute(INVALIDATE_SCRIPT, batch);
+                    batch = new ArrayList<>(BATCH_SIZE + 1);
+                }
+            }
+            if (!batch.isEmpty()) {
+                remaining = redisTemplate.execute(INVALIDATE_SCRIPT, batch);
+            }
+            if (remaining == null || remaining == 0) {
+                return;
+            }
+        }
+        log.warn("캐시 태그 삭제 중 계속 key가 추가됨 tagSetKey={}", tagSetKey);
+    }
+
+}
@@ -0,0 +1,70 @@
+package yeonleaf.plantodo.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import yeonleaf.plantodo.repository.MemberRepository;
+import yeonleaf.plantodo.util.BloomFilter;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가입한 회원의 (정규화한) 이메일 Bloom filter
+ * filter에 없는 이메일은 가입한 적이 없는 것으로 보고 회원가입할 때 중복 조회를 건너뛴다.
+ * 노드마다 따로 들고 있어서 다른 노드에서 방금 가입한 이메일은 빠져 있을 수 있으므로, 마지막 판단은 email 컬럼의 unique 제약이 한다.
+ * 처음 쓸 때 DB의 이메일을 모두 읽어서 만들고, 넣은 수가 크기를 넘으면(오탐률이 올라가면) 다시 만든다.
+ * 탈퇴한 회원의 이메일은 지우지 않는다. (오탐이 되어 DB를 한 번 더 조회할 뿐이다.)
+ */
+@Component
+public class RegisteredEmailFilter {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final MemberRepository memberRepository;
+    private final int expectedMembers;
+
+    private volatile BloomFilter filter;
+    private volatile int capacity;
+    private final AtomicInteger insertions = new AtomicInteger();
+
+    public RegisteredEmailFilter(MemberRepository memberRepository,
+                                 @Value("${plantodo.member.email-filter-size:100000}") int expectedMembers) {
+        this.memberRepository = memberRepository;
+        this.expectedMembers = expectedMembers;
+    }
+
+    /**
+     * false면 가입한 적이 없는 이메일, true면 DB에서 다시 확인해야 한다.
+     */
+    public boolean mightBeRegistered(String email) {
+        return filter().mightContain(email);
+    }
+
+    public void register(String email) {
+        filter().put(email);
+        if (insertions.incrementAndGet() > capacity) {
+            filter = null;
+        }
+    }
+
+    private BloomFilter filter() {
+        BloomFilter current = filter;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (filter == null) {
+                List<String> emails = memberRepository.findAllEmails();
+                int size = Math.max(expectedMembers, emails.size() * 2);
+                BloomFilter loaded = new BloomFilter(size, FALSE_POSITIVE_RATE);
+                emails.stream().filter(Objects::nonNull).forEach(loaded::put);
+                capacity = size;
+                insertions.set(emails.size());
+                filter = loaded;
+            }
+            return filter;
+        }
+    }
+
+}
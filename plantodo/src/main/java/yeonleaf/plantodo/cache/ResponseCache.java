@@ -0,0 +1,192 @@
+package yeonleaf.plantodo.cache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.cache.Cache;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.Nullable;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import yeonleaf.plantodo.util.MemberContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 자주 조회하는 GET API의 최종 JSON 응답 byte를 저장하는 캐시
+ * 서비스 캐시에 값이 있어도 드는 DTO 변환, HATEOAS 링크 생성, Jackson 직렬화, gzip 압축을 건너뛴다.
+ * key는 응답이 바뀌는 단위의 태그로 시작하므로 서비스 캐시와 같은 {@link CacheTagInvalidator}로 지워진다.
+ *   - /plan/{id} : {plan:id:responses}
+ *   - /plans, /plans/date, /plans/range, /calendar/range : {member:memberId:responses}
+ *     memberId 쿼리 스트링이 없으면 토큰의 회원({@link MemberContext})으로 만든다.
+ */
+public class ResponseCache {
+
+    public static final String CACHE_NAME = "responses";
+
+    private static final PathPatternParser PATH_PATTERN_PARSER = new PathPatternParser();
+
+    private final Cache cache;
+    private final Map<PathPattern, Function<HttpServletRequest, String>> routes;
+
+    public ResponseCache(Cache cache) {
+        this.cache = cache;
+        PathPattern planPattern = PATH_PATTERN_PARSER.parse("/plan/{id}");
+        Function<HttpServletRequest, String> memberTag = request -> {
+            String memberId = request.getParameter("memberId");
+            if (memberId == null) {
+                Long current = MemberContext.get(request);
+                memberId = current == null ? null : String.valueOf(current);
+            }
+            return tag(memberId, CacheTags::memberResponses);
+        };
+        this.routes = Map.of(
+                planPattern, request -> {
+                    PathPattern.PathMatchInfo matchInfo = planPattern.matchAndExtract(PathContainer.parsePath(request.getRequestURI()));
+                    return matchInfo == null ? null : tag(matchInfo.getUriVariables().get("id"), CacheTags::planResponses);
+                },
+                PATH_PATTERN_PARSER.parse("/plans"), memberTag,
+                PATH_PATTERN_PARSER.parse("/plans/date"), memberTag,
+                PATH_PATTERN_PARSER.parse("/plans/range"), memberTag,
+                PATH_PATTERN_PARSER.parse("/calendar/range"), memberTag
+        );
+    }
+
+    @Nullable
+    private static String tag(@Nullable String id, Function<Long, String> tagFunction) {
+        try {
+            return id == null ? null : tagFunction.apply(Long.parseLong(id));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 캐시할 수 있는 경로의 GET 요청인지 (key는 JWT를 확인한 뒤에 만들 수 있다.)
+     */
+    public boolean matches(HttpServletRequest request) {
+        return route(request) != null;
+    }
+
+    /**
+     * HATEOAS 링크가 요청 URL(scheme, host)로 만들어지므로 key에 요청 URL 전체를 넣는다.
+     * @return 캐시하지 않는 요청이면 null
+     */
+    @Nullable
+    public String key(HttpServletRequest request) {
+
+        Function<HttpServletRequest, String> route = route(request);
+        if (route == null) {
+            return null;
+        }
+        String tag = route.apply(request);
+        if (tag == null) {
+            return null;
+        }
+        String queryString = request.getQueryString();
+        return tag + request.getRequestURL() + (queryString == null ? "" : "?" + queryString);
+
+    }
+
+    @Nullable
+    private Function<HttpServletRequest, String> route(HttpServletRequest request) {
+
+        if (!"GET".equals(request.getMethod())) {
+            return null;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (Map.Entry<PathPattern, Function<HttpServletRequest, String>> route : routes.entrySet()) {
+            if (route.getKey().matches(path)) {
+                return route.getValue();
+            }
+        }
+        return null;
+
+    }
+
+    @Nullable
+    public CachedResponse get(String key) {
+        Cache.ValueWrapper value = cache.get(key);
+        return value == null ? null : (CachedResponse) value.get();
+    }
+
+    public CachedResponse put(String key, String contentType, byte[] body) {
+        CachedResponse cachedResponse = new CachedResponse(contentType, body, gzip(body));
+        cache.put(key, cachedResponse);
+        return cachedResponse;
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 4 + 32);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * 클라이언트가 gzip을 받을 수 있으면 gzip 응답을, 아니면 인코딩 없는 응답을 쓴다.
+     */
+    public static void write(CachedResponse cachedResponse, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        write(cachedResponse.getContentType(), gzip ? cachedResponse.getGzipBody() : cachedResponse.getBody(), gzip, response);
+    }
+
+    /**
+     * 저장하지 않는 응답 byte를 Accept-Encoding에 맞춰 쓴다. gzip은 클라이언트가 받을 수 있을 때만 압축한다.
+     */
+    public static void write(String contentType, byte[] body, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        write(contentType, gzip ? gzip(body) : body, gzip, response);
+    }
+
+    private static void write(String contentType, byte[] body, boolean gzip, HttpServletResponse response) throws IOException {
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(contentType);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+
+    }
+
+    /**
+     * "gzip;q=0"처럼 명시적으로 거부한 경우는 받을 수 없는 것으로 본다.
+     */
+    private static boolean acceptsGzip(@Nullable String acceptEncoding) {
+
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+
+    }
+
+}
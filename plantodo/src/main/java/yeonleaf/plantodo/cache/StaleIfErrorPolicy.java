@@ -0,0 +1,54 @@
+package yeonleaf.plantodo.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.persistence.PersistenceException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.TransactionException;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * stale-if-error 설정
+ * 노드마다 마지막으로 읽어 온 값을 maxStale 동안 따로 들고 있다가, loader가 DB 오류로 실패하면 그 값을 대신 돌려준다.
+ * 대신 돌려준 응답에는 {@link StaleValueContext}로 표시를 남긴다.
+ */
+public class StaleIfErrorPolicy {
+
+    public static final StaleIfErrorPolicy NONE = new StaleIfErrorPolicy(Duration.ZERO, 0L);
+
+    private final Duration maxStale;
+    private final long maximumSize;
+
+    public StaleIfErrorPolicy(Duration maxStale, long maximumSize) {
+        this.maxStale = maxStale;
+        this.maximumSize = maximumSize;
+    }
+
+    @Nullable
+    Cache<String, Object> newStaleCache() {
+        if (maxStale.isZero()) {
+            return null;
+        }
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(maxStale)
+                .build();
+    }
+
+    /**
+     * 요청이 잘못된 경우(ResourceNotFoundException 등)가 아니라 DB에 접근하지 못한 경우만 stale 값으로 대신한다.
+     */
+    boolean isBackendError(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DataAccessException || cause instanceof TransactionException
+                    || cause instanceof PersistenceException || cause instanceof SQLException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,26 @@
+package yeonleaf.plantodo.cache;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 이번 요청에 stale 캐시 값이 쓰였는지를 request attribute로 남긴다.
+ * 요청 스레드가 아니면(백그라운드 갱신 등) 아무것도 하지 않는다.
+ */
+public class StaleValueContext {
+
+    private static final String ATTRIBUTE = StaleValueContext.class.getName() + ".STALE";
+
+    public static void markStale() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    public static boolean isStale() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        return requestAttributes != null && requestAttributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+
+}
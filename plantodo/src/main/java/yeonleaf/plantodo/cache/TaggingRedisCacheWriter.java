@@ -0,0 +1,101 @@
+package yeonleaf.plantodo.cache;
+
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.lang.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * hash tag가 있는 key를 저장할 때 같은 태그의 set에도 key를 추가하는 {@link RedisCacheWriter}
+ * 값 저장과 태그 등록은 Lua 스크립트 하나로 처리해서 태그에 빠진 캐시 항목이 생기지 않도록 한다.
+ * 태그 set의 TTL은 태그에 속한 항목 중 가장 긴 TTL에 맞춘다. (SADD로 새로 만든 set은 PTTL이 -1이므로 이때도 TTL을 건다.)
+ */
+public class TaggingRedisCacheWriter implements RedisCacheWriter {
+
+    private static final byte[] PUT_SCRIPT = """
+            if tonumber(ARGV[2]) > 0 then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            else
+                redis.call('SET', KEYS[1], ARGV[1])
+            end
+            redis.call('SADD', KEYS[2], KEYS[1])
+            local ttl = redis.call('PTTL', KEYS[2])
+            if tonumber(ARGV[2]) <= 0 then
+                redis.call('PERSIST', KEYS[2])
+            elseif ttl < 0 or ttl < tonumber(ARGV[2]) then
+                redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            end
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final RedisCacheWriter delegate;
+    private final RedisConnectionFactory connectionFactory;
+
+    public TaggingRedisCacheWriter(RedisCacheWriter delegate, RedisConnectionFactory connectionFactory) {
+        this.delegate = delegate;
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+
+        String tag = CacheTags.extract(new String(key, StandardCharsets.UTF_8));
+        if (tag == null) {
+            delegate.put(name, key, value, ttl);
+            return;
+        }
+
+        long ttlMillis = ttl == null || ttl.isZero() || ttl.isNegative() ? 0L : ttl.toMillis();
+        byte[] tagSetKey = CacheTags.tagSetKey(tag).getBytes(StandardCharsets.UTF_8);
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.scriptingCommands().eval(PUT_SCRIPT, ReturnType.INTEGER, 2,
+                    key, tagSetKey, value, String.valueOf(ttlMillis).getBytes(StandardCharsets.UTF_8));
+        }
+
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key) {
+        return delegate.get(name, key);
+    }
+
+    /**
+     * Cache#putIfAbsent로만 쓰이고 @Cacheable 경로에서는 쓰이지 않으므로 태그를 붙이지 않는다.
+     */
+    @Override
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+        return delegate.putIfAbsent(name, key, value, ttl);
+    }
+
+    @Override
+    public void remove(String name, byte[] key) {
+        delegate.remove(name, key);
+    }
+
+    @Override
+    public void clean(String name, byte[] pattern) {
+        delegate.clean(name, pattern);
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+        delegate.clearStatistics(name);
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+        return new TaggingRedisCacheWriter(delegate.withStatisticsCollector(cacheStatisticsCollector), connectionFactory);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return delegate.getCacheStatistics(cacheName);
+    }
+
+}
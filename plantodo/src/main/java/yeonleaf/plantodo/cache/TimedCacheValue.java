@@ -0,0 +1,18 @@
+package yeonleaf.plantodo.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * loader로 읽어 온 캐시 값과 그 값을 다시 계산하는 데 걸린 시간(delta), 만료 시각
+ * 만료가 가까워질수록, delta가 클수록 {@link CacheRefreshPolicy}가 미리 다시 계산할 확률이 높아진다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TimedCacheValue {
+
+    private final Object value;
+    private final long deltaMillis;
+    private final long expiresAtMillis;
+
+}
@@ -0,0 +1,498 @@
+package yeonleaf.plantodo.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 노드 로컬 Caffeine 캐시(L1)를 Redis 캐시(L2) 앞에 둔 캐시
+ * 조회는 L1 → L2 순서로 하고, L2에서 찾은 값은 L1에 채운다. (L2를 읽는 동안 지워졌으면 채우지 않는다.)
+ * 쓰기/삭제는 L2에 먼저 반영한 뒤 다른 노드의 L1을 지우도록 invalidation을 발행한다.
+ * get(key, valueLoader)는 노드 안에서는 key마다 하나의 {@link CompletableFuture}가, 노드 사이에서는 {@link CacheLoadLease}가 key마다 loader를 하나만 실행하게 한다.
+ * 읽는 동안 그 key(또는 태그)가 지워졌으면 읽어 온 값을 L1에 남기지 않는다.
+ * loader로 읽어 온 값은 {@link TimedCacheValue}로 감싸 두고, 만료가 가까우면 {@link CacheRefreshPolicy}에 따라 백그라운드에서 다시 읽어 온다.
+ * loader가 DB 오류로 실패하면 {@link StaleIfErrorPolicy}에 따라 마지막으로 읽어 온 값을 대신 돌려준다.
+ * 여러 key를 읽을 때는 L1에 없는 key만 모아서 L2에서 한 번에 읽는다.
+ * 조회/쓰기는 {@link AdaptiveTtlPolicy}에 기록하고, 많이 읽히는 key는 L1에 채울 때 더 오래 두도록 만료 시간을 늘린다.
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache implements MultiGetCache {
+
+    /**
+     * 다른 노드가 lease를 가지고 있을 때 L2에 값이 채워지기를 기다리는 최대 시간과 간격
+     */
+    private static final long LEASE_WAIT_MILLIS = 500L;
+    private static final long LEASE_POLL_MILLIS = 20L;
+
+    /**
+     * 지워진 key와 태그를 기억하는 시간
+     * 이보다 오래 걸린 읽기는 그동안 지워졌는지 알 수 없으므로 지워진 것으로 본다.
+     */
+    private static final Duration INVALIDATION_MEMORY = Duration.ofMinutes(1);
+
+    private final String name;
+    private final Cache<String, Object> localCache;
+    private final org.springframework.cache.Cache remoteCache;
+    private final Consumer<String> invalidationPublisher;
+    private final CacheLoadLease loadLease;
+    private final CacheRefreshPolicy refreshPolicy;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final StaleIfErrorPolicy staleIfErrorPolicy;
+    @Nullable
+    private final Cache<String, Object> staleCache;
+    private final AdaptiveTtlPolicy ttlPolicy;
+    private final Map<String, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+    private final AtomicLong invalidationClock = new AtomicLong();
+    private final Cache<String, Long> invalidatedAt = Caffeine.newBuilder().expireAfterWrite(INVALIDATION_MEMORY).build();
+    private volatile long clearedAt;
+
+    /**
+     * @param invalidationPublisher 지워진 key를 다른 노드에 알림 (null이면 캐시 전체 삭제)
+     */
+    public TwoLevelCache(String name, Cache<String, Object> localCache, org.springframework.cache.Cache remoteCache,
+                         Consumer<String> invalidationPublisher, CacheLoadLease loadLease, CacheRefreshPolicy refreshPolicy,
+                         StaleIfErrorPolicy staleIfErrorPolicy, AdaptiveTtlPolicy ttlPolicy) {
+        super(true);
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.invalidationPublisher = invalidationPublisher;
+        this.loadLease = loadLease;
+        this.refreshPolicy = refreshPolicy;
+        this.staleIfErrorPolicy = staleIfErrorPolicy;
+        this.staleCache = staleIfErrorPolicy.newStaleCache();
+        this.ttlPolicy = ttlPolicy;
+    }
+
+    /**
+     * L1 key는 노드 사이에 문자열로 주고받을 수 있도록 toString으로 만든다.
+     */
+    static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    @Nullable
+    protected Object lookup(Object key) {
+
+        ttlPolicy.recordRead(name, localKey(key));
+        Object storeValue = localCache.getIfPresent(localKey(key));
+        if (storeValue != null) {
+            return unwrap(storeValue);
+        }
+
+        LoadStamp stamp = stamp();
+        ValueWrapper remoteValue = remoteCache.get(key);
+        if (remoteValue == null) {
+            return null;
+        }
+        storeValue = toStoreValue(remoteValue.get());
+        putLocalIfCurrent(localKey(key), storeValue, stamp);
+        return unwrap(storeValue);
+
+    }
+
+    @Override
+    public Map<Object, ValueWrapper> getAll(Collection<?> keys) {
+
+        Map<Object, ValueWrapper> values = new LinkedHashMap<>();
+        List<Object> remoteKeys = new ArrayList<>();
+        for (Object key : keys) {
+            ttlPolicy.recordRead(name, localKey(key));
+            Object storeValue = localCache.getIfPresent(localKey(key));
+            if (storeValue != null) {
+                values.put(key, toValueWrapper(unwrap(storeValue)));
+            } else {
+                remoteKeys.add(key);
+            }
+        }
+
+        LoadStamp stamp = stamp();
+        MultiGetCache.getAll(remoteCache, remoteKeys).forEach((key, remoteValue) -> {
+            Object storeValue = toStoreValue(remoteValue.get());
+            putLocalIfCurrent(localKey(key), storeValue, stamp);
+            values.put(key, toValueWrapper(unwrap(storeValue)));
+        });
+        return values;
+
+    }
+
+    /**
+     * 많이 읽히는 key는 L1 spec의 TTL 대신 {@link AdaptiveTtlPolicy}가 정한 TTL 동안 둔다.
+     * L1에 채울 때만 늘리므로 계속 읽혀도 그 TTL이 지나면 L2에서 다시 읽어 온다.
+     */
+    private void putLocal(String localKey, Object storeValue) {
+        localCache.put(localKey, remember(localKey, storeValue));
+        promoteIfHot(localKey);
+    }
+
+    private void promoteIfHot(String localKey) {
+        Duration promotedLocalTtl = ttlPolicy.promotedLocalTtl(name, localKey);
+        if (promotedLocalTtl != null) {
+            localCache.policy().expireVariably()
+                    .ifPresent(expiration -> expiration.setExpiresAfter(localKey, promotedLocalTtl));
+        }
+    }
+
+    private static Object unwrap(Object storeValue) {
+        return storeValue instanceof TimedCacheValue timedCacheValue ? timedCacheValue.getValue() : storeValue;
+    }
+
+    /**
+     * 같은 노드에서 같은 key를 기다리는 요청은 loader를 실행하지 않고 먼저 온 요청의 결과를 받는다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+
+        String localKey = localKey(key);
+        ttlPolicy.recordRead(name, localKey);
+        Object storeValue = localCache.getIfPresent(localKey);
+        if (storeValue == null) {
+            try {
+                storeValue = loadOnce(key, localKey, valueLoader);
+            } catch (ValueRetrievalException e) {
+                return (T) fromStoreValue(unwrap(staleValue(localKey, e)));
+            }
+        }
+        if (storeValue instanceof TimedCacheValue timedCacheValue && refreshPolicy.shouldRefresh(timedCacheValue)) {
+            refreshAsync(key, valueLoader, stamp());
+        }
+        return (T) fromStoreValue(unwrap(storeValue));
+
+    }
+
+    /**
+     * stale-if-error를 위해 L1에 채운 값을 따로 남겨 둔다.
+     * 삭제(evict/clear)된 값은 지우지만, 다른 노드의 invalidation이나 태그 삭제(수정)로 지워진 값은 남겨 둔다.
+     */
+    private Object remember(String localKey, Object storeValue) {
+        if (staleCache != null) {
+            staleCache.put(localKey, storeValue);
+        }
+        return storeValue;
+    }
+
+    /**
+     * L1에는 채우지 않으므로 다음 요청은 다시 loader를 실행해 본다.
+     */
+    private Object staleValue(String localKey, ValueRetrievalException e) {
+
+        Object staleValue = staleCache == null ? null : staleCache.getIfPresent(localKey);
+        if (staleValue == null || !staleIfErrorPolicy.isBackendError(e)) {
+            throw e;
+        }
+        log.warn("캐시 값을 다시 읽어 오지 못해 stale 값을 돌려줌 cache={}, key={}", name, localKey, e);
+        StaleValueContext.markStale();
+        return staleValue;
+
+    }
+
+    /**
+     * L2 조회, lease 대기, loader는 L1의 compute 밖에서 실행해서 같은 bin의 다른 key를 막지 않는다.
+     * 먼저 온 요청이 key의 future를 만들어 읽어 오고, 나중에 온 요청은 그 future를 기다린다.
+     */
+    private Object loadOnce(Object key, String localKey, Callable<?> valueLoader) {
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = loading.putIfAbsent(localKey, flight);
+        if (leader != null) {
+            return await(leader);
+        }
+
+        try {
+            Object storeValue = localCache.getIfPresent(localKey);
+            if (storeValue == null) {
+                LoadStamp stamp = stamp();
+                storeValue = load(key, valueLoader);
+                putLocalIfCurrent(localKey, storeValue, stamp);
+            }
+            flight.complete(storeValue);
+            return storeValue;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(localKey, flight);
+        }
+
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 읽기를 시작한 시점
+     */
+    private record LoadStamp(long generation, long startNanos) {
+    }
+
+    private LoadStamp stamp() {
+        return new LoadStamp(invalidationClock.get(), System.nanoTime());
+    }
+
+    private void markInvalidated(@Nullable String localKeyOrTag) {
+        long generation = invalidationClock.incrementAndGet();
+        if (localKeyOrTag == null) {
+            clearedAt = generation;
+        } else {
+            invalidatedAt.put(localKeyOrTag, generation);
+        }
+    }
+
+    /**
+     * stamp 이후에 key나 key의 태그가 지워졌거나 캐시 전체가 지워졌는지
+     */
+    private boolean isInvalidatedSince(String localKey, LoadStamp stamp) {
+        if (System.nanoTime() - stamp.startNanos() >= INVALIDATION_MEMORY.toNanos() || clearedAt > stamp.generation()) {
+            return true;
+        }
+        Long keyInvalidatedAt = invalidatedAt.getIfPresent(localKey);
+        if (keyInvalidatedAt != null && keyInvalidatedAt > stamp.generation()) {
+            return true;
+        }
+        String tag = CacheTags.extract(localKey);
+        Long tagInvalidatedAt = tag == null ? null : invalidatedAt.getIfPresent(tag);
+        return tagInvalidatedAt != null && tagInvalidatedAt > stamp.generation();
+    }
+
+    /**
+     * 읽는 동안 지워지지 않았을 때만 L1에 채운다.
+     * 채운 직후에 지워졌으면 방금 채운 값을 다시 뺀다.
+     */
+    private void putLocalIfCurrent(String localKey, Object storeValue, LoadStamp stamp) {
+        if (isInvalidatedSince(localKey, stamp)) {
+            return;
+        }
+        putLocal(localKey, storeValue);
+        if (isInvalidatedSince(localKey, stamp)) {
+            localCache.asMap().remove(localKey, storeValue);
+        }
+    }
+
+    private Object load(Object key, Callable<?> valueLoader) {
+
+        ValueWrapper remoteValue = remoteCache.get(key);
+        if (remoteValue != null) {
+            return toStoreValue(remoteValue.get());
+        }
+
+        String leaseKey = leaseKey(key);
+        String token = loadLease.tryAcquire(leaseKey);
+        if (token == null) {
+            remoteValue = awaitRemote(key);
+            if (remoteValue != null) {
+                return toStoreValue(remoteValue.get());
+            }
+        }
+
+        try {
+            return loadToRemote(key, valueLoader);
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            if (token != null) {
+                loadLease.release(leaseKey, token);
+            }
+        }
+
+    }
+
+    private String leaseKey(Object key) {
+        return name + "::" + localKey(key);
+    }
+
+    /**
+     * loader를 실행하는 데 걸린 시간을 값과 함께 L2에 저장한다.
+     */
+    private Object loadToRemote(Object key, Callable<?> valueLoader) throws Exception {
+        Object storeValue = loadTimed(key, valueLoader);
+        remoteCache.put(key, storeValue);
+        return storeValue;
+    }
+
+    private Object loadTimed(Object key, Callable<?> valueLoader) throws Exception {
+
+        long start = System.nanoTime();
+        Object storeValue = toStoreValue(valueLoader.call());
+        if (refreshPolicy.isEnabled()) {
+            storeValue = refreshPolicy.timed(storeValue, (System.nanoTime() - start) / 1_000_000L,
+                    ttlPolicy.remoteTtl(name, localKey(key)));
+        }
+        return storeValue;
+
+    }
+
+    /**
+     * 호출한 요청은 지금 값을 그대로 받고, 다시 읽어 온 값은 L1/L2를 덮어쓴 뒤 다른 노드의 L1을 지운다.
+     * 노드 안에서는 key마다 하나만, 노드 사이에서는 lease를 얻은 노드만 다시 읽어 온다.
+     * loader는 호출한 요청의 트랜잭션 밖에서 실행되므로, 갱신하는 동안 key나 태그가 지워졌으면(커밋 뒤 invalidation) 다시 읽어 온 값을 버린다.
+     * 다른 노드에서 지운 것은 invalidation이 늦게 올 수 있으므로, 갱신하려던 값이 L2에 남아 있을 때만 덮어쓴다.
+     * loader는 {@link CacheRefreshPolicy}의 트랜잭션(읽기 전용) 안에서 실행해서 요청 경로와 같은 DB(replica)에서 읽는다.
+     * @param stamp 갱신하려는 값을 읽은 시점
+     */
+    private void refreshAsync(Object key, Callable<?> valueLoader, LoadStamp stamp) {
+
+        String localKey = localKey(key);
+        if (!refreshing.add(localKey)) {
+            return;
+        }
+
+        try {
+            refreshPolicy.getExecutor().execute(() -> {
+                String leaseKey = leaseKey(key);
+                String token = loadLease.tryAcquire(leaseKey);
+                try {
+                    if (token != null) {
+                        writeRefreshed(key, localKey, loadTimed(key, () -> refreshPolicy.callInTransaction(valueLoader)), stamp);
+                    }
+                } catch (Exception e) {
+                    log.warn("캐시 값 갱신 실패 cache={}, key={}", name, localKey, e);
+                } finally {
+                    if (token != null) {
+                        loadLease.release(leaseKey, token);
+                    }
+                    refreshing.remove(localKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(localKey);
+        }
+
+    }
+
+    private void writeRefreshed(Object key, String localKey, Object storeValue, LoadStamp stamp) {
+
+        if (isInvalidatedSince(localKey, stamp) || remoteCache.get(key) == null) {
+            log.debug("갱신하는 동안 지워져서 다시 읽어 온 값을 버림 cache={}, key={}", name, localKey);
+            return;
+        }
+        remoteCache.put(key, storeValue);
+        if (isInvalidatedSince(localKey, stamp)) {
+            // 확인한 뒤 L2에 쓰기 전에 지워졌으면 방금 쓴 값이 지워지지 않고 남는다.
+            remoteCache.evict(key);
+            return;
+        }
+        putLocalIfCurrent(localKey, storeValue, stamp);
+        invalidationPublisher.accept(localKey);
+
+    }
+
+    /**
+     * lease를 가진 노드가 L2에 값을 채울 때까지 기다린다. 기다려도 없으면 직접 읽어 온다.
+     */
+    @Nullable
+    private ValueWrapper awaitRemote(Object key) {
+
+        long deadline = System.currentTimeMillis() + LEASE_WAIT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(LEASE_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            ValueWrapper remoteValue = remoteCache.get(key);
+            if (remoteValue != null) {
+                return remoteValue;
+            }
+        }
+        return null;
+
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        ttlPolicy.recordWrite(name, localKey(key));
+        markInvalidated(localKey(key));
+        remoteCache.put(key, value);
+        putLocal(localKey(key), toStoreValue(value));
+        invalidationPublisher.accept(localKey(key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        ttlPolicy.recordWrite(name, localKey(key));
+        markInvalidated(localKey(key));
+        remoteCache.evict(key);
+        localCache.invalidate(localKey(key));
+        if (staleCache != null) {
+            staleCache.invalidate(localKey(key));
+        }
+        invalidationPublisher.accept(localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        markInvalidated(null);
+        remoteCache.clear();
+        localCache.invalidateAll();
+        if (staleCache != null) {
+            staleCache.invalidateAll();
+        }
+        invalidationPublisher.accept(null);
+    }
+
+    /**
+     * 태그로 시작하는 L1 key를 모두 지운다. (L2는 {@link CacheTagInvalidator}가 지운다.)
+     */
+    void evictLocalByTag(String tag) {
+        markInvalidated(tag);
+        localCache.asMap().keySet().removeIf(localKey -> {
+            if (!localKey.startsWith(tag)) {
+                return false;
+            }
+            ttlPolicy.recordWrite(name, localKey);
+            return true;
+        });
+    }
+
+    /**
+     * 다른 노드에서 온 invalidation을 L1에만 반영
+     * 백그라운드 갱신(XFetch)도 같은 invalidation을 보내므로 쓰기로 세지 않는다. (쓰기는 쓴 노드에서 센다.)
+     */
+    void evictLocal(@Nullable String localKey) {
+        markInvalidated(localKey);
+        if (localKey == null) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(localKey);
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+package yeonleaf.plantodo.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link TwoLevelCache}를 만들어 주는 CacheManager
+ * L2로 쓸 CacheManager(RedisCacheManager)가 만든 캐시마다 같은 스펙의 Caffeine L1을 붙인다.
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final Caffeine<Object, Object> localCacheSpec;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final CacheLoadLease loadLease;
+    private final CacheRefreshPolicy refreshPolicy;
+    private final StaleIfErrorPolicy staleIfErrorPolicy;
+    private final AdaptiveTtlPolicy ttlPolicy;
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager, Caffeine<Object, Object> localCacheSpec,
+                                CacheInvalidationPublisher invalidationPublisher) {
+        this(remoteCacheManager, localCacheSpec, invalidationPublisher, CacheLoadLease.NONE, CacheRefreshPolicy.NONE,
+                StaleIfErrorPolicy.NONE);
+    }
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager, Caffeine<Object, Object> localCacheSpec,
+                                CacheInvalidationPublisher invalidationPublisher, CacheLoadLease loadLease,
+                                CacheRefreshPolicy refreshPolicy, StaleIfErrorPolicy staleIfErrorPolicy) {
+        this(remoteCacheManager, localCacheSpec, invalidationPublisher, loadLease, refreshPolicy, staleIfErrorPolicy,
+                AdaptiveTtlPolicy.NONE);
+    }
+
+    /**
+     * @param ttlPolicy 핫 키를 L1에 더 오래 두려면 localCacheSpec에 {@link AdaptiveTtlPolicy#localExpiry}를 써야 한다.
+     */
+    public TwoLevelCacheManager(CacheManager remoteCacheManager, Caffeine<Object, Object> localCacheSpec,
+                                CacheInvalidationPublisher invalidationPublisher, CacheLoadLease loadLease,
+                                CacheRefreshPolicy refreshPolicy, StaleIfErrorPolicy staleIfErrorPolicy,
+                                AdaptiveTtlPolicy ttlPolicy) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localCacheSpec = localCacheSpec;
+        this.invalidationPublisher = invalidationPublisher;
+        this.loadLease = loadLease;
+        this.refreshPolicy = refreshPolicy;
+        this.staleIfErrorPolicy = staleIfErrorPolicy;
+        this.ttlPolicy = ttlPolicy;
+    }
+
+    @Override
+    @Nullable
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    private TwoLevelCache createCache(String name) {
+
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        return new TwoLevelCache(name, localCacheSpec.build(), remoteCache,
+                localKey -> invalidationPublisher.publish(name, localKey), loadLease, refreshPolicy, staleIfErrorPolicy, ttlPolicy);
+
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * 다른 노드가 발행한 invalidation을 이 노드의 L1에 반영
+     * @param localKey null이면 캐시 전체
+     */
+    public void evictLocal(String cacheName, @Nullable String localKey) {
+        TwoLevelCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.evictLocal(localKey);
+        }
+    }
+
+    public void evictTagLocal(String tag) {
+        caches.values().forEach(cache -> cache.evictLocalByTag(tag));
+    }
+
+    /**
+     * 캐시마다 이 노드에서 많이 읽힌 key
+     */
+    public Map<String, List<CacheAccessStats.HotKey>> hotKeys(int limit) {
+        return ttlPolicy.hotKeys(limit);
+    }
+
+}
@@ -22,6 +22,7 @@ import yeonleaf.plantodo.exceptions.ApiSimpleError;
 import yeonleaf.plantodo.exceptions.QueryStringValidationException;
 import yeonleaf.plantodo.service.*;
 import yeonleaf.plantodo.util.DateRange;
+import yeonleaf.plantodo.util.MemberContext;
 
 import java.time.LocalDate;
 import java.util.LinkedHashMap;
@@ -46,11 +47,12 @@ public class CalendarController {
             @ApiResponse(responseCode = "404", description = "resource not found", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiSimpleError.class))),
     })
     @GetMapping("/range")
-    public ResponseEntity<?> getByRange(@RequestParam Long memberId, @RequestParam LocalDate searchStart,
+    public ResponseEntity<?> getByRange(@RequestParam(required = false) Long memberId, @RequestParam LocalDate searchStart,
                                         @RequestParam LocalDate searchEnd) {
 
         checkSearchDates(searchStart, searchEnd);
 
+        memberId = MemberContext.resolve(memberId);
         checkMemberExists(memberId);
 
         LinkedHashMap<LocalDate, LinkedHashMap<PlanResDto, List<CheckboxResDto>>> result = makeCalendar(memberId, searchStart, searchEnd);
@@ -89,8 +91,13 @@ public class CalendarController {
 
     }
 
+    /**
+     * 토큰으로 확인한 회원이면 DB에서 다시 확인하지 않는다.
+     */
     private void checkMemberExists(Long memberId) {
-        memberService.findById(memberId);
+        if (!MemberContext.isCurrent(memberId)) {
+            memberService.findById(memberId);
+        }
     }
 
 }
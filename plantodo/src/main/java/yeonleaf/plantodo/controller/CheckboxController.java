@@ -11,6 +11,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -26,6 +27,8 @@ import yeonleaf.plantodo.exceptions.ApiSimpleError;
 import yeonleaf.plantodo.exceptions.ArgumentValidationException;
 import yeonleaf.plantodo.exceptions.QueryStringValidationException;
 import yeonleaf.plantodo.service.CheckboxService;
+import yeonleaf.plantodo.util.CheckboxCursor;
+import yeonleaf.plantodo.wrapper.SliceWrap;
 
 import java.time.LocalDate;
 
@@ -131,9 +134,16 @@ public class CheckboxController {
             @ApiResponse(responseCode = "404", description = "resource not found", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiSimpleError.class)))
     })
     @GetMapping(value = "/checkboxes/group", params = {"groupId"})
-    public ResponseEntity<?> allByGroup(@Parameter(description = "그룹 ID", required = true, example = "1") @RequestParam Long groupId) {
-
-        CollectionModel<EntityModel<CheckboxResDto>> collectionModel = checkboxModelAssembler.toCollectionModel(checkboxService.allByGroup(groupId));
+    public ResponseEntity<?> pageByGroup(@Parameter(description = "그룹 ID", required = true, example = "1") @RequestParam Long groupId,
+                                         @Parameter(description = "이전 페이지의 마지막 할일 ID", example = "1") @RequestParam(required = false) Long after,
+                                         @Parameter(description = "페이지 크기 (기본 100, 최대 500)", example = "100") @RequestParam(required = false) Integer limit) {
+
+        SliceWrap<CheckboxResDto> slice = checkboxService.pageByGroup(groupId, after, SliceWrap.checkLimit(limit));
+        CollectionModel<EntityModel<CheckboxResDto>> collectionModel = checkboxModelAssembler.toCollectionModel(slice.getWrap());
+        collectionModel.add(linkTo(methodOn(CheckboxController.class).pageByGroup(groupId, after, limit)).withSelfRel());
+        if (slice.isHasNext()) {
+            collectionModel.add(linkTo(methodOn(CheckboxController.class).pageByGroup(groupId, slice.getLast().getId(), limit)).withRel(IanaLinkRelations.NEXT));
+        }
         Link additionalLink = linkTo(methodOn(GroupController.class).one(groupId)).withRel("group");
         collectionModel.add(additionalLink);
         return ResponseEntity.status(HttpStatus.OK).body(collectionModel);
@@ -147,9 +157,17 @@ public class CheckboxController {
             @ApiResponse(responseCode = "404", description = "resource not found", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiSimpleError.class)))
     })
     @GetMapping(value = "/checkboxes/plan", params = {"planId"})
-    public ResponseEntity<?> allByPlan(@Parameter(description = "일정 ID", required = true, example = "1") @RequestParam Long planId) {
-
-        CollectionModel<EntityModel<CheckboxResDto>> collectionModel = checkboxModelAssembler.toCollectionModel(checkboxService.allByPlan(planId));
+    public ResponseEntity<?> pageByPlan(@Parameter(description = "일정 ID", required = true, example = "1") @RequestParam Long planId,
+                                        @Parameter(description = "이전 페이지의 마지막 할일 (날짜,ID)", example = "2023-08-04,1") @RequestParam(required = false) String after,
+                                        @Parameter(description = "페이지 크기 (기본 100, 최대 500)", example = "100") @RequestParam(required = false) Integer limit) {
+
+        SliceWrap<CheckboxResDto> slice = checkboxService.pageByPlan(planId, CheckboxCursor.parse(after), SliceWrap.checkLimit(limit));
+        CollectionModel<EntityModel<CheckboxResDto>> collectionModel = checkboxModelAssembler.toCollectionModel(slice.getWrap());
+        collectionModel.add(linkTo(methodOn(CheckboxController.class).pageByPlan(planId, after, limit)).withSelfRel());
+        if (slice.isHasNext()) {
+            String next = new CheckboxCursor(slice.getLast()).toString();
+            collectionModel.add(linkTo(methodOn(CheckboxController.class).pageByPlan(planId, next, limit)).withRel(IanaLinkRelations.NEXT));
+        }
         Link additionalLink = linkTo(methodOn(PlanController.class).one(planId)).withRel("plan");
         collectionModel.add(additionalLink);
         return ResponseEntity.status(HttpStatus.OK).body(collectionModel);
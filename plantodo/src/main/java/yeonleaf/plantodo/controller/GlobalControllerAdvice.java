@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.PersistenceException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -43,6 +44,42 @@ public class GlobalControllerAdvice {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseData);
     }
 
+    @ExceptionHandler(CustomJwtException.class)
+    @ResponseStatus(HttpStatus.UNAUTHORIZED)
+    ResponseEntity<?> customJwtExceptionHandler(CustomJwtException ex) throws JsonProcessingException {
+        ApiSimpleError apiSimpleError = new ApiSimpleError("JWT error", ex.getMessage());
+        String responseData = objectMapper.writeValueAsString(apiSimpleError);
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(responseData);
+    }
+
+    @ExceptionHandler(ResourceForbiddenException.class)
+    @ResponseStatus(HttpStatus.FORBIDDEN)
+    ResponseEntity<?> resourceForbiddenExceptionHandler(ResourceForbiddenException ex) throws JsonProcessingException {
+        ApiSimpleError apiSimpleError = new ApiSimpleError("Forbidden", "Resource belongs to another member");
+        String responseData = objectMapper.writeValueAsString(apiSimpleError);
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(responseData);
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    ResponseEntity<?> rateLimitExceededExceptionHandler(RateLimitExceededException ex) throws JsonProcessingException {
+        ApiSimpleError apiSimpleError = new ApiSimpleError("Too Many Requests", "Retry after " + ex.getRetryAfterSeconds() + " seconds");
+        String responseData = objectMapper.writeValueAsString(apiSimpleError);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(responseData);
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    ResponseEntity<?> serviceOverloadedExceptionHandler(ServiceOverloadedException ex) throws JsonProcessingException {
+        ApiSimpleError apiSimpleError = new ApiSimpleError("Service Unavailable", "Too many expensive requests, retry after " + ex.getRetryAfterSeconds() + " seconds");
+        String responseData = objectMapper.writeValueAsString(apiSimpleError);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(responseData);
+    }
+
     @ExceptionHandler(PersistenceException.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     ResponseEntity<?> persistenceExceptionHandler(PersistenceException ex) throws JsonProcessingException {
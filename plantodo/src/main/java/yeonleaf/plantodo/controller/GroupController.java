@@ -11,6 +11,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -24,9 +25,13 @@ import yeonleaf.plantodo.exceptions.ArgumentValidationException;
 import yeonleaf.plantodo.exceptions.QueryStringValidationException;
 import yeonleaf.plantodo.service.GroupService;
 import yeonleaf.plantodo.validator.RepInputValidator;
+import yeonleaf.plantodo.wrapper.SliceWrap;
 
 import java.time.LocalDate;
 
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
 @Tag(name = "group", description = "주기적으로 반복되는 할 일을 관리하는 그룹 API")
 @RestController
 @RequiredArgsConstructor
@@ -123,9 +128,16 @@ public class GroupController {
             @ApiResponse(responseCode = "404", description = "resource not found", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiSimpleError.class)))
     })
     @GetMapping(value = "/groups", params = {"planId"})
-    public ResponseEntity<?> all(@Parameter(description = "일정 ID", required = true, example = "1") @RequestParam Long planId) {
-
-        CollectionModel<EntityModel<GroupResDto>> collectionModel = groupModelAssembler.toCollectionModel(groupService.all(planId));
+    public ResponseEntity<?> page(@Parameter(description = "일정 ID", required = true, example = "1") @RequestParam Long planId,
+                                  @Parameter(description = "이전 페이지의 마지막 그룹 ID", example = "1") @RequestParam(required = false) Long after,
+                                  @Parameter(description = "페이지 크기 (기본 100, 최대 500)", example = "100") @RequestParam(required = false) Integer limit) {
+
+        SliceWrap<GroupResDto> slice = groupService.page(planId, after, SliceWrap.checkLimit(limit));
+        CollectionModel<EntityModel<GroupResDto>> collectionModel = groupModelAssembler.toCollectionModel(slice.getWrap());
+        collectionModel.add(linkTo(methodOn(GroupController.class).page(planId, after, limit)).withSelfRel());
+        if (slice.isHasNext()) {
+            collectionModel.add(linkTo(methodOn(GroupController.class).page(planId, slice.getLast().getId(), limit)).withRel(IanaLinkRelations.NEXT));
+        }
         return ResponseEntity.status(HttpStatus.OK).body(collectionModel);
 
     }
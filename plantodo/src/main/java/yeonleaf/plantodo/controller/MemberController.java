@@ -18,12 +18,16 @@ import yeonleaf.plantodo.domain.Member;
 import yeonleaf.plantodo.dto.JwtTokenDto;
 import yeonleaf.plantodo.dto.MemberReqDto;
 import yeonleaf.plantodo.dto.MemberResDto;
+import yeonleaf.plantodo.dto.RefreshTokenReqDto;
 import yeonleaf.plantodo.exceptions.ApiBindingError;
 import yeonleaf.plantodo.exceptions.ApiSimpleError;
 import yeonleaf.plantodo.exceptions.ArgumentValidationException;
+import yeonleaf.plantodo.exceptions.CustomJwtException;
 import yeonleaf.plantodo.exceptions.ResourceNotFoundException;
 import yeonleaf.plantodo.provider.JwtBasicProvider;
 import yeonleaf.plantodo.provider.JwtProvider;
+import yeonleaf.plantodo.provider.RefreshTokenStore;
+import yeonleaf.plantodo.service.CacheWarmer;
 import yeonleaf.plantodo.service.MemberService;
 import yeonleaf.plantodo.validator.JoinFormatCheckValidator;
 import java.util.Optional;
@@ -40,6 +44,8 @@ public class MemberController {
     private final MemberService memberService;
     private final JoinFormatCheckValidator joinFormatCheckValidator = new JoinFormatCheckValidator();
     private final JwtBasicProvider jwtProvider;
+    private final CacheWarmer cacheWarmer;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Operation(summary = "회원 등록", description = "이메일과 비밀번호를 입력해 회원을 등록합니다.")
     @ApiResponses(value = {
@@ -80,9 +86,55 @@ public class MemberController {
         }
 
         Long memberId = memberService.login(memberReqDto);
-        JwtTokenDto token = new JwtTokenDto(jwtProvider.generateToken(memberId));
-        EntityModel<JwtTokenDto> entityModel = EntityModel.of(token, linkTo(methodOn(PlanController.class).all(memberId)).withRel("plans"));
+        RefreshTokenStore.RefreshToken refreshToken = refreshTokenStore.issue(memberId);
+        cacheWarmer.warmUp(memberId);
+        return tokenResponse(refreshToken);
+
+    }
+
+    private ResponseEntity<?> tokenResponse(RefreshTokenStore.RefreshToken refreshToken) {
+        Long memberId = refreshToken.memberId();
+        JwtTokenDto token = new JwtTokenDto(jwtProvider.generateToken(memberId, refreshToken.familyId()), refreshToken.value());
+        EntityModel<JwtTokenDto> entityModel = EntityModel.of(token, linkTo(methodOn(PlanController.class).page(memberId, null, null)).withRel("plans"));
         return ResponseEntity.status(HttpStatus.OK).body(entityModel);
+    }
+
+    @Operation(summary = "토큰 재발급", description = "refresh 토큰으로 access 토큰과 refresh 토큰을 다시 발급받습니다. (로그인 없이 DB를 조회하지 않습니다.)\n" +
+            "refresh 토큰은 한 번만 쓸 수 있고, 이미 쓴 refresh 토큰을 다시 보내면 같은 로그인에서 발급된 토큰이 모두 폐기됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "successful operation", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = JwtTokenDto.class))),
+            @ApiResponse(responseCode = "400", description = "validation errors", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiBindingError.class))),
+            @ApiResponse(responseCode = "401", description = "invalid, expired or reused refresh token", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiSimpleError.class))),
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@Valid @RequestBody RefreshTokenReqDto refreshTokenReqDto, BindingResult bindingResult) {
+
+        if (bindingResult.hasErrors()) {
+            throw new ArgumentValidationException("입력값 타입/내용 오류", bindingResult);
+        }
+
+        RefreshTokenStore.RefreshToken refreshToken = refreshTokenStore.rotate(refreshTokenReqDto.getRefreshToken());
+        if (refreshToken == null) {
+            throw new CustomJwtException("REFRESH TOKEN이 유효하지 않음 (재로그인 필요)");
+        }
+        return tokenResponse(refreshToken);
+
+    }
+
+    @Operation(summary = "로그아웃", description = "refresh 토큰과 같은 로그인에서 발급된 access 토큰을 모두 폐기합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "successful operation", content = @Content),
+            @ApiResponse(responseCode = "400", description = "validation errors", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiBindingError.class))),
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@Valid @RequestBody RefreshTokenReqDto refreshTokenReqDto, BindingResult bindingResult) {
+
+        if (bindingResult.hasErrors()) {
+            throw new ArgumentValidationException("입력값 타입/내용 오류", bindingResult);
+        }
+
+        refreshTokenStore.revoke(refreshTokenReqDto.getRefreshToken());
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
 
     }
 
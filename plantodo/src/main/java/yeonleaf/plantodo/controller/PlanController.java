@@ -11,6 +11,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -26,6 +27,8 @@ import yeonleaf.plantodo.exceptions.*;
 import yeonleaf.plantodo.provider.JwtBasicProvider;
 import yeonleaf.plantodo.service.MemberService;
 import yeonleaf.plantodo.service.PlanService;
+import yeonleaf.plantodo.util.MemberContext;
+import yeonleaf.plantodo.wrapper.SliceWrap;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -40,6 +43,11 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 @RequiredArgsConstructor
 public class PlanController {
 
+    /**
+     * 한 번에 조회할 수 있는 일정 ID 개수
+     */
+    private static final int MAX_IDS = 100;
+
     private final PlanService planService;
     private final PlanModelAssembler planModelAssembler;
 
@@ -93,6 +101,33 @@ public class PlanController {
 
     }
 
+    @Operation(summary = "여러 개의 Plan 조회 (ID로 조회)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "successful operation", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = CollectionModel.class))),
+            @ApiResponse(responseCode = "400", description = "query string validation", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiBindingError.class))),
+            @ApiResponse(responseCode = "401", description = "jwt token errors", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiSimpleError.class)))
+    })
+    @GetMapping(value = "/plans", params = {"ids"})
+    public ResponseEntity<?> all(@Parameter(description = "일정 ID 목록 (최대 100개, 없는 ID는 빠진다)", required = true, example = "1,2,3") @RequestParam List<Long> ids) {
+
+        checkIds(ids);
+
+        List<EntityModel<PlanResDto>> all = planService.allByIds(ids).stream().map(planModelAssembler::toModel).toList();
+        CollectionModel<EntityModel<PlanResDto>> collectionModel = CollectionModel.of(all, linkTo(methodOn(PlanController.class).all(ids)).withSelfRel());
+        return ResponseEntity.status(HttpStatus.OK).body(collectionModel);
+
+    }
+
+    private void checkIds(List<Long> ids) {
+
+        if (ids.isEmpty() || ids.size() > MAX_IDS || ids.contains(null)) {
+            QueryStringValidationException errors = new QueryStringValidationException();
+            errors.rejectValue("ids", "ids는 1개 이상 " + MAX_IDS + "개 이하여야 합니다.");
+            throw errors;
+        }
+
+    }
+
     @Operation(summary = "Plan 수정")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "successful operation", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = PlanResDto.class))),
@@ -153,11 +188,18 @@ public class PlanController {
             @ApiResponse(responseCode = "401", description = "jwt token errors", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiSimpleError.class))),
             @ApiResponse(responseCode = "404", description = "resource not found", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiSimpleError.class)))
     })
-    @GetMapping(value = "/plans", params = {"memberId"})
-    public ResponseEntity<?> all(@Parameter(description = "회원 ID", required = true, example = "1") @RequestParam Long memberId) {
-
-        List<EntityModel<PlanResDto>> all = planService.all(memberId).getWrap().stream().map(planModelAssembler::toModel).toList();
-        CollectionModel<EntityModel<PlanResDto>> collectionModel = CollectionModel.of(all, linkTo(methodOn(PlanController.class)).withSelfRel());
+    @GetMapping(value = "/plans", params = {"!ids"})
+    public ResponseEntity<?> page(@Parameter(description = "회원 ID (생략하면 토큰의 회원)", example = "1") @RequestParam(required = false) Long memberId,
+                                  @Parameter(description = "이전 페이지의 마지막 일정 ID", example = "1") @RequestParam(required = false) Long after,
+                                  @Parameter(description = "페이지 크기 (기본 100, 최대 500)", example = "100") @RequestParam(required = false) Integer limit) {
+
+        memberId = MemberContext.resolve(memberId);
+        SliceWrap<PlanResDto> slice = planService.page(memberId, after, SliceWrap.checkLimit(limit));
+        List<EntityModel<PlanResDto>> all = slice.getWrap().stream().map(planModelAssembler::toModel).toList();
+        CollectionModel<EntityModel<PlanResDto>> collectionModel = CollectionModel.of(all, linkTo(methodOn(PlanController.class).page(memberId, after, limit)).withSelfRel());
+        if (slice.isHasNext()) {
+            collectionModel.add(linkTo(methodOn(PlanController.class).page(memberId, slice.getLast().getId(), limit)).withRel(IanaLinkRelations.NEXT));
+        }
         return ResponseEntity.status(HttpStatus.OK).body(collectionModel);
 
     }
@@ -168,14 +210,15 @@ public class PlanController {
             @ApiResponse(responseCode = "401", description = "jwt token errors", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiSimpleError.class))),
             @ApiResponse(responseCode = "404", description = "resource not found", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiSimpleError.class)))
     })
-    @GetMapping(value = "/plans/date", params = {"memberId", "dateKey"})
-    public ResponseEntity<?> all(@Parameter(description = "회원 ID", required = true, example = "1") @RequestParam Long memberId,
+    @GetMapping(value = "/plans/date", params = {"dateKey"})
+    public ResponseEntity<?> all(@Parameter(description = "회원 ID (생략하면 토큰의 회원)", example = "1") @RequestParam(required = false) Long memberId,
                                  @Parameter(description = "검색일", required = true, example = "2023-08-04") @RequestParam LocalDate dateKey) {
 
+        memberId = MemberContext.resolve(memberId);
         List<EntityModel<PlanResDto>> all = planService.all(memberId, dateKey).getWrap().stream().map(planModelAssembler::toModel).toList();
         CollectionModel<EntityModel<PlanResDto>> collectionModel = CollectionModel.of(all,
                 linkTo(methodOn(PlanController.class).all(memberId, dateKey)).withSelfRel(),
-                linkTo(methodOn(PlanController.class).all(memberId)).withRel("plans"));
+                linkTo(methodOn(PlanController.class).page(memberId, null, null)).withRel("plans"));
         return ResponseEntity.status(HttpStatus.OK).body(collectionModel);
 
     }
@@ -187,17 +230,18 @@ public class PlanController {
             @ApiResponse(responseCode = "401", description = "jwt token errors", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiSimpleError.class))),
             @ApiResponse(responseCode = "404", description = "resource not found", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiSimpleError.class)))
     })
-    @GetMapping(value = "/plans/range", params = {"memberId", "searchStart", "searchEnd"})
-    public ResponseEntity<?> all(@Parameter(description = "회원 ID", required = true, example = "1") @RequestParam Long memberId,
+    @GetMapping(value = "/plans/range", params = {"searchStart", "searchEnd"})
+    public ResponseEntity<?> all(@Parameter(description = "회원 ID (생략하면 토큰의 회원)", example = "1") @RequestParam(required = false) Long memberId,
                                  @Parameter(description = "검색 시작일", required = true, example = "2023-08-04") @RequestParam LocalDate searchStart,
                                  @Parameter(description = "검색 종료일", required = true, example = "2023-08-17")@RequestParam LocalDate searchEnd) {
 
         checkSearchDates(searchStart, searchEnd);
+        memberId = MemberContext.resolve(memberId);
 
         List<EntityModel<PlanResDto>> all = planService.all(memberId, searchStart, searchEnd).getWrap().stream().map(planModelAssembler::toModel).toList();
         CollectionModel<EntityModel<PlanResDto>> collectionModel = CollectionModel.of(all,
                 linkTo(methodOn(PlanController.class).all(memberId, searchStart, searchEnd)).withSelfRel(),
-                linkTo(methodOn(PlanController.class).all(memberId)).withRel("plans"));
+                linkTo(methodOn(PlanController.class).page(memberId, null, null)).withRel("plans"));
         return ResponseEntity.status(HttpStatus.OK).body(collectionModel);
 
     }
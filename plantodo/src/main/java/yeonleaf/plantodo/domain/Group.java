@@ -5,9 +5,13 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import yeonleaf.plantodo.HibernateCacheConfig;
 
 @Entity
 @Table(name = "group_table")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.GROUP_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
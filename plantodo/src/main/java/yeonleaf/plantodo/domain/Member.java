@@ -8,9 +8,18 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import yeonleaf.plantodo.HibernateCacheConfig;
 import yeonleaf.plantodo.dto.MemberReqDto;
 
+import java.util.Locale;
+
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.MEMBER_REGION)
+@NaturalIdCache(region = HibernateCacheConfig.MEMBER_NATURAL_ID_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,17 +28,26 @@ public class Member {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
+    @NaturalId
     private String email;
     private String password;
 
     public Member(MemberReqDto memberReqDto) {
-        this.email = memberReqDto.getEmail();
+        this.email = normalizeEmail(memberReqDto.getEmail());
         this.password = memberReqDto.getPassword();
     }
 
     public Member(String email, String password) {
-        this.email = email;
+        this.email = normalizeEmail(email);
         this.password = password;
     }
 
+    /**
+     * 대소문자만 다른 이메일은 같은 회원으로 본다.
+     * email 컬럼의 unique 제약이 정규화한 값에 걸리도록 저장할 때와 조회할 때 모두 거친다.
+     */
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.strip().toLowerCase(Locale.ROOT);
+    }
+
 }
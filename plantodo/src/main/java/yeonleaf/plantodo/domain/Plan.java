@@ -39,6 +39,10 @@ public class Plan {
 
     private PlanStatus status;
 
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "daily_group_id")
+    private Group dailyGroup;
+
     public Plan(PlanReqDto planReqDto, Member member) {
         this.title = planReqDto.getTitle();
         this.start = planReqDto.getStart();
@@ -12,8 +12,15 @@ public class JwtTokenDto {
 
     private String token;
 
+    private String refreshToken;
+
     public JwtTokenDto(String token) {
         this.token = token;
     }
 
+    public JwtTokenDto(String token, String refreshToken) {
+        this.token = token;
+        this.refreshToken = refreshToken;
+    }
+
 }
@@ -0,0 +1,18 @@
+package yeonleaf.plantodo.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshTokenReqDto {
+
+    @NotBlank(message = "refreshToken should be not null, not blank, not empty string")
+    @Schema(example = "Zm9vYmFyYmF6cXV4cXV1eGNvcmdlZ3JhdWx0Z2FycGx5")
+    private String refreshToken;
+
+}
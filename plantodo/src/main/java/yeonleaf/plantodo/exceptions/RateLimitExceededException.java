@@ -0,0 +1,22 @@
+package yeonleaf.plantodo.exceptions;
+
+import lombok.Getter;
+
+/**
+ * 회원의 요청 한도를 넘은 요청 (429)
+ * stack trace는 {@link ResourceNotFoundException}처럼 채우지 않는다.
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    /**
+     * 다음 요청을 보낼 수 있을 때까지 기다려야 하는 시간 (Retry-After 헤더, 초)
+     */
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super(null, null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+}
@@ -0,0 +1,13 @@
+package yeonleaf.plantodo.exceptions;
+
+/**
+ * 다른 회원의 일정/그룹/할일에 접근하는 요청
+ * stack trace는 {@link ResourceNotFoundException}처럼 채우지 않는다.
+ */
+public class ResourceForbiddenException extends RuntimeException {
+
+    public ResourceForbiddenException() {
+        super(null, null, false, false);
+    }
+
+}
@@ -3,15 +3,21 @@ package yeonleaf.plantodo.exceptions;
 import lombok.Getter;
 import lombok.Setter;
 
+/**
+ * 없는 id를 조회하는 요청은 자주 반복되고 404로만 응답하므로 stack trace를 채우지 않는다.
+ * 원인(cause)이 있는 경우만 stack trace를 남긴다.
+ * 같은 이유로 상태 코드로만 응답하는 예외(403, 429, 503)도 stack trace를 채우지 않는다.
+ */
 @Getter
 @Setter
 public class ResourceNotFoundException extends RuntimeException {
 
     public ResourceNotFoundException() {
+        super(null, null, false, false);
     }
 
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public ResourceNotFoundException(String message, Throwable cause) {
@@ -0,0 +1,22 @@
+package yeonleaf.plantodo.exceptions;
+
+import lombok.Getter;
+
+/**
+ * 비용이 큰 요청을 받을 여유가 없어서 처리하지 않고 돌려보내는 요청 (503)
+ * stack trace는 {@link ResourceNotFoundException}처럼 채우지 않는다.
+ */
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+
+    /**
+     * Retry-After 헤더 (초)
+     */
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(long retryAfterSeconds) {
+        super(null, null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+}
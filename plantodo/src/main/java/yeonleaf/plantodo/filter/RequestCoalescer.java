@@ -0,0 +1,107 @@
+package yeonleaf.plantodo.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 처리 중인 GET 요청 목록
+ * 같은 회원이 같은 URL(쿼리 스트링 포함)로 GET 요청을 동시에 보내면 먼저 온 요청(leader)만 컨트롤러를 실행하고,
+ * 뒤에 온 요청(follower)은 leader의 응답 byte를 받아서 그대로 내보낸다.
+ * leader의 응답을 나눠 쓸 수 없으면(200 JSON이 아니거나 이미 인코딩된 응답) follower는 각자 처리한다.
+ * 처리 중인 동안만 들고 있지만, 회원이 쓰기 요청을 보내면 그 회원의 처리 중인 요청은 목록에서 뺀다. (쓰기 뒤에 온 요청이 쓰기 전의 응답을 받지 않도록)
+ */
+@Slf4j
+public class RequestCoalescer {
+
+    public static final String FLIGHT_ATTRIBUTE = RequestCoalescer.class.getName() + ".FLIGHT";
+
+    /**
+     * {@link RequestCoalescingFilter}를 거친 요청 (leader 응답을 모을 필터가 없으면 leader로 등록하지 않는다.)
+     */
+    public static final String FILTERED_ATTRIBUTE = RequestCoalescer.class.getName() + ".FILTERED";
+
+    /**
+     * leader의 응답을 나눠 받은 follower 요청 ({@link ResponseCacheFilter}가 저장하지 않고 Accept-Encoding에 맞춰 내보낸다.)
+     */
+    public static final String SHARED_ATTRIBUTE = RequestCoalescer.class.getName() + ".SHARED";
+
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+    private final long maxWaitMillis;
+
+    public RequestCoalescer(long maxWaitMillis) {
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    /**
+     * HATEOAS 링크가 요청 URL(scheme, host)로 만들어지므로 key에 요청 URL 전체를 넣는다.
+     */
+    public static String key(Long memberId, HttpServletRequest request) {
+        String queryString = request.getQueryString();
+        return memberId + " " + request.getRequestURL() + (queryString == null ? "" : "?" + queryString);
+    }
+
+    /**
+     * 같은 요청이 처리 중이면 끝날 때까지 기다렸다가 응답을 받고, 없으면 leader로 등록한다.
+     * leader가 되면 요청 attribute에 남겨 두고 {@link RequestCoalescingFilter}가 응답을 모아 끝낸다.
+     * @return follower가 나눠 받은 응답, leader가 되었거나 나눠 받을 수 없으면 null
+     */
+    @Nullable
+    public SharedResponse join(String key, HttpServletRequest request) {
+
+        Flight flight = new Flight(key);
+        Flight leader = flights.putIfAbsent(key, flight);
+        if (leader == null) {
+            request.setAttribute(FLIGHT_ATTRIBUTE, flight);
+            return null;
+        }
+
+        try {
+            return leader.response.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+
+    }
+
+    /**
+     * leader의 응답을 follower에게 넘기고 목록에서 뺀다. 나눠 쓸 수 없는 응답이면 null을 넘긴다.
+     */
+    public void land(Flight flight, @Nullable SharedResponse response) {
+        flights.remove(flight.key, flight);
+        flight.response.complete(response);
+    }
+
+    /**
+     * 회원의 처리 중인 요청을 목록에서 뺀다. 이미 기다리고 있는 follower는 그대로 leader의 응답을 받고, 새로 온 요청은 새 leader가 된다.
+     */
+    public void forget(Long memberId) {
+        String prefix = memberId + " ";
+        flights.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    public static class Flight {
+
+        private final String key;
+        private final CompletableFuture<SharedResponse> response = new CompletableFuture<>();
+
+        private Flight(String key) {
+            this.key = key;
+        }
+
+    }
+
+    public record SharedResponse(String contentType, byte[] body) {
+    }
+
+}
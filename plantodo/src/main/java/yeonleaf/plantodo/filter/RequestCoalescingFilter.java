@@ -0,0 +1,62 @@
+package yeonleaf.plantodo.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import yeonleaf.plantodo.interceptor.RequestCoalescingInterceptor;
+import yeonleaf.plantodo.interceptor.ResponseCacheInterceptor;
+
+import java.io.IOException;
+
+/**
+ * leader 요청의 응답 byte를 모아 같은 요청을 기다리는 follower에게 넘긴다.
+ * leader와 follower를 정하는 일은 JWT를 확인한 다음에 {@link RequestCoalescingInterceptor}가 한다.
+ * {@link ResponseCacheFilter}보다 안쪽에서 실행되어 인코딩하기 전의 응답을 모은다.
+ * 컨트롤러가 만든 200 JSON 응답만 넘기고, 그 밖의 응답이나 예외는 follower가 각자 처리하도록 null을 넘긴다.
+ */
+@RequiredArgsConstructor
+public class RequestCoalescingFilter extends OncePerRequestFilter {
+
+    private final RequestCoalescer requestCoalescer;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        if (!"GET".equals(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        request.setAttribute(RequestCoalescer.FILTERED_ATTRIBUTE, Boolean.TRUE);
+        RequestCoalescer.SharedResponse sharedResponse = null;
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            if (isShareable(request, responseWrapper)) {
+                sharedResponse = new RequestCoalescer.SharedResponse(responseWrapper.getContentType(), responseWrapper.getContentAsByteArray());
+            }
+        } finally {
+            if (request.getAttribute(RequestCoalescer.FLIGHT_ATTRIBUTE) instanceof RequestCoalescer.Flight flight) {
+                requestCoalescer.land(flight, sharedResponse);
+            }
+        }
+        responseWrapper.copyBodyToResponse();
+
+    }
+
+    private boolean isShareable(HttpServletRequest request, ContentCachingResponseWrapper responseWrapper) {
+        return request.getAttribute(RequestCoalescer.FLIGHT_ATTRIBUTE) != null
+                && request.getAttribute(ResponseCacheInterceptor.HIT_ATTRIBUTE) == null
+                && responseWrapper.getStatus() == HttpServletResponse.SC_OK
+                && responseWrapper.getContentType() != null
+                && responseWrapper.getContentType().contains("json")
+                && responseWrapper.getHeader(HttpHeaders.CONTENT_ENCODING) == null
+                && responseWrapper.getHeader(HttpHeaders.WARNING) == null;
+    }
+
+}
@@ -0,0 +1,74 @@
+package yeonleaf.plantodo.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import yeonleaf.plantodo.cache.CachedResponse;
+import yeonleaf.plantodo.cache.ResponseCache;
+import yeonleaf.plantodo.interceptor.ResponseCacheInterceptor;
+
+import java.io.IOException;
+
+/**
+ * {@link ResponseCache}에 저장할 응답 byte를 모은다.
+ * key를 만들고 캐시에서 응답을 꺼내 쓰는 일은 JWT를 확인한 다음에 {@link ResponseCacheInterceptor}가 한다.
+ * 컨트롤러가 만든 200 JSON 응답만 저장하고, stale 값으로 만든 응답(Warning 헤더)은 저장하지 않는다.
+ * 같은 GET의 leader 응답을 나눠 받은 follower 응답은 저장하지 않고 인코딩만 한다. (leader가 저장한다.)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    public static final String KEY_ATTRIBUTE = ResponseCacheFilter.class.getName() + ".KEY";
+
+    private final ResponseCache responseCache;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        if (!responseCache.matches(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, responseWrapper);
+
+        if (request.getAttribute(RequestCoalescer.SHARED_ATTRIBUTE) != null) {
+            ResponseCache.write(responseWrapper.getContentType(), responseWrapper.getContentAsByteArray(), request, response);
+            return;
+        }
+
+        String key = (String) request.getAttribute(KEY_ATTRIBUTE);
+        if (key == null || !isCacheable(request, responseWrapper)) {
+            responseWrapper.copyBodyToResponse();
+            return;
+        }
+
+        CachedResponse cachedResponse;
+        try {
+            cachedResponse = responseCache.put(key, responseWrapper.getContentType(), responseWrapper.getContentAsByteArray());
+        } catch (RuntimeException e) {
+            log.warn("응답 캐시 저장 실패 key={}", key, e);
+            responseWrapper.copyBodyToResponse();
+            return;
+        }
+        ResponseCache.write(cachedResponse, request, response);
+
+    }
+
+    private boolean isCacheable(HttpServletRequest request, ContentCachingResponseWrapper responseWrapper) {
+        return request.getAttribute(ResponseCacheInterceptor.HIT_ATTRIBUTE) == null
+                && responseWrapper.getStatus() == HttpServletResponse.SC_OK
+                && responseWrapper.getContentType() != null
+                && responseWrapper.getContentType().contains("json")
+                && responseWrapper.getHeader(HttpHeaders.WARNING) == null;
+    }
+
+}
@@ -0,0 +1,43 @@
+package yeonleaf.plantodo.interceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import yeonleaf.plantodo.admission.AdmissionController;
+import yeonleaf.plantodo.admission.Bulkhead;
+import yeonleaf.plantodo.exceptions.ServiceOverloadedException;
+import yeonleaf.plantodo.util.MemberContext;
+
+/**
+ * 마지막 인터셉터로 실행되어, 기간으로 조회하는 요청을 {@link AdmissionController}의 bulkhead에 들여보낸다.
+ * {@link ResponseCacheInterceptor}가 캐시된 응답을 내보낸 요청은 여기까지 오지 않는다.
+ * 자리가 나지 않으면 {@link ServiceOverloadedException}을 던진다. (503, Retry-After)
+ * 받은 permit은 요청 attribute에 두었다가 응답이 끝나면 돌려준다.
+ */
+@RequiredArgsConstructor
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT = AdmissionControlInterceptor.class.getName() + ".PERMIT";
+
+    private final AdmissionController admissionController;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        Long memberId = MemberContext.get(request);
+        Bulkhead.Permit permit = admissionController.admit(request, memberId == null ? 0L : memberId);
+        if (permit != null) {
+            request.setAttribute(PERMIT, permit);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) throws Exception {
+        if (request.getAttribute(PERMIT) instanceof Bulkhead.Permit permit) {
+            request.removeAttribute(PERMIT);
+            permit.close();
+        }
+    }
+
+}
@@ -1,10 +1,7 @@
 package yeonleaf.plantodo.interceptor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.MalformedJwtException;
-import io.jsonwebtoken.security.SignatureException;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -13,24 +10,33 @@ import org.springframework.http.MediaType;
 import org.springframework.web.servlet.HandlerInterceptor;
 import yeonleaf.plantodo.exceptions.ApiSimpleError;
 import yeonleaf.plantodo.exceptions.CustomJwtException;
-import javax.crypto.SecretKey;
+import yeonleaf.plantodo.provider.JwtBasicProvider;
+import yeonleaf.plantodo.provider.JwtTokenVerifier;
+import yeonleaf.plantodo.provider.RefreshTokenStore;
+import yeonleaf.plantodo.util.MemberContext;
 import java.io.IOException;
 
 @RequiredArgsConstructor
 public class LoginCheckInterceptor implements HandlerInterceptor {
 
-    private final SecretKey jwtSecretKey;
+    private final JwtTokenVerifier jwtTokenVerifier;
+    private final RefreshTokenStore refreshTokenStore;
     private final ObjectMapper objectMapper;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
         String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        Claims claims;
         try {
-            parseJwtToken(authHeader);
+            claims = parseJwtToken(authHeader);
         } catch (CustomJwtException ex) {
             setResponseError(response, ex);
             return false;
         }
+        Long memberId = claims.get("id", Long.class);
+        if (memberId != null) {
+            MemberContext.set(request, memberId);
+        }
         return true;
     }
 
@@ -41,20 +47,21 @@ public class LoginCheckInterceptor implements HandlerInterceptor {
         response.getWriter().write(objectMapper.writeValueAsString(new ApiSimpleError("JWT error", ex.getMessage())));
     }
 
-    private void parseJwtToken(String header) {
+    private Claims parseJwtToken(String header) {
         validateToken(header);
         String token = extractToken(header);
+        Claims claims = jwtTokenVerifier.verify(token);
+        checkRevoked(claims);
+        return claims;
+    }
 
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(jwtSecretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-        } catch (MalformedJwtException | SignatureException mje) {
-            throw new CustomJwtException("JWT TOKEN이 유효하지 않음");
-        } catch (ExpiredJwtException eje) {
-            throw new CustomJwtException("JWT TOKEN이 만료 (재로그인 필요)");
+    /**
+     * 로그아웃했거나 refresh 토큰이 재사용되어 폐기된 family의 access 토큰은 만료 전이라도 통과시키지 않는다.
+     */
+    private void checkRevoked(Claims claims) {
+        String familyId = claims.get(JwtBasicProvider.FAMILY_CLAIM, String.class);
+        if (familyId != null && refreshTokenStore.isRevoked(familyId)) {
+            throw new CustomJwtException("JWT TOKEN이 폐기됨 (재로그인 필요)");
         }
     }
 
@@ -0,0 +1,67 @@
+package yeonleaf.plantodo.interceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import yeonleaf.plantodo.cache.OwnershipIndex;
+import yeonleaf.plantodo.exceptions.ResourceForbiddenException;
+import yeonleaf.plantodo.util.MemberContext;
+
+import java.util.Map;
+
+/**
+ * {@link LoginCheckInterceptor} 다음에 실행되어, 경로와 쿼리 스트링에 있는 id가 토큰의 회원 것인지 {@link OwnershipIndex}로 확인한다.
+ * 다른 회원의 리소스면 {@link ResourceForbiddenException}을 던진다. (403)
+ * 숫자가 아닌 id는 그대로 보내서 컨트롤러가 400으로 응답하게 둔다.
+ */
+@RequiredArgsConstructor
+public class OwnershipCheckInterceptor implements HandlerInterceptor {
+
+    private static final Map<String, String> PATH_TYPES = Map.of(
+            "/plan/{id}", OwnershipIndex.PLAN,
+            "/group/{id}", OwnershipIndex.GROUP,
+            "/checkbox/{id}", OwnershipIndex.CHECKBOX
+    );
+
+    private static final Map<String, String> QUERY_STRING_TYPES = Map.of(
+            "memberId", OwnershipIndex.MEMBER,
+            "planId", OwnershipIndex.PLAN,
+            "groupId", OwnershipIndex.GROUP
+    );
+
+    private final OwnershipIndex ownershipIndex;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+
+        Long memberId = MemberContext.get(request);
+        if (memberId == null) {
+            return true;
+        }
+
+        String pattern = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Map<String, String> uriVariables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (pattern != null && uriVariables != null && PATH_TYPES.containsKey(pattern)) {
+            check(memberId, PATH_TYPES.get(pattern), uriVariables.get("id"));
+        }
+
+        QUERY_STRING_TYPES.forEach((name, type) -> check(memberId, type, request.getParameter(name)));
+        return true;
+
+    }
+
+    private void check(Long memberId, String type, String id) {
+        if (id == null) {
+            return;
+        }
+        try {
+            ownershipIndex.check(memberId, type, Long.valueOf(id));
+        } catch (NumberFormatException e) {
+            // 컨트롤러에서 MethodArgumentTypeMismatchException으로 응답한다.
+        }
+    }
+
+}
@@ -0,0 +1,43 @@
+package yeonleaf.plantodo.interceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import yeonleaf.plantodo.exceptions.RateLimitExceededException;
+import yeonleaf.plantodo.ratelimit.RateLimitClass;
+import yeonleaf.plantodo.ratelimit.RateLimitPolicy;
+import yeonleaf.plantodo.ratelimit.RateLimiter;
+import yeonleaf.plantodo.util.MemberContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LoginCheckInterceptor} 다음에 실행되어 토큰의 회원마다 요청 수를 제한한다.
+ * 한도를 넘으면 {@link RateLimitExceededException}을 던진다. (429, Retry-After)
+ * DB를 조회하는 {@link OwnershipCheckInterceptor}보다 먼저 실행한다.
+ */
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitPolicy rateLimitPolicy;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+
+        Long memberId = MemberContext.get(request);
+        if (memberId == null) {
+            return true;
+        }
+
+        RateLimitClass rateLimitClass = RateLimitClass.of(request);
+        long wait = rateLimiter.acquire(memberId + ":" + rateLimitClass.name().toLowerCase(), rateLimitPolicy.limitOf(rateLimitClass));
+        if (wait > 0) {
+            throw new RateLimitExceededException(Math.max(1L, (wait + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1)));
+        }
+        return true;
+
+    }
+
+}
@@ -0,0 +1,66 @@
+package yeonleaf.plantodo.interceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import yeonleaf.plantodo.filter.RequestCoalescer;
+import yeonleaf.plantodo.filter.RequestCoalescingFilter;
+import yeonleaf.plantodo.filter.ResponseCacheFilter;
+import yeonleaf.plantodo.util.MemberContext;
+
+/**
+ * {@link OwnershipCheckInterceptor} 다음에 실행되어, 같은 회원의 같은 GET 요청이 처리 중이면 그 응답을 기다렸다가 그대로 내보낸다.
+ * 처리 중인 요청이 없으면 leader가 되어 컨트롤러를 실행하고, 응답은 {@link RequestCoalescingFilter}가 follower에게 넘긴다.
+ * follower는 {@link AdmissionControlInterceptor}보다 먼저 돌아가므로 bulkhead 자리를 차지하지 않는다.
+ * follower의 응답은 {@link ResponseCacheFilter}가 요청마다 Accept-Encoding에 맞춰 인코딩한다.
+ * 회원의 쓰기 요청이 들어오고 끝날 때 그 회원의 처리 중인 GET을 목록에서 빼서, 쓰기 뒤에 온 GET은 쓰기를 반영한 응답을 받는다.
+ */
+@RequiredArgsConstructor
+public class RequestCoalescingInterceptor implements HandlerInterceptor {
+
+    private final RequestCoalescer requestCoalescer;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+
+        Long memberId = MemberContext.get(request);
+        if (memberId != null && isWrite(request)) {
+            requestCoalescer.forget(memberId);
+            return true;
+        }
+        if (memberId == null || !"GET".equals(request.getMethod()) || request.getAttribute(RequestCoalescer.FILTERED_ATTRIBUTE) == null) {
+            return true;
+        }
+
+        RequestCoalescer.SharedResponse sharedResponse = requestCoalescer.join(RequestCoalescer.key(memberId, request), request);
+        if (sharedResponse == null) {
+            return true;
+        }
+
+        request.setAttribute(RequestCoalescer.SHARED_ATTRIBUTE, Boolean.TRUE);
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(sharedResponse.contentType());
+        response.setContentLength(sharedResponse.body().length);
+        response.getOutputStream().write(sharedResponse.body());
+        return false;
+
+    }
+
+    /**
+     * 쓰기가 커밋된 뒤에 시작한 GET만 남도록 끝날 때 한 번 더 뺀다.
+     */
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) throws Exception {
+        Long memberId = MemberContext.get(request);
+        if (memberId != null && isWrite(request)) {
+            requestCoalescer.forget(memberId);
+        }
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return "POST".equals(method) || "PUT".equals(method) || "PATCH".equals(method) || "DELETE".equals(method);
+    }
+
+}
@@ -0,0 +1,50 @@
+package yeonleaf.plantodo.interceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.HandlerInterceptor;
+import yeonleaf.plantodo.cache.CachedResponse;
+import yeonleaf.plantodo.cache.ResponseCache;
+import yeonleaf.plantodo.filter.ResponseCacheFilter;
+
+/**
+ * {@link LoginCheckInterceptor} 다음에 실행되어, 캐시된 응답 byte가 있으면 컨트롤러를 거치지 않고 바로 내보낸다.
+ * key는 JWT 확인이 끝난 뒤에 만들어서(토큰의 회원으로 태그를 붙일 수 있도록) {@link ResponseCacheFilter}가 저장할 때 쓰도록 남긴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ResponseCacheInterceptor implements HandlerInterceptor {
+
+    public static final String HIT_ATTRIBUTE = ResponseCacheInterceptor.class.getName() + ".HIT";
+
+    private final ResponseCache responseCache;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+
+        String key = responseCache.key(request);
+        if (key == null) {
+            return true;
+        }
+        request.setAttribute(ResponseCacheFilter.KEY_ATTRIBUTE, key);
+
+        CachedResponse cachedResponse;
+        try {
+            cachedResponse = responseCache.get(key);
+        } catch (RuntimeException e) {
+            log.warn("응답 캐시 조회 실패 key={}", key, e);
+            return true;
+        }
+        if (cachedResponse == null) {
+            return true;
+        }
+
+        request.setAttribute(HIT_ATTRIBUTE, Boolean.TRUE);
+        ResponseCache.write(cachedResponse, request, response);
+        return false;
+
+    }
+
+}
@@ -8,9 +8,15 @@ import javax.crypto.SecretKey;
 @Component
 public interface JwtBasicProvider {
 
+    /**
+     * access 토큰에 넣는 refresh 토큰 family id ({@link RefreshTokenStore})
+     */
+    String FAMILY_CLAIM = "fid";
+
     JwtBuilder jwtBuilder();
     SecretKey secretKey();
     String generateToken(Long id);
+    String generateToken(Long id, String familyId);
     void parseToken(String header);
     void validateToken(String header);
     String extractToken(String header);
@@ -2,7 +2,6 @@ package yeonleaf.plantodo.provider;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import io.jsonwebtoken.security.SignatureException;
 import lombok.NoArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -17,8 +16,14 @@ import java.util.Date;
 @NoArgsConstructor
 public class JwtProvider implements JwtBasicProvider {
 
+    public static final Duration ACCESS_TOKEN_TTL = Duration.ofMinutes(30);
+
+    public static final Duration REFRESH_TOKEN_TTL = Duration.ofDays(14);
+
     private SecretKey key;
 
+    private JwtTokenVerifier tokenVerifier;
+
     @Value("${custom.jwt.secretKey}")
     private String plainKey;
 
@@ -29,7 +34,7 @@ public class JwtProvider implements JwtBasicProvider {
                 .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
                 .setIssuer("fresh")
                 .setIssuedAt(now)
-                .setExpiration(new Date(now.getTime() + Duration.ofMinutes(30).toMillis()))
+                .setExpiration(new Date(now.getTime() + ACCESS_TOKEN_TTL.toMillis()))
                 .signWith(secretKey(), SignatureAlgorithm.HS256);
     }
 
@@ -40,23 +45,20 @@ public class JwtProvider implements JwtBasicProvider {
                 .compact();
     }
 
+    @Override
+    public String generateToken(Long id, String familyId) {
+        return jwtBuilder()
+                .claim("id", id)
+                .claim(FAMILY_CLAIM, familyId)
+                .compact();
+    }
+
     @Override
     public void parseToken(String header) {
         validateToken(header);
 
         String token = extractToken(header);
-
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-        } catch (MalformedJwtException | SignatureException mje) {
-            throw new CustomJwtException("JWT TOKEN이 유효하지 않음");
-        } catch (ExpiredJwtException eje) {
-            throw new CustomJwtException("JWT TOKEN이 만료 (재로그인 필요)");
-        }
+        tokenVerifier().verify(token);
     }
 
     @Override
@@ -83,17 +85,23 @@ public class JwtProvider implements JwtBasicProvider {
         return key;
     }
 
+    /**
+     * 발급하는 토큰의 유효 시간(30분)보다 오래 들고 있지 않는다.
+     */
+    public JwtTokenVerifier tokenVerifier() {
+        if (tokenVerifier == null) {
+            tokenVerifier = new JwtTokenVerifier(secretKey(), 10_000L, ACCESS_TOKEN_TTL);
+        }
+        return tokenVerifier;
+    }
+
     private SecretKey _getSecretKey() {
         String keyBase64Encoded = Base64.getEncoder().encodeToString(plainKey.getBytes());
         return Keys.hmacShaKeyFor(keyBase64Encoded.getBytes());
     }
 
     public Long getIdFromToken(String token) {
-        Claims body = Jwts.parserBuilder()
-                .setSigningKey(secretKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims body = tokenVerifier().verify(token);
         return body.get("id", Long.class);
     }
 
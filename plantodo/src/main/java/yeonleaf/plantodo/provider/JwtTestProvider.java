@@ -43,6 +43,15 @@ public class JwtTestProvider implements JwtBasicProvider {
                 .compact();
     }
 
+    @Override
+    public String generateToken(Long id, String familyId) {
+        return jwtBuilder()
+                .signWith(secretKey(), SignatureAlgorithm.HS256)
+                .claim("id", id)
+                .claim(FAMILY_CLAIM, familyId)
+                .compact();
+    }
+
     @Override
     public void parseToken(String header) {
 
@@ -0,0 +1,94 @@
+package yeonleaf.plantodo.provider;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import yeonleaf.plantodo.exceptions.CustomJwtException;
+
+import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * JWT 토큰 서명/만료 확인
+ * 파서는 하나만 만들어 두고 같이 쓴다. (JwtParser는 불변이라 스레드 사이에 공유해도 된다.)
+ * 확인한 토큰은 SHA-256 해시를 key로 claims를 들고 있다가, 같은 토큰이 다시 오면 파싱과 서명 계산 없이 돌려준다.
+ * 들고 있는 시간은 토큰의 exp를 넘지 않으므로 만료된 토큰을 통과시키지 않는다. 확인에 실패한 토큰은 들고 있지 않는다.
+ */
+public class JwtTokenVerifier {
+
+    private final JwtParser parser;
+    private final Cache<ByteBuffer, Claims> verifiedTokens;
+
+    /**
+     * @param maximumSize 들고 있을 최대 토큰 수
+     * @param maxTtl exp가 없는 토큰도 이 시간이 지나면 다시 확인한다.
+     */
+    public JwtTokenVerifier(SecretKey secretKey, long maximumSize, Duration maxTtl) {
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(untilExpiration(maxTtl))
+                .build();
+    }
+
+    private static Expiry<ByteBuffer, Claims> untilExpiration(Duration maxTtl) {
+        long maxTtlNanos = maxTtl.toNanos();
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(ByteBuffer key, Claims claims, long currentTime) {
+                Date expiration = claims.getExpiration();
+                if (expiration == null) {
+                    return maxTtlNanos;
+                }
+                long remainingNanos = Duration.ofMillis(expiration.getTime() - System.currentTimeMillis()).toNanos();
+                return Math.max(0L, Math.min(remainingNanos, maxTtlNanos));
+            }
+
+            @Override
+            public long expireAfterUpdate(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+
+            @Override
+            public long expireAfterRead(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    public Claims verify(String token) {
+        return verifiedTokens.get(hash(token), k -> parse(token));
+    }
+
+    private Claims parse(String token) {
+        try {
+            return parser.parseClaimsJws(token).getBody();
+        } catch (MalformedJwtException | SignatureException mje) {
+            throw new CustomJwtException("JWT TOKEN이 유효하지 않음");
+        } catch (ExpiredJwtException eje) {
+            throw new CustomJwtException("JWT TOKEN이 만료 (재로그인 필요)");
+        }
+    }
+
+    private static ByteBuffer hash(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
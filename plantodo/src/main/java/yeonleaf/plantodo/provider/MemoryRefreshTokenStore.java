@@ -0,0 +1,87 @@
+package yeonleaf.plantodo.provider;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Redis 없이 단일 노드로 띄울 때 쓰는 {@link RefreshTokenStore}
+ * 노드가 하나뿐이므로 폐기한 family를 Bloom filter 없이 메모리에 그대로 들고 있다.
+ */
+public class MemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Cache<String, RefreshToken> tokens;
+    private final Cache<String, String> usedTokens;
+    private final Cache<String, String> familyTokens;
+    private final Cache<String, Boolean> revokedFamilies;
+
+    public MemoryRefreshTokenStore(Duration refreshTtl, Duration accessTtl) {
+        this.tokens = Caffeine.newBuilder().expireAfterWrite(refreshTtl).build();
+        this.usedTokens = Caffeine.newBuilder().expireAfterWrite(refreshTtl).build();
+        this.familyTokens = Caffeine.newBuilder().expireAfterWrite(refreshTtl).build();
+        this.revokedFamilies = Caffeine.newBuilder().expireAfterWrite(accessTtl).build();
+    }
+
+    @Override
+    public RefreshToken issue(Long memberId) {
+        return store(memberId, UUID.randomUUID().toString());
+    }
+
+    private RefreshToken store(Long memberId, String familyId) {
+        RefreshToken refreshToken = new RefreshToken(RefreshTokenValues.generate(), memberId, familyId);
+        String hash = RefreshTokenValues.hash(refreshToken.value());
+        tokens.put(hash, refreshToken);
+        familyTokens.put(familyId, hash);
+        return refreshToken;
+    }
+
+    @Override
+    @Nullable
+    public RefreshToken rotate(String refreshToken) {
+
+        // 토큰을 지우는 compute 안에서 used 기록을 남겨서, 그 사이에 같은 토큰으로 온 요청도 재사용으로 탐지한다.
+        String hash = RefreshTokenValues.hash(refreshToken);
+        AtomicReference<RefreshToken> removed = new AtomicReference<>();
+        tokens.asMap().computeIfPresent(hash, (key, current) -> {
+            usedTokens.put(hash, current.familyId());
+            removed.set(current);
+            return null;
+        });
+        RefreshToken current = removed.get();
+        if (current == null) {
+            String usedFamilyId = usedTokens.getIfPresent(hash);
+            if (usedFamilyId != null) {
+                revokeFamily(usedFamilyId);
+            }
+            return null;
+        }
+        return store(current.memberId(), current.familyId());
+
+    }
+
+    @Override
+    public void revoke(String refreshToken) {
+        RefreshToken current = tokens.getIfPresent(RefreshTokenValues.hash(refreshToken));
+        if (current != null) {
+            revokeFamily(current.familyId());
+        }
+    }
+
+    private void revokeFamily(String familyId) {
+        String hash = familyTokens.asMap().remove(familyId);
+        if (hash != null) {
+            tokens.invalidate(hash);
+        }
+        revokedFamilies.put(familyId, Boolean.TRUE);
+    }
+
+    @Override
+    public boolean isRevoked(String familyId) {
+        return revokedFamilies.getIfPresent(familyId) != null;
+    }
+
+}
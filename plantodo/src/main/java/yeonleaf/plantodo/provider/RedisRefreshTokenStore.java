@@ -0,0 +1,214 @@
+package yeonleaf.plantodo.provider;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.lang.Nullable;
+import yeonleaf.plantodo.util.BloomFilter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis에 refresh 토큰과 폐기한 family를 두는 {@link RefreshTokenStore}
+ *   - plantodo:refresh:token:{hash}   : "memberId:familyId" (refresh 토큰 TTL)
+ *   - plantodo:refresh:used:{hash}    : 이미 교체된 토큰의 familyId (재사용 탐지용)
+ *   (token, used key는 hash를 hash tag로 써서 Redis 클러스터에서도 같은 슬롯에 둔다.)
+ *   - plantodo:refresh:family:{id}    : family의 현재 토큰 hash (폐기할 때 지운다.)
+ *   - plantodo:jwt:revoked (zset)     : 폐기한 familyId, score는 기록을 지워도 되는 시각 (폐기 시각 + access 토큰 TTL)
+ * 폐기 여부는 노드마다 들고 있는 Bloom filter로 먼저 확인하므로, 폐기되지 않은 family는 Redis에 묻지 않는다.
+ * filter에 있다고 나올 때만(폐기됐거나 오탐) zset에서 정확히 확인한다.
+ * 폐기는 pub/sub으로 다른 노드의 filter에 바로 넣고, 메시지가 유실되거나 기록이 만료된 경우는 reload로 맞춘다.
+ */
+@Slf4j
+public class RedisRefreshTokenStore implements RefreshTokenStore, MessageListener {
+
+    public static final String CHANNEL = "plantodo:jwt:revoked";
+
+    private static final String TOKEN_PREFIX = "plantodo:refresh:token:";
+    private static final String USED_PREFIX = "plantodo:refresh:used:";
+    private static final String FAMILY_PREFIX = "plantodo:refresh:family:";
+    private static final String REVOKED_KEY = "plantodo:jwt:revoked";
+
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+
+    /**
+     * KEYS[1] : token key, KEYS[2] : used key, ARGV[1] : used key TTL (ms)
+     * 토큰을 지우면서 같은 스크립트 안에서 used key를 남기므로, 그 사이에 같은 토큰으로 온 요청도 재사용으로 탐지된다.
+     * @return {"rotated", "memberId:familyId"}, 이미 교체된 토큰이면 {"reused", familyId}, 둘 다 없으면 빈 목록
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local session = redis.call('GET', KEYS[1])
+            if session then
+                redis.call('DEL', KEYS[1])
+                local familyId = string.sub(session, string.find(session, ':', 1, true) + 1)
+                redis.call('SET', KEYS[2], familyId, 'PX', ARGV[1])
+                return {'rotated', session}
+            end
+            local usedFamilyId = redis.call('GET', KEYS[2])
+            if usedFamilyId then
+                return {'reused', usedFamilyId}
+            end
+            return {}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration refreshTtl;
+    private final Duration accessTtl;
+    private final int expectedRevocations;
+
+    private volatile BloomFilter revokedFamilies;
+
+    /**
+     * 마지막 reload가 Redis를 읽기 시작한 뒤에 폐기된 family
+     * reload가 만든 filter에 빠져 있을 수 있으므로 바꿔 끼운 뒤에 다시 넣는다.
+     */
+    private volatile Set<String> revokedSinceReload = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param accessTtl 폐기한 family의 access 토큰이 모두 만료될 때까지 폐기 기록을 둔다.
+     * @param expectedRevocations access 토큰 TTL 동안 폐기될 family 수
+     */
+    public RedisRefreshTokenStore(StringRedisTemplate redisTemplate, Duration refreshTtl, Duration accessTtl, int expectedRevocations) {
+        this.redisTemplate = redisTemplate;
+        this.refreshTtl = refreshTtl;
+        this.accessTtl = accessTtl;
+        this.expectedRevocations = expectedRevocations;
+        this.revokedFamilies = new BloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+    }
+
+    @Override
+    public RefreshToken issue(Long memberId) {
+        return store(memberId, UUID.randomUUID().toString());
+    }
+
+    private RefreshToken store(Long memberId, String familyId) {
+        String value = RefreshTokenValues.generate();
+        String hash = RefreshTokenValues.hash(value);
+        redisTemplate.opsForValue().set(tokenKey(hash), memberId + ":" + familyId, refreshTtl);
+        redisTemplate.opsForValue().set(FAMILY_PREFIX + familyId, hash, refreshTtl);
+        return new RefreshToken(value, memberId, familyId);
+    }
+
+    private static String tokenKey(String hash) {
+        return TOKEN_PREFIX + "{" + hash + "}";
+    }
+
+    private static String usedKey(String hash) {
+        return USED_PREFIX + "{" + hash + "}";
+    }
+
+    /**
+     * 토큰 삭제와 used key 기록을 한 스크립트로 실행하므로 같은 토큰으로 동시에 요청해도 한 요청만 새 토큰을 받고,
+     * 나머지 요청은 재사용으로 보고 family를 폐기한다.
+     */
+    @Override
+    @Nullable
+    public RefreshToken rotate(String refreshToken) {
+
+        String hash = RefreshTokenValues.hash(refreshToken);
+        List<?> result = redisTemplate.execute(ROTATE_SCRIPT, List.of(tokenKey(hash), usedKey(hash)), String.valueOf(refreshTtl.toMillis()));
+        if (result == null || result.isEmpty()) {
+            return null;
+        }
+
+        String value = String.valueOf(result.get(1));
+        if ("reused".equals(result.get(0))) {
+            log.warn("이미 교체된 refresh 토큰 재사용 family={}", value);
+            revokeFamily(value);
+            return null;
+        }
+
+        int separator = value.indexOf(':');
+        return store(Long.valueOf(value.substring(0, separator)), value.substring(separator + 1));
+
+    }
+
+    @Override
+    public void revoke(String refreshToken) {
+        String session = redisTemplate.opsForValue().get(tokenKey(RefreshTokenValues.hash(refreshToken)));
+        if (session != null) {
+            revokeFamily(session.substring(session.indexOf(':') + 1));
+        }
+    }
+
+    private void revokeFamily(String familyId) {
+        String hash = redisTemplate.opsForValue().getAndDelete(FAMILY_PREFIX + familyId);
+        if (hash != null) {
+            redisTemplate.delete(tokenKey(hash));
+        }
+        redisTemplate.opsForZSet().add(REVOKED_KEY, familyId, System.currentTimeMillis() + accessTtl.toMillis());
+        remember(familyId);
+        redisTemplate.convertAndSend(CHANNEL, familyId);
+    }
+
+    /**
+     * filter에 없으면 네트워크 없이 false
+     * Redis를 읽지 못하면 폐기된 것으로 본다. (filter에 있는 family만 해당하므로 대부분의 요청은 영향이 없다.)
+     */
+    @Override
+    public boolean isRevoked(String familyId) {
+
+        if (!revokedFamilies.mightContain(familyId)) {
+            return false;
+        }
+        try {
+            Double removableAt = redisTemplate.opsForZSet().score(REVOKED_KEY, familyId);
+            return removableAt != null && removableAt > System.currentTimeMillis();
+        } catch (RuntimeException e) {
+            log.warn("refresh 토큰 폐기 여부 확인 실패 family={}", familyId, e);
+            return true;
+        }
+
+    }
+
+    private void remember(String familyId) {
+        revokedSinceReload.add(familyId);
+        revokedFamilies.put(familyId);
+    }
+
+    /**
+     * 다른 노드가 폐기한 family
+     * 자기 자신이 발행한 메시지도 받지만 filter에 다시 넣을 뿐이므로 걸러내지 않는다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        remember(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 지워도 되는 폐기 기록을 지우고, 남은 family로 filter를 새로 만들어 바꿔 끼운다.
+     * 주기적으로 호출해서 유실된 pub/sub 메시지를 채우고, 만료된 family를 filter에서 뺀다.
+     */
+    public void reload() {
+
+        Set<String> revokedDuringReload = ConcurrentHashMap.newKeySet();
+        revokedSinceReload = revokedDuringReload;
+        long now = System.currentTimeMillis();
+        Set<String> families;
+        try {
+            redisTemplate.opsForZSet().removeRangeByScore(REVOKED_KEY, Double.NEGATIVE_INFINITY, now);
+            families = redisTemplate.opsForZSet().rangeByScore(REVOKED_KEY, now, Double.POSITIVE_INFINITY);
+        } catch (RuntimeException e) {
+            log.warn("폐기한 refresh 토큰 family 목록을 읽지 못함", e);
+            return;
+        }
+
+        BloomFilter filter = new BloomFilter(Math.max(expectedRevocations, families == null ? 0 : families.size() * 2), FALSE_POSITIVE_RATE);
+        if (families != null) {
+            families.forEach(filter::put);
+        }
+        revokedFamilies = filter;
+        revokedDuringReload.forEach(filter::put);
+
+    }
+
+}
@@ -0,0 +1,38 @@
+package yeonleaf.plantodo.provider;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * refresh 토큰 발급, 교체(rotation), 폐기
+ * refresh 토큰은 의미 없는 난수 문자열이고 한 번만 쓸 수 있다. 한 번의 로그인에서 이어지는 토큰은 같은 family id를 가진다.
+ * access 토큰에도 family id(fid claim)를 넣어 두고, family가 폐기되면 만료 전이라도 통과시키지 않는다.
+ * 이미 교체된 refresh 토큰이 다시 오면 탈취된 것으로 보고 family 전체를 폐기한다.
+ */
+public interface RefreshTokenStore {
+
+    record RefreshToken(String value, Long memberId, String familyId) {
+    }
+
+    /**
+     * 로그인할 때 새 family로 발급한다.
+     */
+    RefreshToken issue(Long memberId);
+
+    /**
+     * refresh 토큰을 쓰고 같은 family의 새 토큰을 발급한다.
+     * @return 없거나 만료된 토큰이면 null, 이미 쓴 토큰이면 family를 폐기하고 null
+     */
+    @Nullable
+    RefreshToken rotate(String refreshToken);
+
+    /**
+     * 로그아웃할 때 refresh 토큰의 family를 폐기한다.
+     */
+    void revoke(String refreshToken);
+
+    /**
+     * 인증이 필요한 요청마다 호출되므로, 폐기되지 않은 family는 네트워크 없이 답해야 한다.
+     */
+    boolean isRevoked(String familyId);
+
+}
@@ -0,0 +1,37 @@
+package yeonleaf.plantodo.provider;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * {@link RefreshTokenStore} 구현체가 같이 쓰는 refresh 토큰 생성/hash
+ */
+final class RefreshTokenValues {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private RefreshTokenValues() {
+    }
+
+    static String generate() {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * 저장소에는 토큰 대신 SHA-256 hash를 key로 둔다. (저장소가 유출되어도 토큰으로 쓸 수 없다.)
+     */
+    static String hash(String refreshToken) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+package yeonleaf.plantodo.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 노드 안에서만 세는 {@link RateLimiter}
+ * bucket마다 남은 토큰 대신 "bucket이 비는 시각"(GCRA의 theoretical arrival time) 하나를 AtomicLong에 두고 CAS로 바꾼다.
+ * 토큰을 채우는 스레드나 잠금 없이 요청 스레드가 시각만 비교한다.
+ * 오래 쓰지 않은 bucket은 가득 찬 것과 같으므로 지운다.
+ */
+public class LocalRateLimiter implements RateLimiter {
+
+    private final Cache<String, AtomicLong> buckets = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .maximumSize(100_000)
+            .build();
+
+    @Override
+    public long acquire(String key, RateLimit limit) {
+
+        AtomicLong emptyAt = buckets.get(key, k -> new AtomicLong(System.nanoTime()));
+        long interval = limit.intervalNanos();
+        long tolerance = limit.toleranceNanos();
+        while (true) {
+            long now = System.nanoTime();
+            long current = emptyAt.get();
+            long next = Math.max(current, now) + interval;
+            long wait = next - now - tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (emptyAt.compareAndSet(current, next)) {
+                return 0L;
+            }
+        }
+
+    }
+
+    /**
+     * acquire로 쓴 토큰 하나를 되돌린다.
+     * 그 사이에 bucket이 다시 찼으면 acquire가 지금 시각부터 세므로 더 쌓이지 않는다.
+     */
+    public void refund(String key, RateLimit limit) {
+        AtomicLong emptyAt = buckets.getIfPresent(key);
+        if (emptyAt != null) {
+            emptyAt.addAndGet(-limit.intervalNanos());
+        }
+    }
+
+}
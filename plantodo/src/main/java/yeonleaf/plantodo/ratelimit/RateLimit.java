@@ -0,0 +1,24 @@
+package yeonleaf.plantodo.ratelimit;
+
+/**
+ * token bucket 한도
+ * @param permitsPerSecond 초당 채워지는 요청 수
+ * @param burst 한 번에 보낼 수 있는 요청 수 (bucket 크기)
+ */
+public record RateLimit(double permitsPerSecond, int burst) {
+
+    /**
+     * 토큰 하나가 채워지는 간격
+     */
+    public long intervalNanos() {
+        return (long) (1_000_000_000L / permitsPerSecond);
+    }
+
+    /**
+     * bucket이 가득 찼을 때 앞당겨 쓸 수 있는 시간
+     */
+    public long toleranceNanos() {
+        return intervalNanos() * burst;
+    }
+
+}
@@ -0,0 +1,20 @@
+package yeonleaf.plantodo.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 한도를 따로 두는 API 묶음
+ * 캘린더 조회는 기간 안의 일정/그룹/할일을 모두 읽으므로 일반 조회와 나눈다.
+ */
+public enum RateLimitClass {
+
+    READ, WRITE, CALENDAR;
+
+    public static RateLimitClass of(HttpServletRequest request) {
+        if (request.getRequestURI().startsWith("/calendar")) {
+            return CALENDAR;
+        }
+        return "GET".equals(request.getMethod()) ? READ : WRITE;
+    }
+
+}
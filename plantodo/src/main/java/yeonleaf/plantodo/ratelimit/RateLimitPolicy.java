@@ -0,0 +1,33 @@
+package yeonleaf.plantodo.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * {@link RateLimitClass}별 회원 한 명의 한도
+ * plantodo.rate-limit.{read|write|calendar}.permits-per-second / burst 로 바꿀 수 있다.
+ */
+@Component
+public class RateLimitPolicy {
+
+    private final Map<RateLimitClass, RateLimit> limits = new EnumMap<>(RateLimitClass.class);
+
+    public RateLimitPolicy(@Value("${plantodo.rate-limit.read.permits-per-second:20}") double readPermitsPerSecond,
+                           @Value("${plantodo.rate-limit.read.burst:100}") int readBurst,
+                           @Value("${plantodo.rate-limit.write.permits-per-second:5}") double writePermitsPerSecond,
+                           @Value("${plantodo.rate-limit.write.burst:30}") int writeBurst,
+                           @Value("${plantodo.rate-limit.calendar.permits-per-second:2}") double calendarPermitsPerSecond,
+                           @Value("${plantodo.rate-limit.calendar.burst:20}") int calendarBurst) {
+        limits.put(RateLimitClass.READ, new RateLimit(readPermitsPerSecond, readBurst));
+        limits.put(RateLimitClass.WRITE, new RateLimit(writePermitsPerSecond, writeBurst));
+        limits.put(RateLimitClass.CALENDAR, new RateLimit(calendarPermitsPerSecond, calendarBurst));
+    }
+
+    public RateLimit limitOf(RateLimitClass rateLimitClass) {
+        return limits.get(rateLimitClass);
+    }
+
+}
@@ -0,0 +1,13 @@
+package yeonleaf.plantodo.ratelimit;
+
+/**
+ * key(회원 + {@link RateLimitClass})마다 token bucket을 두고 요청 하나에 토큰 하나를 쓴다.
+ */
+public interface RateLimiter {
+
+    /**
+     * @return 토큰을 썼으면 0, 토큰이 없으면 다음 토큰이 채워질 때까지 기다려야 하는 시간(ns)
+     */
+    long acquire(String key, RateLimit limit);
+
+}
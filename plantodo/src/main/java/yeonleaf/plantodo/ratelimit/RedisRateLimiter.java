@@ -0,0 +1,75 @@
+package yeonleaf.plantodo.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * 모든 노드가 한 bucket을 나눠 쓰는 {@link RateLimiter}
+ * 먼저 노드 안의 {@link LocalRateLimiter}로 거르고, 통과한 요청만 Redis에서 같은 GCRA 스크립트로 한 번 더 센다.
+ * 한도를 넘긴 클라이언트의 반복 요청은 Redis까지 가지 않는다.
+ * Redis에서 거절한 요청은 노드 안에서 쓴 토큰을 되돌려서, 거절된 요청이 노드의 한도를 줄이지 않게 한다.
+ * 시각은 Redis 서버의 TIME을 써서 노드 사이의 시계 차이에 영향을 받지 않는다.
+ * Redis를 쓰지 못하면 노드 안의 한도만 적용한다.
+ */
+@Slf4j
+public class RedisRateLimiter implements RateLimiter {
+
+    private static final String KEY_PREFIX = "plantodo:ratelimit:";
+
+    /**
+     * KEYS[1] : bucket, ARGV[1] : 토큰 간격(us), ARGV[2] : 앞당겨 쓸 수 있는 시간(us)
+     * 토큰을 썼으면 0, 아니면 기다려야 하는 시간(us)을 리턴한다.
+     */
+    private static final RedisScript<Long> ACQUIRE = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local interval = tonumber(ARGV[1])
+            local tolerance = tonumber(ARGV[2])
+            local emptyAt = tonumber(redis.call('GET', KEYS[1]) or now)
+            if emptyAt < now then
+                emptyAt = now
+            end
+            local nextEmptyAt = emptyAt + interval
+            local wait = nextEmptyAt - now - tolerance
+            if wait > 0 then
+                return wait
+            end
+            redis.call('SET', KEYS[1], nextEmptyAt, 'PX', math.ceil((nextEmptyAt - now) / 1000) + 1)
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final LocalRateLimiter localRateLimiter;
+
+    public RedisRateLimiter(StringRedisTemplate redisTemplate, LocalRateLimiter localRateLimiter) {
+        this.redisTemplate = redisTemplate;
+        this.localRateLimiter = localRateLimiter;
+    }
+
+    @Override
+    public long acquire(String key, RateLimit limit) {
+
+        long localWait = localRateLimiter.acquire(key, limit);
+        if (localWait > 0) {
+            return localWait;
+        }
+        try {
+            Long wait = redisTemplate.execute(ACQUIRE, List.of(KEY_PREFIX + key),
+                    String.valueOf(limit.intervalNanos() / 1_000), String.valueOf(limit.toleranceNanos() / 1_000));
+            if (wait == null || wait == 0) {
+                return 0L;
+            }
+            localRateLimiter.refund(key, limit);
+            return wait * 1_000;
+        } catch (RuntimeException e) {
+            log.warn("전체 요청 한도 확인 실패 key={}", key, e);
+            return 0L;
+        }
+
+    }
+
+}
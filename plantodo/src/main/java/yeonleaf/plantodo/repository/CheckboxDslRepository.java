@@ -1,13 +1,19 @@
 package yeonleaf.plantodo.repository;
 
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import yeonleaf.plantodo.domain.Checkbox;
 import yeonleaf.plantodo.domain.QCheckbox;
+import yeonleaf.plantodo.dto.CheckboxResDto;
+import yeonleaf.plantodo.util.CheckboxCursor;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
@@ -44,4 +50,88 @@ public class CheckboxDslRepository {
                 .fetch();
     }
 
+    private JPAQuery<CheckboxResDto> selectResDto() {
+        return ReadOnlyQueryHints.apply(qf.select(Projections.constructor(CheckboxResDto.class, qc.id, qc.title, qc.date, qc.checked))
+                .from(qc));
+    }
+
+    public Optional<CheckboxResDto> findResDtoById(Long id) {
+        return Optional.ofNullable(selectResDto()
+                .where(qc.id.eq(id))
+                .fetchOne());
+    }
+
+    public List<CheckboxResDto> findAllResDtoByGroupId(Long groupId) {
+        return selectResDto()
+                .where(qc.group.id.eq(groupId))
+                .orderBy(qc.id.asc())
+                .fetch();
+    }
+
+    /**
+     * id 순으로 after 다음부터 limit + 1개를 조회 (키셋 페이지네이션)
+     */
+    public List<CheckboxResDto> findResDtoSliceByGroupId(Long groupId, Long after, int limit) {
+        return selectResDto()
+                .where(qc.group.id.eq(groupId), after == null ? null : qc.id.gt(after))
+                .orderBy(qc.id.asc())
+                .limit(limit + 1L)
+                .fetch();
+    }
+
+    public List<CheckboxResDto> findAllResDtoByGroupIdAndDate(Long groupId, LocalDate dateKey) {
+        return selectResDto()
+                .where(qc.group.id.eq(groupId))
+                .where(qc.date.eq(dateKey))
+                .orderBy(qc.id.asc())
+                .fetch();
+    }
+
+    public List<CheckboxResDto> findAllResDtoByGroupIdAndDateRange(Long groupId, LocalDate searchStart, LocalDate searchEnd) {
+        return selectResDto()
+                .where(qc.group.id.eq(groupId))
+                .where(qc.date.between(searchStart, searchEnd))
+                .orderBy(qc.id.asc())
+                .fetch();
+    }
+
+    public List<CheckboxResDto> findAllResDtoByPlanId(Long planId) {
+        return selectResDto()
+                .where(qc.group.plan.id.eq(planId))
+                .orderBy(qc.group.id.asc(), qc.id.asc())
+                .fetch();
+    }
+
+    /**
+     * (date, id) 순으로 after 다음부터 limit + 1개를 조회 (키셋 페이지네이션)
+     */
+    public List<CheckboxResDto> findResDtoSliceByPlanId(Long planId, CheckboxCursor after, int limit) {
+        return selectResDto()
+                .where(qc.group.plan.id.eq(planId), after == null ? null : seek(after))
+                .orderBy(qc.date.asc(), qc.id.asc())
+                .limit(limit + 1L)
+                .fetch();
+    }
+
+    private BooleanExpression seek(CheckboxCursor after) {
+        return qc.date.gt(after.getDate())
+                .or(qc.date.eq(after.getDate()).and(qc.id.gt(after.getId())));
+    }
+
+    public List<CheckboxResDto> findAllResDtoByPlanIdAndDate(Long planId, LocalDate dateKey) {
+        return selectResDto()
+                .where(qc.group.plan.id.eq(planId))
+                .where(qc.date.eq(dateKey))
+                .orderBy(qc.group.id.asc(), qc.id.asc())
+                .fetch();
+    }
+
+    public List<CheckboxResDto> findAllResDtoByPlanIdAndDateRange(Long planId, LocalDate searchStart, LocalDate searchEnd) {
+        return selectResDto()
+                .where(qc.group.plan.id.eq(planId))
+                .where(qc.date.between(searchStart, searchEnd))
+                .orderBy(qc.group.id.asc(), qc.id.asc())
+                .fetch();
+    }
+
 }
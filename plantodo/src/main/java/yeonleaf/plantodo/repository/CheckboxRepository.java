@@ -1,13 +1,20 @@
 package yeonleaf.plantodo.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import yeonleaf.plantodo.domain.Checkbox;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CheckboxRepository extends JpaRepository<Checkbox, Long> {
 
     List<Checkbox> findByGroupId(Long id);
+
+    @Query("select c.group.id from Checkbox c where c.id = :id")
+    Optional<Long> findGroupIdById(@Param("id") Long id);
+
 }
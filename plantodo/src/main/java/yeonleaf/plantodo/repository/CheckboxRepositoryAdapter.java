@@ -3,6 +3,8 @@ package yeonleaf.plantodo.repository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import yeonleaf.plantodo.domain.Checkbox;
+import yeonleaf.plantodo.dto.CheckboxResDto;
+import yeonleaf.plantodo.util.CheckboxCursor;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -47,4 +49,40 @@ public class CheckboxRepositoryAdapter {
         return checkboxDslRepository.findAllByPlanIdAndDateRange(planId, searchStart, searchEnd);
     }
 
+    public Optional<CheckboxResDto> findResDtoById(Long id) {
+        return checkboxDslRepository.findResDtoById(id);
+    }
+
+    public List<CheckboxResDto> findAllResDtoByGroupId(Long groupId) {
+        return checkboxDslRepository.findAllResDtoByGroupId(groupId);
+    }
+
+    public List<CheckboxResDto> findResDtoSliceByGroupId(Long groupId, Long after, int limit) {
+        return checkboxDslRepository.findResDtoSliceByGroupId(groupId, after, limit);
+    }
+
+    public List<CheckboxResDto> findAllResDtoByGroupIdAndDate(Long groupId, LocalDate dateKey) {
+        return checkboxDslRepository.findAllResDtoByGroupIdAndDate(groupId, dateKey);
+    }
+
+    public List<CheckboxResDto> findAllResDtoByGroupIdAndDateRange(Long groupId, LocalDate searchStart, LocalDate searchEnd) {
+        return checkboxDslRepository.findAllResDtoByGroupIdAndDateRange(groupId, searchStart, searchEnd);
+    }
+
+    public List<CheckboxResDto> findAllResDtoByPlanId(Long planId) {
+        return checkboxDslRepository.findAllResDtoByPlanId(planId);
+    }
+
+    public List<CheckboxResDto> findResDtoSliceByPlanId(Long planId, CheckboxCursor after, int limit) {
+        return checkboxDslRepository.findResDtoSliceByPlanId(planId, after, limit);
+    }
+
+    public List<CheckboxResDto> findAllResDtoByPlanIdAndDate(Long planId, LocalDate dateKey) {
+        return checkboxDslRepository.findAllResDtoByPlanIdAndDate(planId, dateKey);
+    }
+
+    public List<CheckboxResDto> findAllResDtoByPlanIdAndDateRange(Long planId, LocalDate searchStart, LocalDate searchEnd) {
+        return checkboxDslRepository.findAllResDtoByPlanIdAndDateRange(planId, searchStart, searchEnd);
+    }
+
 }
@@ -0,0 +1,95 @@
+package yeonleaf.plantodo.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import yeonleaf.plantodo.converter.RepOutToInConverter;
+import yeonleaf.plantodo.domain.QCheckbox;
+import yeonleaf.plantodo.domain.QGroup;
+import yeonleaf.plantodo.domain.QRepetition;
+import yeonleaf.plantodo.domain.Repetition;
+import yeonleaf.plantodo.dto.GroupResDto;
+import yeonleaf.plantodo.dto.RepInputDto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class GroupDslRepository {
+
+    private final JPAQueryFactory qf;
+    private final RepOutToInConverter repOutToInConverter;
+    public static final QGroup qg = QGroup.group;
+    public static final QRepetition qr = QRepetition.repetition;
+    public static final QCheckbox qc = QCheckbox.checkbox;
+
+    /**
+     * repValue는 DB에 인코딩된 문자열로 저장되어 있으므로 DTO 생성자로 바로 받지 않고
+     * 컬럼 값만 조회한 후 {@link RepOutToInConverter}로 변환한다.
+     */
+    private JPAQuery<Tuple> selectResDto() {
+        return ReadOnlyQueryHints.apply(qf.select(qg.id, qg.title, qr.repOption, qr.repValue)
+                .from(qg)
+                .join(qg.repetition, qr));
+    }
+
+    private GroupResDto toResDto(Tuple tuple) {
+        RepInputDto repInputDto = repOutToInConverter.convert(new Repetition(tuple.get(qr.repOption), tuple.get(qr.repValue)));
+        return new GroupResDto(tuple.get(qg.id), tuple.get(qg.title), repInputDto.getRepOption(), repInputDto.getRepValue());
+    }
+
+    private BooleanExpression notDailyGroup() {
+        return qr.repOption.ne(0);
+    }
+
+    public Optional<GroupResDto> findResDtoById(Long id) {
+        return Optional.ofNullable(selectResDto()
+                .where(qg.id.eq(id))
+                .fetchOne()).map(this::toResDto);
+    }
+
+    public List<GroupResDto> findAllResDtoByPlanId(Long planId) {
+        return selectResDto()
+                .where(qg.plan.id.eq(planId), notDailyGroup())
+                .orderBy(qg.id.asc())
+                .fetch().stream().map(this::toResDto).toList();
+    }
+
+    /**
+     * id 순으로 after 다음부터 limit + 1개를 조회 (키셋 페이지네이션)
+     */
+    public List<GroupResDto> findResDtoSliceByPlanId(Long planId, Long after, int limit) {
+        return selectResDto()
+                .where(qg.plan.id.eq(planId), notDailyGroup(), after == null ? null : qg.id.gt(after))
+                .orderBy(qg.id.asc())
+                .limit(limit + 1L)
+                .fetch().stream().map(this::toResDto).toList();
+    }
+
+    public List<GroupResDto> findAllResDtoByPlanIdAndDate(Long planId, LocalDate dateKey) {
+        return selectResDto()
+                .where(qg.plan.id.eq(planId), notDailyGroup())
+                .where(JPAExpressions.selectOne().from(qc)
+                        .where(qc.group.id.eq(qg.id), qc.date.eq(dateKey))
+                        .exists())
+                .orderBy(qg.id.asc())
+                .fetch().stream().map(this::toResDto).toList();
+    }
+
+    public List<GroupResDto> findAllResDtoByPlanIdAndDateRange(Long planId, LocalDate searchStart, LocalDate searchEnd) {
+        return selectResDto()
+                .where(qg.plan.id.eq(planId), notDailyGroup())
+                .where(JPAExpressions.selectOne().from(qc)
+                        .where(qc.group.id.eq(qg.id), qc.date.between(searchStart, searchEnd))
+                        .exists())
+                .orderBy(qg.id.asc())
+                .fetch().stream().map(this::toResDto).toList();
+    }
+
+}
@@ -23,4 +23,7 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
     @Query("select g from Group g where g.id = :id")
     Optional<Group> findByIdEntityGraph(@Param("id") Long id);
 
+    @Query("select g.plan.id from Group g where g.id = :id")
+    Optional<Long> findPlanIdById(@Param("id") Long id);
+
 }
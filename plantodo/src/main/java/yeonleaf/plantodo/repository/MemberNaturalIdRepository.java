@@ -0,0 +1,28 @@
+package yeonleaf.plantodo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+import yeonleaf.plantodo.domain.Member;
+
+import java.util.Optional;
+
+/**
+ * email(natural id)로 Member를 조회
+ * 쿼리 메소드와 달리 natural id 캐시와 2차 캐시를 거쳐서 DB까지 내려가지 않을 수 있다.
+ * 같은 email이 여러 행이면 예외를 던지므로 email에 unique 제약이 있을 때만 쓴다. ({@link yeonleaf.plantodo.SchemaMigrator#isMemberEmailUnique()})
+ */
+@Repository
+public class MemberNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    public Optional<Member> findByEmail(String email) {
+        return em.unwrap(Session.class)
+                .bySimpleNaturalId(Member.class)
+                .loadOptional(email);
+    }
+
+}
@@ -1,13 +1,20 @@
 package yeonleaf.plantodo.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import yeonleaf.plantodo.domain.Member;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
     List<Member> findByEmail(String email);
 
+    Optional<Member> findFirstByEmailIgnoreCaseOrderByIdAsc(String email);
+
+    @Query("select m.email from Member m")
+    List<String> findAllEmails();
+
 }
\ No newline at end of file
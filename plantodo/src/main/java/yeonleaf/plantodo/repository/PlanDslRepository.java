@@ -0,0 +1,74 @@
+package yeonleaf.plantodo.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import yeonleaf.plantodo.domain.QPlan;
+import yeonleaf.plantodo.dto.PlanResDto;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class PlanDslRepository {
+
+    private final JPAQueryFactory qf;
+    public static final QPlan qp = QPlan.plan;
+
+    private JPAQuery<PlanResDto> selectResDto() {
+        return ReadOnlyQueryHints.apply(qf.select(Projections.constructor(PlanResDto.class, qp.id, qp.title, qp.start, qp.end, qp.status))
+                .from(qp));
+    }
+
+    public Optional<PlanResDto> findResDtoById(Long id) {
+        return Optional.ofNullable(selectResDto()
+                .where(qp.id.eq(id))
+                .fetchOne());
+    }
+
+    public List<PlanResDto> findAllResDtoByIds(Collection<Long> ids) {
+        return selectResDto()
+                .where(qp.id.in(ids))
+                .fetch();
+    }
+
+    public List<PlanResDto> findAllResDtoByMemberId(Long memberId) {
+        return selectResDto()
+                .where(qp.member.id.eq(memberId))
+                .orderBy(qp.id.asc())
+                .fetch();
+    }
+
+    /**
+     * id 순으로 after 다음부터 limit + 1개를 조회 (키셋 페이지네이션)
+     */
+    public List<PlanResDto> findResDtoSliceByMemberId(Long memberId, Long after, int limit) {
+        return selectResDto()
+                .where(qp.member.id.eq(memberId), after == null ? null : qp.id.gt(after))
+                .orderBy(qp.id.asc())
+                .limit(limit + 1L)
+                .fetch();
+    }
+
+    public List<PlanResDto> findAllResDtoByMemberIdAndDate(Long memberId, LocalDate dateKey) {
+        return selectResDto()
+                .where(qp.member.id.eq(memberId))
+                .where(qp.start.loe(dateKey), qp.end.goe(dateKey))
+                .orderBy(qp.id.asc())
+                .fetch();
+    }
+
+    public List<PlanResDto> findAllResDtoByMemberIdAndDateRange(Long memberId, LocalDate searchStart, LocalDate searchEnd) {
+        return selectResDto()
+                .where(qp.member.id.eq(memberId))
+                .where(qp.start.loe(searchEnd), qp.end.goe(searchStart))
+                .orderBy(qp.id.asc())
+                .fetch();
+    }
+
+}
@@ -1,14 +1,20 @@
 package yeonleaf.plantodo.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import yeonleaf.plantodo.domain.Plan;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PlanRepository extends JpaRepository<Plan, Long> {
 
     List<Plan> findByMemberId(Long id);
 
+    @Query("select p.member.id from Plan p where p.id = :id")
+    Optional<Long> findMemberIdById(@Param("id") Long id);
+
 }
@@ -0,0 +1,23 @@
+package yeonleaf.plantodo.repository;
+
+import com.querydsl.jpa.impl.JPAQuery;
+import org.hibernate.FlushMode;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+
+/**
+ * 조회 전용 QueryDSL 쿼리에 Hibernate 힌트를 적용하는 유틸
+ * 결과를 스냅샷 없이 읽고 (read-only), 쿼리 실행 전에 영속성 컨텍스트를 flush하지 않는다 (FlushMode.MANUAL).
+ * DB가 느릴 때 오래 기다리지 않고 실패하도록 timeout을 둔다. (캐시된 조회는 stale 값으로 대신할 수 있음)
+ */
+public class ReadOnlyQueryHints {
+
+    private static final int QUERY_TIMEOUT_MILLIS = 3000;
+
+    public static <T> JPAQuery<T> apply(JPAQuery<T> query) {
+        return query.setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL)
+                .setHint(SpecHints.HINT_SPEC_QUERY_TIMEOUT, QUERY_TIMEOUT_MILLIS);
+    }
+
+}
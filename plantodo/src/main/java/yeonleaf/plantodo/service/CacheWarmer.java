@@ -0,0 +1,90 @@
+package yeonleaf.plantodo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import yeonleaf.plantodo.dto.PlanResDto;
+import yeonleaf.plantodo.wrapper.SliceWrap;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그인 직후 첫 화면에서 조회하는 캐시를 미리 채운다.
+ * 일정 목록의 첫 페이지, 오늘 일정, 이번 달 캘린더(날짜별 일정과 일일 할일)를 서비스의 @Cacheable 메소드로 읽어 캐시에 넣는다.
+ * 오늘을 먼저 채우고 이번 달의 나머지 날짜를 채운다.
+ * 전용 executor는 큐 없이 스레드가 모두 바쁘면 작업을 거절하고, 그때는 채우지 않고 넘어가므로 로그인이 몰려도 작업이 쌓이지 않고 DB 조회는 executor 스레드 수만큼만 동시에 일어난다.
+ * 같은 회원의 작업이 이미 대기 중이거나 실행 중이면 다시 넣지 않는다.
+ */
+@Slf4j
+@Component
+public class CacheWarmer {
+
+    private final PlanService planService;
+    private final CheckboxService checkboxService;
+    private final TaskExecutor executor;
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    public CacheWarmer(PlanService planService, CheckboxService checkboxService,
+                       @Qualifier("cacheWarmUpExecutor") TaskExecutor executor) {
+        this.planService = planService;
+        this.checkboxService = checkboxService;
+        this.executor = executor;
+    }
+
+    /**
+     * @return 작업을 executor에 넣었으면 true, 이미 대기 중이거나 executor가 바빠서 건너뛰었으면 false
+     */
+    public boolean warmUp(Long memberId) {
+
+        if (!pending.add(memberId)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    load(memberId);
+                } catch (RuntimeException e) {
+                    log.warn("캐시 미리 채우기 실패 memberId={}", memberId, e);
+                } finally {
+                    pending.remove(memberId);
+                }
+            });
+            return true;
+        } catch (TaskRejectedException e) {
+            pending.remove(memberId);
+            log.debug("캐시 미리 채우기 건너뜀 memberId={}", memberId);
+            return false;
+        }
+
+    }
+
+    private void load(Long memberId) {
+
+        // PlanController가 limit 없이 첫 페이지를 조회할 때 읽는 캐시와 같다.
+        planService.page(memberId, null, SliceWrap.DEFAULT_LIMIT);
+
+        LocalDate today = LocalDate.now();
+        loadDate(memberId, today);
+
+        YearMonth month = YearMonth.from(today);
+        month.atDay(1).datesUntil(month.atEndOfMonth().plusDays(1))
+                .filter(date -> !date.equals(today))
+                .forEach(date -> loadDate(memberId, date));
+
+    }
+
+    /**
+     * CalendarController, PlanController가 날짜 하나를 조회할 때 읽는 캐시와 같다.
+     */
+    private void loadDate(Long memberId, LocalDate date) {
+        List<PlanResDto> plans = planService.all(memberId, date).getWrap();
+        plans.forEach(plan -> checkboxService.allByPlan(plan.getId(), date));
+    }
+
+}
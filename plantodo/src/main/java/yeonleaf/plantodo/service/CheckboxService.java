@@ -4,6 +4,8 @@ import org.springframework.stereotype.Service;
 import yeonleaf.plantodo.dto.CheckboxReqDto;
 import yeonleaf.plantodo.dto.CheckboxResDto;
 import yeonleaf.plantodo.dto.CheckboxUpdateReqDto;
+import yeonleaf.plantodo.util.CheckboxCursor;
+import yeonleaf.plantodo.wrapper.SliceWrap;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -20,6 +22,8 @@ public interface CheckboxService {
     List<CheckboxResDto> allByGroup(Long groupId, LocalDate dateKey);
     List<CheckboxResDto> allByGroup(Long groupId, LocalDate searchStart, LocalDate searchEnd);
     List<CheckboxResDto> allByPlan(Long planId);
+    SliceWrap<CheckboxResDto> pageByGroup(Long groupId, Long after, int limit);
+    SliceWrap<CheckboxResDto> pageByPlan(Long planId, CheckboxCursor after, int limit);
     List<CheckboxResDto> allByPlan(Long planId, LocalDate dateKey);
     List<CheckboxResDto> allByPlan(Long planId, LocalDate searchStart, LocalDate searchEnd);
 
@@ -1,8 +1,13 @@
 package yeonleaf.plantodo.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import yeonleaf.plantodo.cache.CacheTagInvalidator;
+import yeonleaf.plantodo.cache.CacheTags;
+import yeonleaf.plantodo.cache.NotFoundCache;
+import yeonleaf.plantodo.cache.OwnershipIndex;
 import yeonleaf.plantodo.domain.Checkbox;
 import yeonleaf.plantodo.domain.Group;
 import yeonleaf.plantodo.domain.Plan;
@@ -11,9 +16,10 @@ import yeonleaf.plantodo.dto.CheckboxResDto;
 import yeonleaf.plantodo.dto.CheckboxUpdateReqDto;
 import yeonleaf.plantodo.exceptions.ResourceNotFoundException;
 import yeonleaf.plantodo.repository.*;
+import yeonleaf.plantodo.util.CheckboxCursor;
+import yeonleaf.plantodo.wrapper.SliceWrap;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -24,34 +30,68 @@ public class CheckboxServiceImpl implements CheckboxService {
     private final GroupRepository groupRepository;
     private final CheckboxRepositoryAdapter checkboxRepository;
     private final PlanRepository planRepository;
+    private final CacheTagInvalidator cacheTagInvalidator;
+    private final NotFoundCache notFoundCache;
+    private final OwnershipIndex ownershipIndex;
 
     @Override
     public CheckboxResDto save(CheckboxReqDto checkboxReqDto) {
-        Long planId = checkboxReqDto.getPlanId();
-        planRepository.findById(planId).orElseThrow(ResourceNotFoundException::new);
+        ownershipIndex.checkCurrent(OwnershipIndex.PLAN, checkboxReqDto.getPlanId());
+        Plan plan = planRepository.findById(checkboxReqDto.getPlanId()).orElseThrow(ResourceNotFoundException::new);
+        Group group = findDailyGroup(plan);
+        Checkbox checkbox = checkboxRepository.save(new Checkbox(group, checkboxReqDto.getTitle(), checkboxReqDto.getDate(), false));
+        notFoundCache.forget(NotFoundCache.CHECKBOX, checkbox.getId());
+        ownershipIndex.record(OwnershipIndex.CHECKBOX, checkbox.getId(), group.getId());
+        invalidateCheckboxCaches(checkbox);
+        return new CheckboxResDto(checkbox);
+    }
+
+    /**
+     * 할일이 속한 일정/그룹의 전체, 기간 목록과 할일 날짜의 목록, 회원의 응답 byte 캐시만 커밋 이후에 지운다.
+     */
+    private void invalidateCheckboxCaches(Checkbox checkbox) {
+        Group group = checkbox.getGroup();
+        Plan plan = group.getPlan();
+        List<String> tags = CacheTags.checkboxTags(plan.getId(), group.getId(), List.of(checkbox.getDate()));
+        tags.add(CacheTags.memberResponses(plan.getMember().getId()));
+        cacheTagInvalidator.invalidateAfterCommit(tags);
+    }
+
+    /**
+     * 일정이 참조하는 일일 할일 그룹을 리턴하는 메소드
+     * daily_group_id가 비어 있는 (컬럼 추가 이전에 생성된) 일정만 그룹을 탐색하고, 찾은 그룹을 일정에 채워 넣는다.
+     */
+    private Group findDailyGroup(Plan plan) {
+
+        if (plan.getDailyGroup() != null) {
+            return plan.getDailyGroup();
+        }
 
-        List<Group> candidates = groupRepository.findByPlanIdEntityGraph(planId).stream().filter(group -> group.getRepetition().getRepOption() == 0).toList();
+        List<Group> candidates = groupRepository.findByPlanIdEntityGraph(plan.getId()).stream().filter(group -> group.getRepetition().getRepOption() == 0).toList();
         if (candidates.size() != 1) {
             throw new ResourceNotFoundException();
         }
 
-        Group group = candidates.get(0);
-        return new CheckboxResDto(checkboxRepository.save(new Checkbox(group, checkboxReqDto.getTitle(), checkboxReqDto.getDate(),false)));
+        plan.setDailyGroup(candidates.get(0));
+        return candidates.get(0);
+
     }
 
     @Override
     @Transactional(readOnly = true)
     public CheckboxResDto one(Long id) {
-        Checkbox checkbox = checkboxRepository.findById(id).orElseThrow(ResourceNotFoundException::new);
-        return new CheckboxResDto(checkbox);
+        notFoundCache.check(NotFoundCache.CHECKBOX, id);
+        return checkboxRepository.findResDtoById(id).orElseThrow(() -> notFoundCache.missing(NotFoundCache.CHECKBOX, id));
     }
 
     @Override
     public CheckboxResDto update(CheckboxUpdateReqDto checkboxUpdateReqDto) {
 
+        ownershipIndex.checkCurrent(OwnershipIndex.CHECKBOX, checkboxUpdateReqDto.getId());
         Checkbox oldCheckbox = checkboxRepository.findById(checkboxUpdateReqDto.getId()).orElseThrow(ResourceNotFoundException::new);
         oldCheckbox.setTitle(checkboxUpdateReqDto.getTitle());
         checkboxRepository.save(oldCheckbox);
+        invalidateCheckboxCaches(oldCheckbox);
         return new CheckboxResDto(oldCheckbox);
 
     }
@@ -61,6 +101,7 @@ public class CheckboxServiceImpl implements CheckboxService {
 
         Checkbox checkbox = checkboxRepository.findById(id).orElseThrow(ResourceNotFoundException::new);
         checkboxRepository.delete(checkbox);
+        invalidateCheckboxCaches(checkbox);
 
     }
 
@@ -69,6 +110,7 @@ public class CheckboxServiceImpl implements CheckboxService {
 
         Checkbox checkbox = checkboxRepository.findById(id).orElseThrow(ResourceNotFoundException::new);
         checkbox.changeChecked();
+        invalidateCheckboxCaches(checkbox);
         return new CheckboxResDto(checkboxRepository.save(checkbox));
 
     }
@@ -77,9 +119,8 @@ public class CheckboxServiceImpl implements CheckboxService {
     @Transactional(readOnly = true)
     public List<CheckboxResDto> allByGroup(Long groupId) {
 
-        groupRepository.findById(groupId).orElseThrow(ResourceNotFoundException::new);
-
-        return checkboxRepository.findByGroupId(groupId).stream().map(CheckboxResDto::new).toList();
+        checkGroupExists(groupId);
+        return checkboxRepository.findAllResDtoByGroupId(groupId);
 
     }
 
@@ -87,48 +128,83 @@ public class CheckboxServiceImpl implements CheckboxService {
     @Transactional(readOnly = true)
     public List<CheckboxResDto> allByPlan(Long planId) {
 
-        planRepository.findById(planId).orElseThrow(ResourceNotFoundException::new);
+        checkPlanExists(planId);
+        return checkboxRepository.findAllResDtoByPlanId(planId);
+
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "checkboxesByGroupIdPage", keyGenerator = "groupCacheKeyGenerator", cacheManager = "cacheManager", sync = true)
+    public SliceWrap<CheckboxResDto> pageByGroup(Long groupId, Long after, int limit) {
+
+        checkGroupExists(groupId);
+        return SliceWrap.of(checkboxRepository.findResDtoSliceByGroupId(groupId, after, limit), limit);
+
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "checkboxesByPlanIdPage", keyGenerator = "planCacheKeyGenerator", cacheManager = "cacheManager", sync = true)
+    public SliceWrap<CheckboxResDto> pageByPlan(Long planId, CheckboxCursor after, int limit) {
 
-        List<Checkbox> checkboxes = new ArrayList<>();
-        groupRepository.findByPlanIdEntityGraph(planId).forEach(group -> checkboxes.addAll(checkboxRepository.findByGroupId(group.getId())));
-        return checkboxes.stream().map(CheckboxResDto::new).toList();
+        checkPlanExists(planId);
+        return SliceWrap.of(checkboxRepository.findResDtoSliceByPlanId(planId, after, limit), limit);
 
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "checkboxesByGroupIdAndDate", keyGenerator = "groupCacheKeyGenerator", cacheManager = "cacheManager", sync = true)
     public List<CheckboxResDto> allByGroup(Long groupId, LocalDate dateKey) {
 
-        groupRepository.findById(groupId).orElseThrow(ResourceNotFoundException::new);
-        return checkboxRepository.findAllByGroupIdAndDate(groupId, dateKey).stream().map(CheckboxResDto::new).toList();
+        checkGroupExists(groupId);
+        return checkboxRepository.findAllResDtoByGroupIdAndDate(groupId, dateKey);
 
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "checkboxesByPlanIdAndDate", keyGenerator = "planCacheKeyGenerator", cacheManager = "cacheManager", sync = true)
     public List<CheckboxResDto> allByPlan(Long planId, LocalDate dateKey) {
 
-        planRepository.findById(planId).orElseThrow(ResourceNotFoundException::new);
-        return checkboxRepository.findAllByPlanIdAndDate(planId, dateKey).stream().map(CheckboxResDto::new).toList();
+        checkPlanExists(planId);
+        return checkboxRepository.findAllResDtoByPlanIdAndDate(planId, dateKey);
 
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "checkboxesByGroupIdAndRange", keyGenerator = "groupCacheKeyGenerator", cacheManager = "cacheManager", sync = true)
     public List<CheckboxResDto> allByGroup(Long groupId, LocalDate searchStart, LocalDate searchEnd) {
 
-        groupRepository.findById(groupId).orElseThrow(ResourceNotFoundException::new);
-        return checkboxRepository.findAllByGroupIdAndDateRange(groupId, searchStart, searchEnd).stream().map(CheckboxResDto::new).toList();
+        checkGroupExists(groupId);
+        return checkboxRepository.findAllResDtoByGroupIdAndDateRange(groupId, searchStart, searchEnd);
 
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "checkboxesByPlanIdAndRange", keyGenerator = "planCacheKeyGenerator", cacheManager = "cacheManager", sync = true)
     public List<CheckboxResDto> allByPlan(Long planId, LocalDate searchStart, LocalDate searchEnd) {
 
-        planRepository.findById(planId).orElseThrow(ResourceNotFoundException::new);
-        return checkboxRepository.findAllByPlanIdAndDateRange(planId, searchStart, searchEnd).stream().map(CheckboxResDto::new).toList();
+        checkPlanExists(planId);
+        return checkboxRepository.findAllResDtoByPlanIdAndDateRange(planId, searchStart, searchEnd);
+
+    }
 
+    private void checkPlanExists(Long planId) {
+        notFoundCache.check(NotFoundCache.PLAN, planId);
+        if (!planRepository.existsById(planId)) {
+            throw notFoundCache.missing(NotFoundCache.PLAN, planId);
+        }
+    }
+
+    private void checkGroupExists(Long groupId) {
+        notFoundCache.check(NotFoundCache.GROUP, groupId);
+        if (!groupRepository.existsById(groupId)) {
+            throw notFoundCache.missing(NotFoundCache.GROUP, groupId);
+        }
     }
 
 }
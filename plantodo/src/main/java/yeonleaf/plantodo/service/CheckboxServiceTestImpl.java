@@ -12,9 +12,12 @@ import yeonleaf.plantodo.repository.CheckboxDslRepository;
 import yeonleaf.plantodo.repository.MemoryCheckboxRepository;
 import yeonleaf.plantodo.repository.MemoryGroupRepository;
 import yeonleaf.plantodo.repository.MemoryPlanRepository;
+import yeonleaf.plantodo.util.CheckboxCursor;
+import yeonleaf.plantodo.wrapper.SliceWrap;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -30,7 +33,7 @@ public class CheckboxServiceTestImpl implements CheckboxService {
         Long planId = checkboxReqDto.getPlanId();
         Plan plan = planRepository.findById(planId).orElseThrow(ResourceNotFoundException::new);
 
-        Group group = findGroupRepOptionZero(planId);
+        Group group = findDailyGroup(plan);
         Checkbox checkbox = checkboxRepository.save(new Checkbox(group, checkboxReqDto.getTitle(), checkboxReqDto.getDate(), false));
 
         groupRepository.save(group);
@@ -40,12 +43,17 @@ public class CheckboxServiceTestImpl implements CheckboxService {
 
     }
 
-    private Group findGroupRepOptionZero(Long planId) {
+    private Group findDailyGroup(Plan plan) {
 
-        List<Group> candidates = groupRepository.findByPlanId(planId).stream().filter(group -> group.getRepetition().getRepOption() == 0).toList();
+        if (plan.getDailyGroup() != null) {
+            return plan.getDailyGroup();
+        }
+
+        List<Group> candidates = groupRepository.findByPlanId(plan.getId()).stream().filter(group -> group.getRepetition().getRepOption() == 0).toList();
         if (candidates.size() != 1) {
             throw new ResourceNotFoundException();
         }
+        plan.setDailyGroup(candidates.get(0));
         return candidates.get(0);
 
     }
@@ -104,6 +112,33 @@ public class CheckboxServiceTestImpl implements CheckboxService {
 
     }
 
+    @Override
+    public SliceWrap<CheckboxResDto> pageByGroup(Long groupId, Long after, int limit) {
+
+        List<CheckboxResDto> rows = allByGroup(groupId).stream()
+                .filter(checkboxResDto -> after == null || checkboxResDto.getId() > after)
+                .sorted(Comparator.comparing(CheckboxResDto::getId))
+                .limit(limit + 1L).toList();
+        return SliceWrap.of(rows, limit);
+
+    }
+
+    @Override
+    public SliceWrap<CheckboxResDto> pageByPlan(Long planId, CheckboxCursor after, int limit) {
+
+        List<CheckboxResDto> rows = allByPlan(planId).stream()
+                .filter(checkboxResDto -> after == null || isAfter(checkboxResDto, after))
+                .sorted(Comparator.comparing(CheckboxResDto::getDate).thenComparing(CheckboxResDto::getId))
+                .limit(limit + 1L).toList();
+        return SliceWrap.of(rows, limit);
+
+    }
+
+    private boolean isAfter(CheckboxResDto checkboxResDto, CheckboxCursor after) {
+        return checkboxResDto.getDate().isAfter(after.getDate())
+                || (checkboxResDto.getDate().isEqual(after.getDate()) && checkboxResDto.getId() > after.getId());
+    }
+
     @Override
     public List<CheckboxResDto> allByGroup(Long groupId, LocalDate dateKey) {
 
@@ -6,6 +6,7 @@ import yeonleaf.plantodo.dto.GroupReqDto;
 import yeonleaf.plantodo.dto.GroupResDto;
 import yeonleaf.plantodo.dto.GroupUpdateReqDto;
 import yeonleaf.plantodo.dto.RepInputDto;
+import yeonleaf.plantodo.wrapper.SliceWrap;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -17,6 +18,7 @@ public interface GroupService {
 
     GroupResDto one(Long id);
     List<GroupResDto> all(Long planId);
+    SliceWrap<GroupResDto> page(Long planId, Long after, int limit);
     List<GroupResDto> all(Long planId, LocalDate dateKey);
     List<GroupResDto> all(Long planId, LocalDate searchStart, LocalDate searchEnd);
     GroupResDto update(GroupUpdateReqDto groupUpdateReqDto);
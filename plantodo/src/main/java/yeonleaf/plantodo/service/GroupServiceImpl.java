@@ -1,10 +1,16 @@
 package yeonleaf.plantodo.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import yeonleaf.plantodo.cache.CacheTagInvalidator;
+import yeonleaf.plantodo.cache.CacheTags;
+import yeonleaf.plantodo.cache.NotFoundCache;
+import yeonleaf.plantodo.cache.OwnershipIndex;
 import yeonleaf.plantodo.converter.RepInToOutConverter;
-import yeonleaf.plantodo.converter.RepOutToInConverter;
 import yeonleaf.plantodo.domain.Checkbox;
 import yeonleaf.plantodo.domain.Group;
 import yeonleaf.plantodo.domain.Plan;
@@ -16,13 +22,14 @@ import yeonleaf.plantodo.dto.RepInputDto;
 import yeonleaf.plantodo.exceptions.ResourceNotFoundException;
 import yeonleaf.plantodo.repository.*;
 import yeonleaf.plantodo.util.CheckboxDateCreator;
-import yeonleaf.plantodo.util.DateRange;
+import yeonleaf.plantodo.wrapper.SliceWrap;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -32,14 +39,17 @@ public class GroupServiceImpl implements GroupService {
     private final PlanRepository planRepository;
     private final GroupRepository groupRepository;
     private final CheckboxRepository checkboxRepository;
-    private final CheckboxDslRepository checkboxDslRepository;
+    private final GroupDslRepository groupDslRepository;
     private final RepInToOutConverter repInToOutConverter;
-    private final RepOutToInConverter repOutToInConverter;
-    private final DateRange dateRange;
+    private final CacheTagInvalidator cacheTagInvalidator;
+    private final NotFoundCache notFoundCache;
+    private final OwnershipIndex ownershipIndex;
 
     @Override
+    @CachePut(cacheNames = "group", key = "#result.id", cacheManager = "cacheManager")
     public GroupResDto save(GroupReqDto groupReqDto) {
 
+        ownershipIndex.checkCurrent(OwnershipIndex.PLAN, groupReqDto.getPlanId());
         Optional<Plan> candidatePlan = planRepository.findById(groupReqDto.getPlanId());
         if (candidatePlan.isEmpty()) {
             throw new ResourceNotFoundException();
@@ -50,47 +60,63 @@ public class GroupServiceImpl implements GroupService {
         RepInputDto repInputDto = new RepInputDto(groupReqDto.getRepOption(), groupReqDto.getRepValue());
         Repetition repetition = repInToOutConverter.convert(repInputDto);
         Group group = groupRepository.save(new Group(plan, groupReqDto.getTitle(), repetition));
+        notFoundCache.forget(NotFoundCache.GROUP, group.getId());
+        ownershipIndex.record(OwnershipIndex.GROUP, group.getId(), plan.getId());
 
         List<LocalDate> dates = CheckboxDateCreator.create(plan, repInputDto);
-        dates.forEach(date -> {
-            checkboxRepository.save(new Checkbox(group, group.getTitle(), date, false));
-        });
+        dates.forEach(date -> saveCheckbox(group, date));
         groupRepository.save(group);
         planRepository.save(plan);
+        invalidateGroupCaches(group, dates);
 
         return new GroupResDto(group, repInputDto.getRepOption(), repInputDto.getRepValue());
 
     }
 
+    /**
+     * 그룹이 속한 일정/그룹 단위 목록과, 할일이 바뀐 날짜의 목록, 회원의 응답 byte 캐시를 커밋 이후에 지운다.
+     */
+    private void invalidateGroupCaches(Group group, Collection<LocalDate> changedDates) {
+        Plan plan = group.getPlan();
+        List<String> tags = CacheTags.checkboxTags(plan.getId(), group.getId(), changedDates);
+        tags.add(CacheTags.memberResponses(plan.getMember().getId()));
+        cacheTagInvalidator.invalidateAfterCommit(tags);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<GroupResDto> all(Long planId) {
 
-        planRepository.findById(planId).orElseThrow(ResourceNotFoundException::new);
+        checkPlanExists(planId);
+        return groupDslRepository.findAllResDtoByPlanId(planId);
 
-        return groupRepository.findByPlanIdEntityGraph(planId).stream().filter(group -> group.getRepetition().getRepOption() != 0).map(group -> {
-            Repetition repetition = group.getRepetition();
-            RepInputDto repInputDto = repOutToInConverter.convert(repetition);
-            return new GroupResDto(group, repInputDto.getRepOption(), repInputDto.getRepValue());
-        }).collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "groupsByPlanIdPage", keyGenerator = "planCacheKeyGenerator", cacheManager = "cacheManager", sync = true)
+    public SliceWrap<GroupResDto> page(Long planId, Long after, int limit) {
+
+        checkPlanExists(planId);
+        return SliceWrap.of(groupDslRepository.findResDtoSliceByPlanId(planId, after, limit), limit);
 
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "group", key = "#id", cacheManager = "cacheManager", sync = true)
     public GroupResDto one(Long id) {
 
-        Group group = groupRepository.findByIdEntityGraph(id).orElseThrow(ResourceNotFoundException::new);
-        Repetition repetition = group.getRepetition();
-        RepInputDto repInputDto = repOutToInConverter.convert(repetition);
-        assert repInputDto != null;
-        return new GroupResDto(group, repInputDto.getRepOption(), repInputDto.getRepValue());
+        notFoundCache.check(NotFoundCache.GROUP, id);
+        return groupDslRepository.findResDtoById(id).orElseThrow(() -> notFoundCache.missing(NotFoundCache.GROUP, id));
 
     }
 
     @Override
+    @CachePut(cacheNames = "group", key = "#groupUpdateReqDto.id", cacheManager = "cacheManager")
     public GroupResDto update(GroupUpdateReqDto groupUpdateReqDto) {
 
+        ownershipIndex.checkCurrent(OwnershipIndex.GROUP, groupUpdateReqDto.getId());
         Group oldGroup = groupRepository.findByIdEntityGraph(groupUpdateReqDto.getId()).orElseThrow(ResourceNotFoundException::new);
 
         String oldTitle = oldGroup.getTitle();
@@ -114,10 +140,11 @@ public class GroupServiceImpl implements GroupService {
 
         if (!hasDifferentRepOption && !hasDifferentRepValue) {
             Group newGroup = groupRepository.save(oldGroup);
+            invalidateGroupCaches(newGroup, checkboxRepository.findByGroupId(newGroup.getId()).stream().map(Checkbox::getDate).toList());
             return new GroupResDto(newGroup, oldRepOption, newRepValueList);
         }
 
-        resetCheckboxes(oldGroup, newRepOption, newRepValueList);
+        invalidateGroupCaches(oldGroup, resetCheckboxes(oldGroup, newRepOption, newRepValueList));
 
         Repetition oldRepetition = oldGroup.getRepetition();
         oldRepetition.setRepOption(newRepOption);
@@ -141,55 +168,71 @@ public class GroupServiceImpl implements GroupService {
         return !oldRepValue.equals(newRepValue);
     }
 
-    private void resetCheckboxes(Group group, int newRepOption, List<String> newRepValue) {
+    /**
+     * @return 할일이 삭제되거나 생성된 날짜
+     */
+    private List<LocalDate> resetCheckboxes(Group group, int newRepOption, List<String> newRepValue) {
 
-        checkboxRepository.findByGroupId(group.getId()).forEach(checkboxRepository::delete);
+        List<LocalDate> changedDates = new ArrayList<>();
+        checkboxRepository.findByGroupId(group.getId()).forEach(checkbox -> {
+            checkboxRepository.delete(checkbox);
+            changedDates.add(checkbox.getDate());
+        });
         List<LocalDate> dates = CheckboxDateCreator.create(group.getPlan(), new RepInputDto(newRepOption, newRepValue));
-        dates.forEach(date -> checkboxRepository.save(new Checkbox(group, group.getTitle(), date, false)));
+        dates.forEach(date -> saveCheckbox(group, date));
+        changedDates.addAll(dates);
+        return changedDates;
+
+    }
 
+    private void saveCheckbox(Group group, LocalDate date) {
+        Checkbox checkbox = checkboxRepository.save(new Checkbox(group, group.getTitle(), date, false));
+        notFoundCache.forget(NotFoundCache.CHECKBOX, checkbox.getId());
     }
 
     @Override
+    @CacheEvict(cacheNames = "group", key = "#id", cacheManager = "cacheManager")
     public void delete(Long id) {
 
         Group group = groupRepository.findById(id).orElseThrow(ResourceNotFoundException::new);
-        checkboxRepository.findByGroupId(group.getId()).forEach(checkboxRepository::delete);
+        if (group.getRepetition().getRepOption() == 0) {
+            group.getPlan().setDailyGroup(null);
+        }
+        List<LocalDate> deletedDates = new ArrayList<>();
+        checkboxRepository.findByGroupId(group.getId()).forEach(checkbox -> {
+            checkboxRepository.delete(checkbox);
+            deletedDates.add(checkbox.getDate());
+        });
         groupRepository.delete(group);
+        invalidateGroupCaches(group, deletedDates);
 
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "groupsByPlanIdAndDate", keyGenerator = "planCacheKeyGenerator", cacheManager = "cacheManager", sync = true)
     public List<GroupResDto> all(Long planId, LocalDate dateKey) {
 
-        return all(planId).stream()
-                .filter(groupResDto -> isNotEmptyToday(groupResDto.getId(), dateKey)).toList();
+        checkPlanExists(planId);
+        return groupDslRepository.findAllResDtoByPlanIdAndDate(planId, dateKey);
 
     }
 
-    private boolean isNotEmptyToday(Long groupId, LocalDate dateKey) {
-        return checkboxDslRepository.findAllByGroupIdAndDate(groupId, dateKey).size() > 0;
-    }
-
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "groupsByPlanIdAndRange", keyGenerator = "planCacheKeyGenerator", cacheManager = "cacheManager", sync = true)
     public List<GroupResDto> all(Long planId, LocalDate searchStart, LocalDate searchEnd) {
 
-        return all(planId).stream()
-                .filter(groupResDto -> isNotEmptyInRange(groupResDto.getId(), searchStart, searchEnd)).toList();
+        checkPlanExists(planId);
+        return groupDslRepository.findAllResDtoByPlanIdAndDateRange(planId, searchStart, searchEnd);
 
     }
 
-    private boolean isNotEmptyInRange(Long groupId, LocalDate searchStart, LocalDate searchEnd) {
-
-        List<LocalDate> dates = checkboxRepository.findByGroupId(groupId).stream().map(Checkbox::getDate).toList();
-        for (LocalDate date : dateRange.between(searchStart, searchEnd)) {
-            if (dates.contains(date)) {
-                return true;
-            }
+    private void checkPlanExists(Long planId) {
+        notFoundCache.check(NotFoundCache.PLAN, planId);
+        if (!planRepository.existsById(planId)) {
+            throw notFoundCache.missing(NotFoundCache.PLAN, planId);
         }
-        return false;
-
     }
 
 }
@@ -19,8 +19,10 @@ import yeonleaf.plantodo.repository.MemoryRepository;
 import yeonleaf.plantodo.util.CheckboxDateCreator;
 import yeonleaf.plantodo.util.DateRange;
 import yeonleaf.plantodo.validator.RepInputValidator;
+import yeonleaf.plantodo.wrapper.SliceWrap;
 
 import java.time.LocalDate;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -75,6 +77,17 @@ public class GroupServiceTestImpl implements GroupService {
 
     }
 
+    @Override
+    public SliceWrap<GroupResDto> page(Long planId, Long after, int limit) {
+
+        List<GroupResDto> rows = all(planId).stream()
+                .filter(groupResDto -> after == null || groupResDto.getId() > after)
+                .sorted(Comparator.comparing(GroupResDto::getId))
+                .limit(limit + 1L).toList();
+        return SliceWrap.of(rows, limit);
+
+    }
+
     @Override
     public GroupResDto one(Long id) {
 
@@ -151,6 +164,9 @@ public class GroupServiceTestImpl implements GroupService {
     public void delete(Long id) {
 
         Group group = groupRepository.findById(id).orElseThrow(ResourceNotFoundException::new);
+        if (group.getRepetition().getRepOption() == 0) {
+            group.getPlan().setDailyGroup(null);
+        }
         checkboxRepository.findByGroupId(group.getId()).forEach(checkboxRepository::delete);
         groupRepository.delete(group);
 
@@ -3,16 +3,20 @@ package yeonleaf.plantodo.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import yeonleaf.plantodo.SchemaMigrator;
+import yeonleaf.plantodo.cache.NotFoundCache;
+import yeonleaf.plantodo.cache.RegisteredEmailFilter;
 import yeonleaf.plantodo.domain.Member;
 import yeonleaf.plantodo.dto.MemberReqDto;
 import yeonleaf.plantodo.dto.MemberResDto;
 import yeonleaf.plantodo.exceptions.ArgumentValidationException;
 import yeonleaf.plantodo.exceptions.DuplicatedMemberException;
 import yeonleaf.plantodo.exceptions.ResourceNotFoundException;
+import yeonleaf.plantodo.repository.MemberNaturalIdRepository;
 import yeonleaf.plantodo.repository.MemberRepository;
-import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -21,39 +25,69 @@ import java.util.Optional;
 public class MemberServiceImpl implements MemberService {
 
     private final MemberRepository memberRepository;
+    private final MemberNaturalIdRepository memberNaturalIdRepository;
+    private final NotFoundCache notFoundCache;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final SchemaMigrator schemaMigrator;
 
+    /**
+     * filter에 없는 이메일은 조회 없이 바로 insert하고, 다른 노드에서 먼저 가입한 경우는 email unique 제약으로 걸러낸다.
+     * (IDENTITY 전략이라 save에서 바로 insert되므로 제약 위반도 여기서 던져진다.)
+     * unique 제약이 아직 없으면(마이그레이션 전) filter와 상관없이 항상 조회한다.
+     */
     @Override
     public MemberResDto save(MemberReqDto memberReqDto) {
-        if (isNotNewMember(memberReqDto.getEmail())) {
+        String email = Member.normalizeEmail(memberReqDto.getEmail());
+        boolean mightBeRegistered = !schemaMigrator.isMemberEmailUnique() || registeredEmailFilter.mightBeRegistered(email);
+        if (mightBeRegistered && isNotNewMember(email)) {
             throw new DuplicatedMemberException("이미 이메일이 있음");
         }
-        Member member = memberRepository.save(new Member(memberReqDto));
+        Member member;
+        try {
+            member = memberRepository.save(new Member(memberReqDto));
+        } catch (DataIntegrityViolationException e) {
+            registeredEmailFilter.register(email);
+            throw new DuplicatedMemberException("이미 이메일이 있음");
+        }
+        registeredEmailFilter.register(email);
+        notFoundCache.forget(NotFoundCache.MEMBER, member.getId());
         return new MemberResDto(member);
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean isNotNewMember(String email) {
-        return memberRepository.findByEmail(email).size() > 0;
+        return findByEmail(email).isPresent();
     }
 
     @Override
     @Transactional(readOnly = true)
     public Long login(MemberReqDto memberReqDto) {
-        List<Member> candidates = memberRepository.findByEmail(memberReqDto.getEmail());
-        if (candidates.isEmpty()) {
-            throw new ResourceNotFoundException();
-        }
-        if (!candidates.get(0).getPassword().equals(memberReqDto.getPassword())) {
+        Member member = findByEmail(memberReqDto.getEmail()).orElseThrow(ResourceNotFoundException::new);
+        if (!member.getPassword().equals(memberReqDto.getPassword())) {
             throw new ArgumentValidationException("password", "password가 일치하지 않습니다.");
         }
-        return candidates.get(0).getId();
+        return member.getId();
+    }
+
+    /**
+     * email에 unique 제약이 있으면 natural id로 찾는다.
+     * 제약이 없으면(마이그레이션 전이거나 중복 이메일이 남아 있으면) natural id 조회는 같은 이메일이 여러 행일 때 예외를 던지므로,
+     * 대소문자를 무시하고 id가 가장 작은 회원을 찾는다.
+     */
+    private Optional<Member> findByEmail(String email) {
+        String normalized = Member.normalizeEmail(email);
+        if (!schemaMigrator.isMemberEmailUnique()) {
+            return memberRepository.findFirstByEmailIgnoreCaseOrderByIdAsc(normalized);
+        }
+        return memberNaturalIdRepository.findByEmail(normalized);
     }
 
     @Override
     @Transactional(readOnly = true)
     public MemberResDto findById(Long id) {
-        Member member = memberRepository.findById(id).orElseThrow(ResourceNotFoundException::new);
+        notFoundCache.check(NotFoundCache.MEMBER, id);
+        Member member = memberRepository.findById(id).orElseThrow(() -> notFoundCache.missing(NotFoundCache.MEMBER, id));
         return new MemberResDto(member);
     }
 
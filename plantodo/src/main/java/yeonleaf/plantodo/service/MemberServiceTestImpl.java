@@ -29,12 +29,12 @@ public class MemberServiceTestImpl implements MemberService {
 
     @Override
     public boolean isNotNewMember(String email) {
-        return !memberRepository.findByEmail(email).isEmpty();
+        return !memberRepository.findByEmail(Member.normalizeEmail(email)).isEmpty();
     }
 
     @Override
     public Long login(MemberReqDto memberReqDto) {
-        List<Member> candidates = memberRepository.findByEmail(memberReqDto.getEmail());
+        List<Member> candidates = memberRepository.findByEmail(Member.normalizeEmail(memberReqDto.getEmail()));
         if (candidates.isEmpty()) {
             throw new ResourceNotFoundException();
         }
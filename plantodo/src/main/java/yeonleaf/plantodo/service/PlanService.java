@@ -7,6 +7,7 @@ import yeonleaf.plantodo.dto.PlanReqDto;
 import yeonleaf.plantodo.dto.PlanResDto;
 import yeonleaf.plantodo.dto.PlanUpdateReqDto;
 import yeonleaf.plantodo.wrapper.PlanResDtoWrap;
+import yeonleaf.plantodo.wrapper.SliceWrap;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -16,9 +17,11 @@ public interface PlanService {
 
     PlanResDto save(PlanReqDto planReqDto);
     PlanResDto one(Long id);
+    List<PlanResDto> allByIds(List<Long> ids);
     PlanResDto update(PlanUpdateReqDto planUpdateReqDto);
     void delete(Long id);
     PlanResDtoWrap all(Long memberId);
+    SliceWrap<PlanResDto> page(Long memberId, Long after, int limit);
     PlanResDtoWrap all(Long memberId, LocalDate dateKey);
     PlanResDtoWrap all(Long memberId, LocalDate searchStart, LocalDate searchEnd);
     PlanResDto change(Long id);
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.tool.schema.internal.exec.ScriptTargetOutputToFile;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
@@ -11,13 +13,20 @@ import org.springframework.data.redis.core.ClusterOperations;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import yeonleaf.plantodo.cache.CacheTagInvalidator;
+import yeonleaf.plantodo.cache.CacheTags;
+import yeonleaf.plantodo.cache.MultiGetCache;
+import yeonleaf.plantodo.cache.NotFoundCache;
+import yeonleaf.plantodo.cache.OwnershipIndex;
 import yeonleaf.plantodo.converter.RepInToOutConverter;
 import yeonleaf.plantodo.converter.RepOutToInConverter;
 import yeonleaf.plantodo.domain.Checkbox;
 import yeonleaf.plantodo.domain.Group;
 import yeonleaf.plantodo.domain.Member;
 import yeonleaf.plantodo.domain.Plan;
+import yeonleaf.plantodo.domain.PlanStatus;
 import yeonleaf.plantodo.dto.MemberResDto;
 import yeonleaf.plantodo.dto.PlanReqDto;
 import yeonleaf.plantodo.dto.PlanResDto;
@@ -26,14 +35,19 @@ import yeonleaf.plantodo.exceptions.ResourceNotFoundException;
 import yeonleaf.plantodo.repository.CheckboxRepository;
 import yeonleaf.plantodo.repository.GroupRepository;
 import yeonleaf.plantodo.repository.MemberRepository;
+import yeonleaf.plantodo.repository.PlanDslRepository;
 import yeonleaf.plantodo.repository.PlanRepository;
 import yeonleaf.plantodo.util.CheckboxDateCreator;
+import yeonleaf.plantodo.util.MemberContext;
 import yeonleaf.plantodo.util.PlanDateRangeRevisionMaker;
 import yeonleaf.plantodo.wrapper.PlanResDtoWrap;
+import yeonleaf.plantodo.wrapper.SliceWrap;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -44,36 +58,77 @@ public class PlanServiceImpl implements PlanService {
 
     private final MemberRepository memberRepository;
     private final PlanRepository planRepository;
+    private final PlanDslRepository planDslRepository;
     private final GroupRepository groupRepository;
     private final CheckboxRepository checkboxRepository;
     private final RepOutToInConverter repOutToInConverter;
     private final GroupService groupService;
+    private final CacheTagInvalidator cacheTagInvalidator;
+    private final NotFoundCache notFoundCache;
+    private final CacheManager cacheManager;
+    private final OwnershipIndex ownershipIndex;
 
     @Override
     @CacheEvict(cacheNames = "plan", key = "#result.id", cacheManager = "cacheManager")
     public PlanResDto save(PlanReqDto planReqDto) {
-        Member member = memberRepository.findById(planReqDto.getMemberId()).orElseThrow(ResourceNotFoundException::new);
+        ownershipIndex.checkCurrent(OwnershipIndex.MEMBER, planReqDto.getMemberId());
+        Member member = findMember(planReqDto.getMemberId());
         Plan plan = planRepository.save(new Plan(planReqDto, member));
-        groupRepository.save(new Group(plan, "DailyGroup"));
+        Group dailyGroup = groupRepository.save(new Group(plan, "DailyGroup"));
+        plan.setDailyGroup(dailyGroup);
+        notFoundCache.forget(NotFoundCache.PLAN, plan.getId());
+        notFoundCache.forget(NotFoundCache.GROUP, dailyGroup.getId());
+        ownershipIndex.record(OwnershipIndex.PLAN, plan.getId(), member.getId());
+        ownershipIndex.record(OwnershipIndex.GROUP, dailyGroup.getId(), plan.getId());
+        invalidateMemberCaches(plan);
         return new PlanResDto(plan);
 
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = "plan", key="#id", cacheManager = "cacheManager")
+    @Cacheable(cacheNames = "plan", key = "#id", cacheManager = "cacheManager", sync = true)
     public PlanResDto one(Long id) {
 
-        Plan plan = planRepository.findById(id).orElseThrow(ResourceNotFoundException::new);
-        checkPlanOutdated(plan);
-        return new PlanResDto(plan);
+        notFoundCache.check(NotFoundCache.PLAN, id);
+        PlanResDto planResDto = planDslRepository.findResDtoById(id).orElseThrow(() -> notFoundCache.missing(NotFoundCache.PLAN, id));
+        checkPlanOutdated(planResDto);
+        return planResDto;
+
+    }
+
+    /**
+     * 캐시(plan)에 있는 일정은 한 번에 읽고, 없는 일정만 DB에서 읽어서 캐시에 채운다.
+     * 없는 id는 결과에서 빠진다.
+     * 모두 캐시에 있으면 트랜잭션과 DB 연결 없이 끝나도록 트랜잭션을 새로 시작하지 않는다. (SUPPORTS, readOnly라서 DB를 읽을 때는 slave로 간다.)
+     * 다른 회원의 일정이 섞여 있으면 {@link OwnershipIndex}가 403으로 막는다.
+     */
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<PlanResDto> allByIds(List<Long> ids) {
+
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        distinctIds.forEach(id -> ownershipIndex.checkCurrent(OwnershipIndex.PLAN, id));
+        Cache planCache = Objects.requireNonNull(cacheManager.getCache("plan"));
+        Map<Object, Cache.ValueWrapper> cached = MultiGetCache.getAll(planCache, distinctIds);
+
+        Map<Long, PlanResDto> plans = new HashMap<>();
+        cached.forEach((id, value) -> plans.put((Long) id, (PlanResDto) value.get()));
+        List<Long> missingIds = distinctIds.stream().filter(id -> !plans.containsKey(id)).toList();
+        if (!missingIds.isEmpty()) {
+            planDslRepository.findAllResDtoByIds(missingIds).forEach(planResDto -> {
+                checkPlanOutdated(planResDto);
+                planCache.put(planResDto.getId(), planResDto);
+                plans.put(planResDto.getId(), planResDto);
+            });
+        }
+        return distinctIds.stream().map(plans::get).filter(Objects::nonNull).toList();
 
     }
 
-    private void checkPlanOutdated(Plan plan) {
-        if (plan.getEnd().isBefore(LocalDate.now())) {
-            plan.changeToPast();
-            planRepository.save(plan);
+    private void checkPlanOutdated(PlanResDto planResDto) {
+        if (planResDto.getEnd().isBefore(LocalDate.now())) {
+            planResDto.setStatus(PlanStatus.PAST);
         }
     }
 
@@ -84,7 +139,9 @@ public class PlanServiceImpl implements PlanService {
         PlanDateRangeRevisionMaker planDateRangeRevisionMaker = new PlanDateRangeRevisionMaker();
 
         Long id = planUpdateReqDto.getId();
+        ownershipIndex.checkCurrent(OwnershipIndex.PLAN, id);
         Plan oldPlan = planRepository.findById(id).orElseThrow(ResourceNotFoundException::new);
+        invalidateMemberCaches(oldPlan);
         if (onlyTitleDifferent(planUpdateReqDto, oldPlan)) {
             oldPlan.setTitle(planUpdateReqDto.getTitle());
             return new PlanResDto(planRepository.save(oldPlan));
@@ -99,45 +156,77 @@ public class PlanServiceImpl implements PlanService {
 
         List<Group> groups = groupRepository.findByPlanIdEntityGraph(updatedPlan.getId());
         for (Group group : groups) {
-            if (needResetMode(group)) {
-                updateResetMode(group, updatedPlan);
-            } else {
-                updatePreserveMode(revisedDateRange, group, updatedPlan);
-            }
+            List<LocalDate> changedDates = needResetMode(group)
+                    ? updateResetMode(group, updatedPlan)
+                    : updatePreserveMode(revisedDateRange, group, updatedPlan);
+            cacheTagInvalidator.invalidateAfterCommit(CacheTags.checkboxTags(updatedPlan.getId(), group.getId(), changedDates));
         }
 
         return new PlanResDto(updatedPlan);
 
     }
 
+    /**
+     * 회원 단위로 캐시되는 일정 목록(plansByMemberId*)과 응답 byte 캐시를 커밋 이후에 한 번에 지운다.
+     */
+    private void invalidateMemberCaches(Plan plan) {
+        Long memberId = plan.getMember().getId();
+        cacheTagInvalidator.invalidateAfterCommit(List.of(CacheTags.member(memberId), CacheTags.memberResponses(memberId), CacheTags.planResponses(plan.getId())));
+    }
+
     private boolean needResetMode(Group group) {
         return group.getRepetition().getRepOption() == 2;
     }
 
-    private void updatePreserveMode(HashMap<LocalDate, Integer> revisedDateRange, Group group, Plan updatedPlan) {
+    /**
+     * @return 할일이 삭제되거나 생성된 날짜
+     */
+    private List<LocalDate> updatePreserveMode(HashMap<LocalDate, Integer> revisedDateRange, Group group, Plan updatedPlan) {
+
+        List<LocalDate> changedDates = new ArrayList<>();
 
         // checkbox 삭제
         List<Checkbox> checkboxes = checkboxRepository.findByGroupId(group.getId());
         checkboxes.stream().filter(checkbox -> revisedDateRange.containsKey(checkbox.getDate()) && revisedDateRange.get(checkbox.getDate()).equals(2))
-                .forEach(checkboxRepository::delete);
+                .forEach(checkbox -> {
+                    checkboxRepository.delete(checkbox);
+                    changedDates.add(checkbox.getDate());
+                });
 
         // checkbox 생성
         List<LocalDate> revisedDates = CheckboxDateCreator.create(updatedPlan, Objects.requireNonNull(repOutToInConverter.convert(group.getRepetition())));
         revisedDateRange.keySet().stream().filter(date -> revisedDateRange.get(date).equals(3))
                 .filter(revisedDates::contains)
                 .forEach(date -> {
-                    checkboxRepository.save(new Checkbox(group, group.getTitle(), date, false));
+                    saveCheckbox(group, date);
+                    changedDates.add(date);
                 });
 
+        return changedDates;
+
     }
 
-    private void updateResetMode(Group group, Plan updatedPlan) {
+    /**
+     * @return 할일이 삭제되거나 생성된 날짜
+     */
+    private List<LocalDate> updateResetMode(Group group, Plan updatedPlan) {
 
+        List<LocalDate> changedDates = new ArrayList<>();
         checkboxRepository.findByGroupId(group.getId())
-                .stream().forEach(checkboxRepository::delete);
+                .forEach(checkbox -> {
+                    checkboxRepository.delete(checkbox);
+                    changedDates.add(checkbox.getDate());
+                });
         List<LocalDate> dates = CheckboxDateCreator.create(updatedPlan, repOutToInConverter.convert(group.getRepetition()));
-        dates.forEach(date -> checkboxRepository.save(new Checkbox(group, group.getTitle(), date, false)));
+        dates.forEach(date -> saveCheckbox(group, date));
+        changedDates.addAll(dates);
+        return changedDates;
+
+    }
 
+    private void saveCheckbox(Group group, LocalDate date) {
+        Checkbox checkbox = checkboxRepository.save(new Checkbox(group, group.getTitle(), date, false));
+        notFoundCache.forget(NotFoundCache.CHECKBOX, checkbox.getId());
     }
 
     private boolean onlyTitleDifferent(PlanUpdateReqDto planUpdateReqDto, Plan plan) {
@@ -155,17 +244,30 @@ public class PlanServiceImpl implements PlanService {
         Plan plan = planRepository.findById(id).orElseThrow(ResourceNotFoundException::new);
         groupRepository.findByPlanIdEntityGraph(plan.getId()).forEach(group -> groupService.delete(group.getId()));
         planRepository.delete(plan);
+        invalidateMemberCaches(plan);
 
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = "plansByMemberId", key = "#memberId", cacheManager = "cacheManager")
+    @Cacheable(cacheNames = "plansByMemberId", keyGenerator = "memberCacheKeyGenerator", cacheManager = "cacheManager", sync = true)
     public PlanResDtoWrap all(Long memberId) {
 
-        memberRepository.findById(memberId).orElseThrow(ResourceNotFoundException::new);
-        List<PlanResDto> planResDtoList = planRepository.findByMemberId(memberId).stream().map(PlanResDto::new).toList();
-        return new PlanResDtoWrap(planResDtoList);
+        checkMemberExists(memberId);
+        return new PlanResDtoWrap(planDslRepository.findAllResDtoByMemberId(memberId));
+
+    }
+
+    /**
+     * 페이지마다(after, limit) 회원 태그로 캐시해서 일정을 바꾸면 모든 페이지가 함께 지워진다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "plansByMemberIdPage", keyGenerator = "memberCacheKeyGenerator", cacheManager = "cacheManager", sync = true)
+    public SliceWrap<PlanResDto> page(Long memberId, Long after, int limit) {
+
+        checkMemberExists(memberId);
+        return SliceWrap.of(planDslRepository.findResDtoSliceByMemberId(memberId, after, limit), limit);
 
     }
 
@@ -175,39 +277,49 @@ public class PlanServiceImpl implements PlanService {
 
         Plan plan = planRepository.findById(id).orElseThrow(ResourceNotFoundException::new);
         plan.changeStatus();
+        invalidateMemberCaches(plan);
         return new PlanResDto(planRepository.save(plan));
 
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = "plansByMemberIdAndDate", cacheManager = "cacheManager")
+    @Cacheable(cacheNames = "plansByMemberIdAndDate", keyGenerator = "memberCacheKeyGenerator", cacheManager = "cacheManager", sync = true)
     public PlanResDtoWrap all(Long memberId, LocalDate dateKey) {
 
-        memberRepository.findById(memberId).orElseThrow(ResourceNotFoundException::new);
-        List<PlanResDto> planResDtoList = planRepository.findByMemberId(memberId).stream()
-                .filter(plan -> hasDateKey(plan, dateKey))
-                .map(PlanResDto::new).toList();
-        return new PlanResDtoWrap(planResDtoList);
-
-    }
-
-    private boolean hasDateKey(Plan plan, LocalDate dateKey) {
-
-        return !(dateKey.isBefore(plan.getStart()) || dateKey.isAfter(plan.getEnd()));
+        checkMemberExists(memberId);
+        return new PlanResDtoWrap(planDslRepository.findAllResDtoByMemberIdAndDate(memberId, dateKey));
 
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = "plansByMemberIdAndRange", cacheManager = "cacheManager")
+    @Cacheable(cacheNames = "plansByMemberIdAndRange", keyGenerator = "memberCacheKeyGenerator", cacheManager = "cacheManager", sync = true)
     public PlanResDtoWrap all(Long memberId, LocalDate searchStart, LocalDate searchEnd) {
 
-        List<PlanResDto> planResDtoList = all(memberId).getWrap().stream()
-                .filter(planResDto -> new PlanDateRangeRevisionMaker().isInRange(searchStart, searchEnd, planResDto.getStart(), planResDto.getEnd()))
-                .toList();
-        return new PlanResDtoWrap(planResDtoList);
+        checkMemberExists(memberId);
+        return new PlanResDtoWrap(planDslRepository.findAllResDtoByMemberIdAndDateRange(memberId, searchStart, searchEnd));
+
+    }
+
+    /**
+     * 토큰으로 확인한 회원이면 조회하지 않고 참조만 가져온다.
+     */
+    private Member findMember(Long memberId) {
+        if (MemberContext.isCurrent(memberId)) {
+            return memberRepository.getReferenceById(memberId);
+        }
+        return memberRepository.findById(memberId).orElseThrow(ResourceNotFoundException::new);
+    }
 
+    private void checkMemberExists(Long memberId) {
+        if (MemberContext.isCurrent(memberId)) {
+            return;
+        }
+        notFoundCache.check(NotFoundCache.MEMBER, memberId);
+        if (!memberRepository.existsById(memberId)) {
+            throw notFoundCache.missing(NotFoundCache.MEMBER, memberId);
+        }
     }
 
 }
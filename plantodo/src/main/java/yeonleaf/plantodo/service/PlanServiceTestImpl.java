@@ -9,8 +9,10 @@ import yeonleaf.plantodo.repository.*;
 import yeonleaf.plantodo.util.CheckboxDateCreator;
 import yeonleaf.plantodo.util.PlanDateRangeRevisionMaker;
 import yeonleaf.plantodo.wrapper.PlanResDtoWrap;
+import yeonleaf.plantodo.wrapper.SliceWrap;
 
 import java.time.LocalDate;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Objects;
@@ -31,7 +33,8 @@ public class PlanServiceTestImpl implements PlanService {
 
         Member member = memberRepository.findById(planReqDto.getMemberId()).orElseThrow(ResourceNotFoundException::new);
         Plan plan = planRepository.save(new Plan(planReqDto, member));
-        groupRepository.save(new Group(plan, "repOptionZeroGroup"));
+        Group dailyGroup = groupRepository.save(new Group(plan, "repOptionZeroGroup"));
+        plan.setDailyGroup(dailyGroup);
         return new PlanResDto(plan);
 
     }
@@ -45,6 +48,18 @@ public class PlanServiceTestImpl implements PlanService {
 
     }
 
+    @Override
+    public List<PlanResDto> allByIds(List<Long> ids) {
+
+        return ids.stream().distinct()
+                .map(planRepository::findById)
+                .flatMap(Optional::stream)
+                .peek(this::checkPlanOutdated)
+                .map(PlanResDto::new)
+                .toList();
+
+    }
+
     private void checkPlanOutdated(Plan plan) {
         if (plan.getEnd().isBefore(LocalDate.now())) {
             plan.changeToPast();
@@ -139,6 +154,17 @@ public class PlanServiceTestImpl implements PlanService {
 
     }
 
+    @Override
+    public SliceWrap<PlanResDto> page(Long memberId, Long after, int limit) {
+
+        List<PlanResDto> rows = all(memberId).getWrap().stream()
+                .filter(planResDto -> after == null || planResDto.getId() > after)
+                .sorted(Comparator.comparing(PlanResDto::getId))
+                .limit(limit + 1L).toList();
+        return SliceWrap.of(rows, limit);
+
+    }
+
     @Override
     public PlanResDto change(Long id) {
 
@@ -0,0 +1,81 @@
+package yeonleaf.plantodo.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom filter
+ * mightContain이 false면 넣은 적이 없는 값이고, true는 오탐일 수 있으므로 정확한 저장소에서 다시 확인한다.
+ * 비트는 AtomicLongArray에 두어 여러 스레드가 잠금 없이 넣고 확인한다.
+ * 값을 지울 수 없으므로 지워야 할 값이 생기면 새 filter를 만들어 바꿔 끼운다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final int bitSize;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 넣을 값의 수 (이보다 많이 넣으면 오탐률이 올라간다.)
+     * @param falsePositiveRate expectedInsertions만큼 넣었을 때의 오탐률
+     */
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int insertions = Math.max(1, expectedInsertions);
+        double optimalBits = -insertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        this.bitSize = (int) Math.min(Math.max(64.0, Math.ceil(optimalBits)), Integer.MAX_VALUE - 64.0);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / insertions * Math.log(2)));
+        this.bits = new AtomicLongArray((bitSize + 63) >>> 6);
+    }
+
+    public void put(String value) {
+        long hash = hash(value);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int index = index(hash1, hash2, i);
+            long mask = 1L << index;
+            bits.getAndUpdate(index >>> 6, word -> word | mask);
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int index = index(hash1, hash2, i);
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 64bit hash 하나를 둘로 나눠 hashCount개의 위치를 만든다. (Kirsch-Mitzenmacher)
+     */
+    private int index(int hash1, int hash2, int i) {
+        int combined = hash1 + i * hash2;
+        if (combined < 0) {
+            combined = ~combined;
+        }
+        return combined % bitSize;
+    }
+
+    /**
+     * FNV-1a 뒤에 MurmurHash3 finalizer로 비트를 섞는다.
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+}
@@ -0,0 +1,50 @@
+package yeonleaf.plantodo.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import yeonleaf.plantodo.dto.CheckboxResDto;
+import yeonleaf.plantodo.exceptions.QueryStringValidationException;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * (date, id) 순으로 정렬된 할 일 목록의 커서
+ * 쿼리 스트링에서는 "2023-07-19,15" 형태로 주고받는다.
+ */
+@Getter
+@AllArgsConstructor
+public class CheckboxCursor {
+
+    private LocalDate date;
+    private Long id;
+
+    public CheckboxCursor(CheckboxResDto checkboxResDto) {
+        this.date = checkboxResDto.getDate();
+        this.id = checkboxResDto.getId();
+    }
+
+    public static CheckboxCursor parse(String after) {
+
+        if (after == null) {
+            return null;
+        }
+        String[] tokens = after.split(",");
+        try {
+            if (tokens.length == 2) {
+                return new CheckboxCursor(LocalDate.parse(tokens[0]), Long.parseLong(tokens[1]));
+            }
+        } catch (DateTimeParseException | NumberFormatException ignored) {
+        }
+        QueryStringValidationException errors = new QueryStringValidationException();
+        errors.rejectValue("after", "after는 yyyy-MM-dd,id 형식이어야 합니다.");
+        throw errors;
+
+    }
+
+    @Override
+    public String toString() {
+        return date + "," + id;
+    }
+
+}
@@ -0,0 +1,65 @@
+package yeonleaf.plantodo.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import yeonleaf.plantodo.exceptions.QueryStringValidationException;
+
+/**
+ * 요청을 보낸 회원의 id (JWT의 id claim)
+ * {@link yeonleaf.plantodo.interceptor.LoginCheckInterceptor}가 서명과 만료를 확인한 뒤 요청 attribute로 남긴다.
+ * 토큰에 있는 회원은 발급할 때 로그인으로 확인했으므로 서비스는 이 회원이 있는지 DB에서 다시 확인하지 않는다.
+ * 요청 밖(비동기 작업 등)이나 로그인 확인을 거치지 않은 경로에서는 비어 있다.
+ */
+public final class MemberContext {
+
+    public static final String ATTRIBUTE = MemberContext.class.getName() + ".MEMBER_ID";
+
+    private MemberContext() {
+    }
+
+    public static void set(HttpServletRequest request, Long memberId) {
+        request.setAttribute(ATTRIBUTE, memberId);
+    }
+
+    @Nullable
+    public static Long get(HttpServletRequest request) {
+        return (Long) request.getAttribute(ATTRIBUTE);
+    }
+
+    @Nullable
+    public static Long current() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return null;
+        }
+        return (Long) requestAttributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    /**
+     * 토큰으로 확인한 회원인지 (회원이 있는지 DB에서 확인하지 않아도 되는지)
+     */
+    public static boolean isCurrent(@Nullable Long memberId) {
+        return memberId != null && memberId.equals(current());
+    }
+
+    /**
+     * memberId 쿼리 스트링을 생략하면 토큰의 회원으로 조회한다.
+     */
+    public static Long resolve(@Nullable Long memberId) {
+
+        if (memberId != null) {
+            return memberId;
+        }
+        Long current = current();
+        if (current == null) {
+            QueryStringValidationException errors = new QueryStringValidationException();
+            errors.rejectValue("memberId", "memberId가 없고 토큰에도 회원 정보가 없습니다.");
+            throw errors;
+        }
+        return current;
+
+    }
+
+}
@@ -0,0 +1,61 @@
+package yeonleaf.plantodo.wrapper;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import yeonleaf.plantodo.exceptions.QueryStringValidationException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 커서(after) 기반 페이지 조회 결과
+ * 저장소에서 limit + 1개를 조회해서 limit을 넘는 행이 있으면 다음 페이지가 있는 것으로 본다.
+ */
+@Getter
+@NoArgsConstructor
+public class SliceWrap<T> {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 500;
+
+    private List<T> wrap = new ArrayList<>();
+    private boolean hasNext;
+
+    /**
+     * 캐시에서 읽은 페이지를 복원할 때 쓴다. 조회 결과로 만들 때는 {@link #of(List, int)}를 쓴다.
+     */
+    public SliceWrap(List<T> wrap, boolean hasNext) {
+        this.wrap = wrap;
+        this.hasNext = hasNext;
+    }
+
+    public static <T> SliceWrap<T> of(List<T> rows, int limit) {
+        if (rows.size() > limit) {
+            return new SliceWrap<>(rows.subList(0, limit), true);
+        }
+        return new SliceWrap<>(rows, false);
+    }
+
+    public T getLast() {
+        return wrap.get(wrap.size() - 1);
+    }
+
+    /**
+     * 쿼리 스트링으로 받은 limit을 검증
+     * @return limit이 없으면 {@link #DEFAULT_LIMIT}
+     */
+    public static int checkLimit(Integer limit) {
+
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            QueryStringValidationException errors = new QueryStringValidationException();
+            errors.rejectValue("limit", "limit은 1 이상 " + MAX_LIMIT + " 이하여야 합니다.");
+            throw errors;
+        }
+        return limit;
+
+    }
+
+}
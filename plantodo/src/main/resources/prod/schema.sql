@@ -1,7 +1,8 @@
 create table if not exists member (
     id bigint auto_increment not null primary key,
     email varchar(255),
-    password varchar(255)
+    password varchar(255),
+    unique key uk_member_email (email)
 );
 
 create table if not exists plan (
@@ -11,7 +12,8 @@ create table if not exists plan (
     status tinyint,
     title varchar(255),
     member_id bigint not null,
-    foreign key (member_id) references member(id)
+    foreign key (member_id) references member(id),
+    daily_group_id bigint
 );
 
 create table if not exists repetition (
@@ -8,8 +8,12 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import yeonleaf.plantodo.interceptor.LoginCheckInterceptor;
 import yeonleaf.plantodo.provider.JwtBasicProvider;
 import yeonleaf.plantodo.provider.JwtTestProvider;
+import yeonleaf.plantodo.provider.JwtTokenVerifier;
+import yeonleaf.plantodo.provider.MemoryRefreshTokenStore;
+import yeonleaf.plantodo.provider.RefreshTokenStore;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
 
 @TestConfiguration
 public class TestWithInterceptorConfig {
@@ -36,12 +40,22 @@ public class TestWithInterceptorConfig {
     }
 
 
+    @Bean
+    public JwtTokenVerifier jwtTestTokenVerifier() {
+        return new JwtTokenVerifier(jwtTestSecretKey(), 100L, Duration.ofMinutes(30));
+    }
+
+    @Bean
+    public RefreshTokenStore refreshTokenStore() {
+        return new MemoryRefreshTokenStore(Duration.ofDays(14), Duration.ofMinutes(30));
+    }
+
     @Bean
     public WebMvcConfigurer testWebMvcConfigurer() {
         return new WebMvcConfigurer() {
             @Override
             public void addInterceptors(InterceptorRegistry registry) {
-                registry.addInterceptor(new LoginCheckInterceptor(jwtTestSecretKey(), objectMapper()))
+                registry.addInterceptor(new LoginCheckInterceptor(jwtTestTokenVerifier(), refreshTokenStore(), objectMapper()))
                         .excludePathPatterns("/member", "/member/login");
             }
         };
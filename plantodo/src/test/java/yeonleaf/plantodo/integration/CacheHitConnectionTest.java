@@ -0,0 +1,105 @@
+package yeonleaf.plantodo.integration;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import yeonleaf.plantodo.cache.CacheTagInvalidator;
+import yeonleaf.plantodo.cache.CacheTags;
+import yeonleaf.plantodo.domain.Member;
+import yeonleaf.plantodo.dto.PlanReqDto;
+import yeonleaf.plantodo.dto.PlanResDto;
+import yeonleaf.plantodo.repository.MemberRepository;
+import yeonleaf.plantodo.service.CheckboxService;
+import yeonleaf.plantodo.service.GroupService;
+import yeonleaf.plantodo.service.PlanService;
+import yeonleaf.plantodo.wrapper.SliceWrap;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * target : 캐시 advice와 트랜잭션 advice의 순서 (PlantodoApplication), {@link PlanService#allByIds}
+ * test description : 캐시에 있는 값을 다시 조회하면 세션, 트랜잭션, JDBC 연결을 하나도 쓰지 않는지 Hibernate 통계로 확인한다.
+ *                    캐시는 트랜잭션 커밋 이후에 채워지므로 클래스에 @Transactional을 붙이지 않는다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class CacheHitConnectionTest {
+
+    @Autowired
+    private PlanService planService;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private CheckboxService checkboxService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CacheTagInvalidator cacheTagInvalidator;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        member = memberRepository.save(new Member("test@abc.co.kr", "3zDF!43A"));
+        cacheTagInvalidator.invalidate(CacheTags.member(member.getId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        planService.all(member.getId()).getWrap().forEach(plan -> planService.delete(plan.getId()));
+        memberRepository.delete(member);
+    }
+
+    @Test
+    @DisplayName("캐시 hit이면 트랜잭션을 시작하지 않고 DB 연결도 가져오지 않는다.")
+    void cacheHitTest_noConnection() {
+
+        // given
+        LocalDate today = LocalDate.now();
+        PlanResDto plan = planService.save(new PlanReqDto("plan", today, today.plusDays(3), member.getId()));
+        readAll(plan.getId(), today);
+        statistics.clear();
+
+        // when
+        readAll(plan.getId(), today);
+
+        // then
+        assertThat(statistics.getSessionOpenCount()).isZero();
+        assertThat(statistics.getTransactionCount()).isZero();
+        assertThat(statistics.getConnectCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+    }
+
+    private void readAll(Long planId, LocalDate date) {
+        planService.one(planId);
+        planService.allByIds(List.of(planId));
+        planService.page(member.getId(), null, SliceWrap.DEFAULT_LIMIT);
+        planService.all(member.getId(), date);
+        groupService.page(planId, null, SliceWrap.DEFAULT_LIMIT);
+        groupService.all(planId, date);
+        checkboxService.pageByPlan(planId, null, SliceWrap.DEFAULT_LIMIT);
+        checkboxService.allByPlan(planId, date);
+    }
+
+}
@@ -0,0 +1,98 @@
+package yeonleaf.plantodo.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import yeonleaf.plantodo.cache.CacheTagInvalidator;
+import yeonleaf.plantodo.cache.CacheTags;
+import yeonleaf.plantodo.domain.Member;
+import yeonleaf.plantodo.dto.CheckboxReqDto;
+import yeonleaf.plantodo.dto.CheckboxResDto;
+import yeonleaf.plantodo.dto.PlanReqDto;
+import yeonleaf.plantodo.dto.PlanResDto;
+import yeonleaf.plantodo.repository.MemberRepository;
+import yeonleaf.plantodo.repository.PlanRepository;
+import yeonleaf.plantodo.service.CheckboxService;
+import yeonleaf.plantodo.service.PlanService;
+import yeonleaf.plantodo.wrapper.SliceWrap;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * target : 일정/할일 그룹 단위로 캐시되는 할일 목록의 태그 invalidation
+ * test description : 할일 하나가 바뀌면 그 날짜의 목록과 전체 목록만 지워지고, 다른 날짜의 목록 캐시는 남는지 확인한다.
+ *                    커밋 이후에 지우므로 클래스에 @Transactional을 붙이지 않는다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class CheckboxCacheInvalidationTest {
+
+    @Autowired
+    private PlanService planService;
+
+    @Autowired
+    private CheckboxService checkboxService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    private CacheTagInvalidator cacheTagInvalidator;
+
+    @Autowired
+    private RedisConnectionFactory redisConnectionFactory;
+
+    private final LocalDate today = LocalDate.now();
+    private Member member;
+    private PlanResDto plan;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(new Member("test@abc.co.kr", "3zDF!43A"));
+        plan = planService.save(new PlanReqDto("plan", today, today.plusDays(3), member.getId()));
+        // 이전 실행에서 같은 id로 남은 캐시를 지운다.
+        Long dailyGroupId = planRepository.findById(plan.getId()).orElseThrow().getDailyGroup().getId();
+        CacheTags.checkboxTags(plan.getId(), dailyGroupId, List.of(today, today.plusDays(1))).forEach(cacheTagInvalidator::invalidate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        planService.delete(plan.getId());
+        memberRepository.delete(member);
+    }
+
+    @Test
+    @DisplayName("할일을 등록하면 그 날짜의 목록과 전체 목록만 지워진다.")
+    void saveTest_invalidateOnlyChangedDate() {
+
+        // given
+        checkboxService.save(new CheckboxReqDto("checkbox1", plan.getId(), today));
+        assertThat(checkboxService.pageByPlan(plan.getId(), null, SliceWrap.DEFAULT_LIMIT).getWrap()).hasSize(1);
+        assertThat(checkboxService.allByPlan(plan.getId(), today)).hasSize(1);
+        assertThat(checkboxService.allByPlan(plan.getId(), today.plusDays(1))).isEmpty();
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(redisConnectionFactory);
+        String otherDateKey = "checkboxesByPlanIdAndDate::" + CacheTags.planDate(plan.getId(), today.plusDays(1));
+
+        // when
+        checkboxService.save(new CheckboxReqDto("checkbox2", plan.getId(), today));
+
+        // then
+        assertThat(checkboxService.pageByPlan(plan.getId(), null, SliceWrap.DEFAULT_LIMIT).getWrap()).hasSize(2);
+        assertThat(checkboxService.allByPlan(plan.getId(), today)).extracting(CheckboxResDto::getTitle).containsExactlyInAnyOrder("checkbox1", "checkbox2");
+        assertThat(redisTemplate.hasKey(otherDateKey)).isTrue();
+
+    }
+
+}
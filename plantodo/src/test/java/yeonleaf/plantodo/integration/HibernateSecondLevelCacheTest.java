@@ -0,0 +1,86 @@
+package yeonleaf.plantodo.integration;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import yeonleaf.plantodo.HibernateCacheConfig;
+import yeonleaf.plantodo.domain.Member;
+import yeonleaf.plantodo.dto.MemberReqDto;
+import yeonleaf.plantodo.repository.MemberRepository;
+import yeonleaf.plantodo.service.MemberService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * target : Member, Repetition, Group 엔티티에 적용한 Hibernate 2차 캐시
+ * test description : 트랜잭션이 끝난 뒤 다시 조회했을 때 DB가 아니라 2차 캐시에서 가져오는지 통계로 확인한다.
+ *                    캐시는 트랜잭션 커밋 이후에 채워지므로 클래스에 @Transactional을 붙이지 않는다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class HibernateSecondLevelCacheTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("id로 두 번 조회하면 두 번째는 2차 캐시에서 가져온다.")
+    void findByIdTest_secondLevelCacheHit() {
+
+        // given
+        Member member = memberRepository.save(new Member("test@abc.co.kr", "3zDF!43A"));
+        memberService.findById(member.getId());
+        statistics.clear();
+
+        // when
+        memberService.findById(member.getId());
+
+        // then
+        assertThat(statistics.getDomainDataRegionStatistics(HibernateCacheConfig.MEMBER_REGION).getHitCount()).isEqualTo(1);
+        assertThat(statistics.getEntityStatistics(Member.class.getName()).getLoadCount()).isZero();
+
+    }
+
+    @Test
+    @DisplayName("email로 로그인하면 natural id 캐시를 거쳐서 조회한다.")
+    void loginTest_naturalIdCacheHit() {
+
+        // given
+        memberService.save(new MemberReqDto("test@abc.co.kr", "3zDF!43A"));
+
+        // when
+        memberService.login(new MemberReqDto("test@abc.co.kr", "3zDF!43A"));
+        memberService.login(new MemberReqDto("test@abc.co.kr", "3zDF!43A"));
+
+        // then
+        assertThat(statistics.getNaturalIdStatistics(Member.class.getName()).getCacheHitCount()).isGreaterThanOrEqualTo(1);
+
+    }
+
+}
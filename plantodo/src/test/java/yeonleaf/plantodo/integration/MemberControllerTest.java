@@ -13,6 +13,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.validation.BindingResult;
+import yeonleaf.plantodo.domain.Member;
 import yeonleaf.plantodo.dto.MemberReqDto;
 import yeonleaf.plantodo.controller.MemberController;
 import yeonleaf.plantodo.dto.MemberResDto;
@@ -20,6 +21,7 @@ import yeonleaf.plantodo.exceptions.ApiBindingError;
 import yeonleaf.plantodo.exceptions.ApiSimpleError;
 import yeonleaf.plantodo.dto.JwtTokenDto;
 import yeonleaf.plantodo.interceptor.LoginCheckInterceptor;
+import yeonleaf.plantodo.repository.MemberRepository;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -46,6 +48,9 @@ public class MemberControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private MemberRepository memberRepository;
+
     /**
      * 테스트 메이커
      * @param email test@abc.co.kr로 고정
@@ -113,6 +118,36 @@ public class MemberControllerTest {
 
     }
 
+    @Test
+    @DisplayName("회원가입 비정상 - 대소문자만 다른 이메일은 같은 회원으로 보고 ApiSimpleError를 리턴한다. 가입한 회원은 대문자가 섞인 이메일로도 로그인할 수 있다.")
+    void joinTestAbnormalDuplicatedMemberIgnoreCase() throws Exception {
+
+        // given
+        mockMvc.perform(makePostRequest("test@abc.co.kr", "3zDF!43A", "/member"));
+
+        // when - then
+        mockMvc.perform(makePostRequest("Test@ABC.co.kr", "3zDF!43A", "/member"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("message").value("Duplicated Member"));
+        mockMvc.perform(makePostRequest("TEST@abc.co.kr", "3zDF!43A", "/member/login"))
+                .andExpect(status().isOk());
+
+    }
+
+    @Test
+    @DisplayName("회원가입 비정상 - 이메일 filter에 없는 회원(다른 노드에서 가입한 회원)이어도 unique 제약으로 ApiSimpleError를 리턴한다.")
+    void joinTestAbnormalDuplicatedMemberNotInFilter() throws Exception {
+
+        // given
+        memberRepository.save(new Member("filter@abc.co.kr", "3zDF!43A"));
+
+        // when - then
+        mockMvc.perform(makePostRequest("filter@abc.co.kr", "3zDF!43A", "/member"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("message").value("Duplicated Member"));
+
+    }
+
 
     /**
      * 로그인 API 관련 테스트
@@ -0,0 +1,159 @@
+package yeonleaf.plantodo.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import yeonleaf.plantodo.cache.OwnershipIndex;
+import yeonleaf.plantodo.domain.Member;
+import yeonleaf.plantodo.dto.CheckboxResDto;
+import yeonleaf.plantodo.dto.GroupReqDto;
+import yeonleaf.plantodo.dto.GroupResDto;
+import yeonleaf.plantodo.dto.GroupUpdateReqDto;
+import yeonleaf.plantodo.dto.PlanReqDto;
+import yeonleaf.plantodo.dto.PlanResDto;
+import yeonleaf.plantodo.exceptions.ApiSimpleError;
+import yeonleaf.plantodo.interceptor.OwnershipCheckInterceptor;
+import yeonleaf.plantodo.provider.JwtBasicProvider;
+import yeonleaf.plantodo.repository.MemberRepository;
+import yeonleaf.plantodo.service.CheckboxService;
+import yeonleaf.plantodo.service.GroupService;
+import yeonleaf.plantodo.service.PlanService;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * target : {@link OwnershipCheckInterceptor}, {@link OwnershipIndex}
+ * test description : 다른 회원의 일정/그룹/할일을 경로, 쿼리 스트링, 요청 body의 id로 접근하면
+ *                    {@link ApiSimpleError}와 함께 403을 리턴하는지, 자신의 리소스는 그대로 조회되는지 확인한다.
+ */
+@Transactional
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class OwnershipCheckTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PlanService planService;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private CheckboxService checkboxService;
+
+    @Autowired
+    private OwnershipIndex ownershipIndex;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtBasicProvider jwtProvider;
+
+    private Member owner;
+    private Member other;
+    private PlanResDto plan;
+
+    @BeforeEach
+    void setUp() {
+        owner = memberRepository.save(new Member("owner@abc.co.kr", "3zDF!43A"));
+        other = memberRepository.save(new Member("other@abc.co.kr", "3zDF!43A"));
+        plan = planService.save(new PlanReqDto("plan", LocalDate.of(2023, 7, 18), LocalDate.of(2023, 7, 25), owner.getId()));
+    }
+
+    private String bearer(Member member) {
+        return "Bearer " + jwtProvider.generateToken(member.getId());
+    }
+
+    @Test
+    @DisplayName("자신의 일정은 조회하고, 다른 회원의 일정은 403과 ApiSimpleError를 리턴한다.")
+    void pathTest_plan() throws Exception {
+
+        // given
+        MockHttpServletRequestBuilder ownerRequest = get("/plan/" + plan.getId()).header("Authorization", bearer(owner));
+        MockHttpServletRequestBuilder otherRequest = get("/plan/" + plan.getId()).header("Authorization", bearer(other));
+
+        // when - then
+        mockMvc.perform(ownerRequest)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("id").value(plan.getId()));
+        mockMvc.perform(otherRequest)
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("message").value("Forbidden"));
+
+    }
+
+    @Test
+    @DisplayName("그룹과 함께 생성된 할일도 그룹 → 일정 → 회원으로 따라가서 다른 회원의 접근을 막는다.")
+    void pathTest_checkbox() throws Exception {
+
+        // given
+        GroupResDto group = groupService.save(new GroupReqDto("group", 1, List.of(), plan.getId()));
+        CheckboxResDto checkbox = checkboxService.allByGroup(group.getId()).get(0);
+
+        // when
+        Long memberId = ownershipIndex.memberOf(OwnershipIndex.CHECKBOX, checkbox.getId());
+
+        // then
+        assertThat(memberId).isEqualTo(owner.getId());
+        mockMvc.perform(get("/checkbox/" + checkbox.getId()).header("Authorization", bearer(other)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/checkboxes/group").param("groupId", group.getId().toString()).header("Authorization", bearer(other)))
+                .andExpect(status().isForbidden());
+
+    }
+
+    @Test
+    @DisplayName("요청 body에 다른 회원의 그룹 id를 넣어 수정하면 403을 리턴하고 그룹은 바뀌지 않는다.")
+    void bodyTest_groupUpdate() throws Exception {
+
+        // given
+        GroupResDto group = groupService.save(new GroupReqDto("group", 1, List.of(), plan.getId()));
+        GroupUpdateReqDto groupUpdateReqDto = new GroupUpdateReqDto(group.getId(), "updatedGroup", 1, List.of());
+        MockHttpServletRequestBuilder request = put("/group")
+                .header("Authorization", bearer(other))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(groupUpdateReqDto));
+
+        // when - then
+        mockMvc.perform(request)
+                .andExpect(status().isForbidden());
+        assertThat(groupService.one(group.getId()).getTitle()).isEqualTo("group");
+
+    }
+
+    @Test
+    @DisplayName("다른 회원의 memberId로 목록을 조회하면 403을, 없는 회원이면 지금처럼 404를 리턴한다.")
+    void queryStringTest_memberId() throws Exception {
+
+        // when - then
+        mockMvc.perform(get("/plans").param("memberId", owner.getId().toString()).header("Authorization", bearer(other)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/plans").param("memberId", String.valueOf(Long.MAX_VALUE)).header("Authorization", bearer(other)))
+                .andExpect(status().isNotFound());
+
+    }
+
+}
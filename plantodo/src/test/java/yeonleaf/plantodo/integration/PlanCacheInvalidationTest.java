@@ -0,0 +1,118 @@
+package yeonleaf.plantodo.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import yeonleaf.plantodo.cache.CacheTagInvalidator;
+import yeonleaf.plantodo.cache.CacheTags;
+import yeonleaf.plantodo.domain.Member;
+import yeonleaf.plantodo.dto.PlanReqDto;
+import yeonleaf.plantodo.dto.PlanResDto;
+import yeonleaf.plantodo.repository.MemberRepository;
+import yeonleaf.plantodo.service.PlanService;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * target : 회원 단위로 캐시되는 일정 목록(plansByMemberId*)의 태그 invalidation
+ * test description : 일정을 등록/수정/삭제하면 같은 회원의 목록 캐시가 커밋 이후에 모두 지워지는지 확인한다.
+ *                    커밋 이후에 지우므로 클래스에 @Transactional을 붙이지 않는다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class PlanCacheInvalidationTest {
+
+    @Autowired
+    private PlanService planService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CacheTagInvalidator cacheTagInvalidator;
+
+    @Autowired
+    private RedisConnectionFactory redisConnectionFactory;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(new Member("test@abc.co.kr", "3zDF!43A"));
+        // 이전 실행에서 같은 id로 남은 캐시를 지운다.
+        cacheTagInvalidator.invalidate(CacheTags.member(member.getId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        planService.all(member.getId()).getWrap().forEach(plan -> planService.delete(plan.getId()));
+        memberRepository.delete(member);
+    }
+
+    @Test
+    @DisplayName("일정을 등록하면 캐시된 일정 목록이 지워져서 새 일정이 바로 보인다.")
+    void saveTest_invalidateMemberCaches() {
+
+        // given
+        LocalDate today = LocalDate.now();
+        planService.save(new PlanReqDto("plan1", today, today.plusDays(3), member.getId()));
+        assertThat(planService.all(member.getId()).getWrap()).hasSize(1);
+        assertThat(planService.all(member.getId(), today).getWrap()).hasSize(1);
+
+        // when
+        planService.save(new PlanReqDto("plan2", today, today.plusDays(3), member.getId()));
+
+        // then
+        assertThat(planService.all(member.getId()).getWrap()).hasSize(2);
+        assertThat(planService.all(member.getId(), today).getWrap()).hasSize(2);
+
+    }
+
+    @Test
+    @DisplayName("캐시된 일정 페이지도 일정을 등록하면 지워져서 새 일정이 바로 보인다.")
+    void saveTest_invalidateMemberPages() {
+
+        // given
+        LocalDate today = LocalDate.now();
+        planService.save(new PlanReqDto("plan1", today, today.plusDays(3), member.getId()));
+        assertThat(planService.page(member.getId(), null, 1).isHasNext()).isFalse();
+
+        // when
+        planService.save(new PlanReqDto("plan2", today, today.plusDays(3), member.getId()));
+
+        // then
+        assertThat(planService.page(member.getId(), null, 1).isHasNext()).isTrue();
+        assertThat(planService.page(member.getId(), null, 10).getWrap()).hasSize(2);
+
+    }
+
+    @Test
+    @DisplayName("목록을 캐시하면 회원 태그 set에 key가 등록되고, 상태를 바꾸면 태그 set까지 지워진다.")
+    void changeTest_invalidateTagSet() {
+
+        // given
+        LocalDate today = LocalDate.now();
+        PlanResDto plan = planService.save(new PlanReqDto("plan1", today, today.plusDays(3), member.getId()));
+        planService.all(member.getId());
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(redisConnectionFactory);
+        String tagSetKey = CacheTags.tagSetKey(CacheTags.member(member.getId()));
+        assertThat(redisTemplate.opsForSet().members(tagSetKey)).containsExactly("plansByMemberId::" + CacheTags.member(member.getId()));
+
+        // when
+        planService.change(plan.getId());
+
+        // then
+        assertThat(redisTemplate.hasKey(tagSetKey)).isFalse();
+        assertThat(planService.all(member.getId()).getWrap().get(0).getStatus()).isNotEqualTo(plan.getStatus());
+
+    }
+
+}
@@ -31,6 +31,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -463,6 +464,58 @@ public class PlanControllerTest {
     }
 
 
+    /**
+     * ID 목록 일정 컬렉션 조회 API 관련 테스트
+     * 캐시에 있는 일정은 캐시에서, 없는 일정만 DB에서 읽는다.
+     * @see PlanController#all(List)
+     * @throws Exception mockMvc.perform();
+     */
+    @Test
+    @DisplayName("정상 ID 목록 컬렉션 조회 - 캐시된 일정과 캐시되지 않은 일정을 요청한 순서대로 리턴하고, 없는 ID는 뺀다.")
+    void allByIdsTestNormal() throws Exception {
+
+        // given
+        MemberResDto memberResDto = memberService.save(new MemberReqDto("test@abc.co.kr", "a3df!#sac"));
+        Long memberId = memberResDto.getId();
+        PlanResDto plan1 = planService.save(new PlanReqDto("title1", LocalDate.now(), LocalDate.now().plusDays(3), memberId));
+        PlanResDto plan2 = planService.save(new PlanReqDto("title2", LocalDate.now(), LocalDate.now().plusDays(3), memberId));
+        PlanResDto plan3 = planService.save(new PlanReqDto("title3", LocalDate.now(), LocalDate.now().plusDays(3), memberId));
+        planService.one(plan2.getId());
+
+        MockHttpServletRequestBuilder request = get("/plans")
+                .header("Authorization", "Bearer " + jwtProvider.generateToken(memberId))
+                .param("ids", plan3.getId().toString(), plan2.getId().toString(), String.valueOf(Long.MAX_VALUE), plan1.getId().toString());
+
+        // when - then
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.planResDtoList.length()").value(3))
+                .andExpect(jsonPath("_embedded.planResDtoList[0].title").value("title3"))
+                .andExpect(jsonPath("_embedded.planResDtoList[1].title").value("title2"))
+                .andExpect(jsonPath("_embedded.planResDtoList[2].title").value("title1"));
+
+    }
+
+    @Test
+    @DisplayName("비정상 ID 목록 컬렉션 조회 - ID가 100개보다 많으면 ApiBindingError를 리턴한다.")
+    void allByIdsTestAbnormal() throws Exception {
+
+        // given
+        String[] ids = new String[101];
+        Arrays.setAll(ids, String::valueOf);
+
+        MockHttpServletRequestBuilder request = get("/plans")
+                .header("Authorization", "Bearer " + jwtProvider.generateToken(1L))
+                .param("ids", ids);
+
+        // when - then
+        mockMvc.perform(request)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors.ids").exists());
+
+    }
+
+
     /**
      * 일별 일정 컬렉션 조회 API 관련 테스트
      * 일별 일정 컬렉션 조회 API는 회원을 기준으로 범위가 검색일에 걸쳐지는 일정을 모두 조회한다.
@@ -492,6 +545,28 @@ public class PlanControllerTest {
 
     }
 
+    @Test
+    @DisplayName("정상 일별 컬렉션 조회 - memberId를 생략하면 토큰의 회원을 기준으로 조회한다.")
+    void collectionFilteredByDateTestNormal_tokenMember() throws Exception {
+
+        // given
+        MemberResDto memberResDto = memberService.save(new MemberReqDto("test@abc.co.kr", "a3df!#sac"));
+        Long memberId = memberResDto.getId();
+        planService.save(new PlanReqDto("title", LocalDate.now(), LocalDate.now().plusDays(3), memberId));
+        planService.save(new PlanReqDto("title", LocalDate.now(), LocalDate.now().plusDays(3), memberId));
+
+        MockHttpServletRequestBuilder request = get("/plans/date")
+                .header("Authorization", "Bearer " + jwtProvider.generateToken(memberId))
+                .param("dateKey", LocalDate.now().toString());
+
+        // when - then
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.planResDtoList.length()").value(2))
+                .andExpect(jsonPath("_links.plans.href").value(containsString("memberId=" + memberId)));
+
+    }
+
     @Test
     @DisplayName("비정상 일별 컬렉션 조회 - 기준으로 삼을 회원이 없는 경우 ApiSimpleError를 리턴한다. message 필드의 내용을 확인한다.")
     void collectionFilteredByDateTestAbnormal() throws Exception {
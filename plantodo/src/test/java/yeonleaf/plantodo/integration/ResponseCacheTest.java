@@ -0,0 +1,154 @@
+package yeonleaf.plantodo.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import yeonleaf.plantodo.cache.CacheTagInvalidator;
+import yeonleaf.plantodo.cache.CacheTags;
+import yeonleaf.plantodo.domain.Member;
+import yeonleaf.plantodo.domain.Plan;
+import yeonleaf.plantodo.dto.PlanReqDto;
+import yeonleaf.plantodo.dto.PlanResDto;
+import yeonleaf.plantodo.dto.PlanUpdateReqDto;
+import yeonleaf.plantodo.provider.JwtBasicProvider;
+import yeonleaf.plantodo.repository.MemberRepository;
+import yeonleaf.plantodo.repository.PlanRepository;
+import yeonleaf.plantodo.service.PlanService;
+
+import java.io.ByteArrayInputStream;
+import java.time.LocalDate;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * target : 응답 byte 캐시 (ResponseCacheFilter, ResponseCacheInterceptor)
+ * test description : 캐시된 응답은 컨트롤러와 서비스 캐시를 거치지 않고 나가는지,
+ *                    서비스로 수정하면 커밋 이후에 지워지는지, gzip 응답과 JWT 확인이 유지되는지 확인한다.
+ *                    커밋 이후에 지우므로 클래스에 @Transactional을 붙이지 않는다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ResponseCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtBasicProvider jwtProvider;
+
+    @Autowired
+    private PlanService planService;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CacheTagInvalidator cacheTagInvalidator;
+
+    private Member member;
+    private PlanResDto plan;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(new Member("test@abc.co.kr", "3zDF!43A"));
+        // 이전 실행에서 같은 id로 남은 캐시를 지운다.
+        cacheTagInvalidator.invalidate(CacheTags.memberResponses(member.getId()));
+        plan = planService.save(new PlanReqDto("plan1", LocalDate.now(), LocalDate.now().plusDays(3), member.getId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        planService.all(member.getId()).getWrap().forEach(plan -> planService.delete(plan.getId()));
+        memberRepository.delete(member);
+    }
+
+    @Test
+    @DisplayName("캐시된 응답은 서비스 캐시가 비어도 그대로 나가고, 서비스로 수정하면 지워진다.")
+    void oneTest_servedFromBytes() throws Exception {
+
+        // given
+        mockMvc.perform(get("/plan/" + plan.getId()).header(HttpHeaders.AUTHORIZATION, bearer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("title").value("plan1"));
+        Plan entity = planRepository.findById(plan.getId()).orElseThrow();
+        entity.setTitle("changed");
+        planRepository.save(entity);
+        cacheManager.getCache("plan").evict(plan.getId());
+
+        // when - then
+        mockMvc.perform(get("/plan/" + plan.getId()).header(HttpHeaders.AUTHORIZATION, bearer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("title").value("plan1"));
+
+        planService.update(new PlanUpdateReqDto(plan.getId(), "plan2", plan.getStart(), plan.getEnd()));
+        mockMvc.perform(get("/plan/" + plan.getId()).header(HttpHeaders.AUTHORIZATION, bearer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("title").value("plan2"));
+
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding에 gzip이 있으면 gzip 응답을 내보내고, 풀면 인코딩 없는 응답과 같다.")
+    void pageTest_gzip() throws Exception {
+
+        // given
+        MvcResult identity = mockMvc.perform(get("/plans").param("memberId", member.getId().toString())
+                        .header(HttpHeaders.AUTHORIZATION, bearer()))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // when
+        MvcResult gzip = mockMvc.perform(get("/plans").param("memberId", member.getId().toString())
+                        .header(HttpHeaders.AUTHORIZATION, bearer())
+                        .header(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        assertThat(identity.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(gzip.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzip.getResponse().getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        byte[] unzipped = new GZIPInputStream(new ByteArrayInputStream(gzip.getResponse().getContentAsByteArray())).readAllBytes();
+        assertThat(unzipped).isEqualTo(identity.getResponse().getContentAsByteArray());
+
+    }
+
+    @Test
+    @DisplayName("캐시된 응답이 있어도 JWT 토큰이 없으면 401을 리턴한다.")
+    void oneTest_unauthorized() throws Exception {
+
+        // given
+        mockMvc.perform(get("/plan/" + plan.getId()).header(HttpHeaders.AUTHORIZATION, bearer()))
+                .andExpect(status().isOk());
+
+        // when - then
+        mockMvc.perform(get("/plan/" + plan.getId()))
+                .andExpect(status().isUnauthorized());
+
+    }
+
+    private String bearer() {
+        return "Bearer " + jwtProvider.generateToken(member.getId());
+    }
+
+}
@@ -0,0 +1,126 @@
+package yeonleaf.plantodo.unit.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import yeonleaf.plantodo.admission.AdmissionController;
+import yeonleaf.plantodo.admission.Bulkhead;
+import yeonleaf.plantodo.exceptions.ServiceOverloadedException;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * target : {@link Bulkhead}, {@link AdmissionController}
+ * test description : 비용 합과 동시 실행 수를 넘는 요청은 기다리다가 자리가 나면 들어가는지,
+ *                    대기열에서는 회원을 돌아가며 꺼내는지, 대기열이 가득 차면 바로 {@link ServiceOverloadedException}을 던지는지,
+ *                    기간 조회 API만 bulkhead를 거치는지 확인한다.
+ */
+public class BulkheadUnitTest {
+
+    private Thread startWaiter(Bulkhead bulkhead, Long memberId, String name, List<String> granted) {
+        Thread thread = new Thread(() -> {
+            try (Bulkhead.Permit permit = bulkhead.acquire(memberId, 1)) {
+                granted.add(name);
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    private void awaitQueued(Bulkhead bulkhead, int queued) throws InterruptedException {
+        while (bulkhead.queued() < queued) {
+            Thread.sleep(5L);
+        }
+    }
+
+    @Test
+    @DisplayName("자리가 나면 회원을 돌아가며 대기열에서 꺼낸다. (A1, A2, B1 순서로 기다리면 A1, B1, A2 순서로 들어간다.)")
+    void acquireTest_fairQueuing() throws Exception {
+
+        // given
+        Bulkhead bulkhead = new Bulkhead("test", 10, 1, 10, 2, 5_000L);
+        List<String> granted = new CopyOnWriteArrayList<>();
+        Bulkhead.Permit running = bulkhead.acquire(0L, 1);
+
+        Thread a1 = startWaiter(bulkhead, 1L, "A1", granted);
+        awaitQueued(bulkhead, 1);
+        Thread a2 = startWaiter(bulkhead, 1L, "A2", granted);
+        awaitQueued(bulkhead, 2);
+        Thread b1 = startWaiter(bulkhead, 2L, "B1", granted);
+        awaitQueued(bulkhead, 3);
+
+        // when
+        running.close();
+        a1.join();
+        a2.join();
+        b1.join();
+
+        // then
+        assertThat(granted).containsExactly("A1", "B1", "A2");
+
+    }
+
+    @Test
+    @DisplayName("한 회원이 대기열 한도만큼 기다리고 있으면 그 회원의 다음 요청은 기다리지 않고 바로 503으로 돌려보낸다.")
+    void acquireTest_shedPerMember() throws Exception {
+
+        // given
+        Bulkhead bulkhead = new Bulkhead("test", 10, 1, 10, 1, 5_000L);
+        List<String> granted = new CopyOnWriteArrayList<>();
+        Bulkhead.Permit running = bulkhead.acquire(0L, 1);
+        Thread waiter = startWaiter(bulkhead, 1L, "A1", granted);
+        awaitQueued(bulkhead, 1);
+
+        // when - then
+        assertThatThrownBy(() -> bulkhead.acquire(1L, 1))
+                .isInstanceOf(ServiceOverloadedException.class);
+        running.close();
+        waiter.join();
+        assertThat(granted).containsExactly("A1");
+
+    }
+
+    @Test
+    @DisplayName("maxWait 안에 자리가 나지 않으면 ServiceOverloadedException을 던지고 대기열에서 빠진다.")
+    void acquireTest_timeout() {
+
+        // given
+        Bulkhead bulkhead = new Bulkhead("test", 10, 10, 10, 2, 50L);
+        bulkhead.acquire(0L, 10);
+
+        // when - then
+        assertThatThrownBy(() -> bulkhead.acquire(1L, 1))
+                .isInstanceOf(ServiceOverloadedException.class);
+        assertThat(bulkhead.queued()).isZero();
+
+    }
+
+    @Test
+    @DisplayName("기간으로 조회하는 API만 bulkhead를 거치고, 기간이 bulkhead 크기보다 길면 혼자 실행된다.")
+    void admitTest() {
+
+        // given
+        AdmissionController admissionController = new AdmissionController(10, 4, 10, 4, 10, 2, 50L);
+        MockHttpServletRequest calendar = new MockHttpServletRequest("GET", "/calendar/range");
+        calendar.setParameter("searchStart", "2023-01-01");
+        calendar.setParameter("searchEnd", "2023-12-31");
+        MockHttpServletRequest plan = new MockHttpServletRequest("GET", "/plan/1");
+
+        // when
+        Bulkhead.Permit permit = admissionController.admit(calendar, 1L);
+
+        // then
+        assertThat(permit).isNotNull();
+        assertThat(admissionController.admit(plan, 1L)).isNull();
+        assertThatThrownBy(() -> admissionController.admit(calendar, 2L))
+                .isInstanceOf(ServiceOverloadedException.class);
+        permit.close();
+        admissionController.admit(calendar, 2L).close();
+
+    }
+
+}
@@ -0,0 +1,146 @@
+package yeonleaf.plantodo.unit.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import yeonleaf.plantodo.cache.AdaptiveTtlPolicy;
+import yeonleaf.plantodo.cache.CacheAccessStats;
+import yeonleaf.plantodo.cache.CacheLoadLease;
+import yeonleaf.plantodo.cache.CacheRefreshPolicy;
+import yeonleaf.plantodo.cache.StaleIfErrorPolicy;
+import yeonleaf.plantodo.cache.TwoLevelCacheManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * target : {@link AdaptiveTtlPolicy}
+ * test description : TwoLevelCacheManager로 조회/쓰기를 만들어 key와 캐시마다 L2 TTL이 바뀌는지,
+ *                    많이 읽히는 key가 L1에 더 오래 남는지 확인한다.
+ *                    결과가 흔들리지 않도록 key별 수를 모두 세고(sampleRate 1), window는 직접 끝낸다.
+ */
+public class AdaptiveTtlPolicyUnitTest {
+
+    private static final Duration BASE_TTL = Duration.ofMinutes(5L);
+    private static final Duration MIN_TTL = Duration.ofMinutes(1L);
+    private static final Duration MAX_TTL = Duration.ofMinutes(30L);
+    private static final Duration LOCAL_TTL = Duration.ofMinutes(1L);
+    private static final Duration PROMOTED_LOCAL_TTL = Duration.ofMinutes(5L);
+
+    private AdaptiveTtlPolicy ttlPolicy;
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        ttlPolicy = new AdaptiveTtlPolicy(BASE_TTL, MIN_TTL, MAX_TTL, PROMOTED_LOCAL_TTL, 10L, 50L, Duration.ofHours(1L), 1);
+        cacheManager = new TwoLevelCacheManager(new ConcurrentMapCacheManager(),
+                Caffeine.newBuilder().maximumSize(100L).expireAfter(AdaptiveTtlPolicy.localExpiry(LOCAL_TTL)),
+                (cacheName, key) -> {}, CacheLoadLease.NONE, CacheRefreshPolicy.NONE, StaleIfErrorPolicy.NONE, ttlPolicy);
+    }
+
+    private void read(Cache cache, Object key, int times) {
+        IntStream.range(0, times).forEach(i -> cache.get(key, () -> "value"));
+    }
+
+    @Test
+    @DisplayName("많이 읽히고 거의 쓰이지 않는 key는 길게, 쓰기가 더 많은 key는 짧게, 나머지는 기본 TTL로 저장한다.")
+    void remoteTtlTest_byKey() {
+
+        // given
+        Cache cache = cacheManager.getCache("plan");
+        read(cache, 1L, 20);
+        read(cache, 2L, 2);
+        cache.put(2L, "changed");
+        cache.put(2L, "changed again");
+        read(cache, 3L, 2);
+
+        // when
+        Duration hotTtl = ttlPolicy.remoteTtl("plan", "1");
+        Duration writeHeavyTtl = ttlPolicy.remoteTtl("plan", "2");
+        Duration normalTtl = ttlPolicy.remoteTtl("plan", "3");
+
+        // then
+        assertThat(hotTtl).isEqualTo(MAX_TTL);
+        assertThat(writeHeavyTtl).isEqualTo(MIN_TTL);
+        assertThat(normalTtl).isEqualTo(BASE_TTL);
+
+    }
+
+    @Test
+    @DisplayName("window가 끝나면 조회/쓰기 비율에 따라 캐시 전체의 TTL을 바꾸고, 조회가 없던 캐시는 가장 짧게 둔다.")
+    void remoteTtlTest_byRegion() {
+
+        // given
+        Cache readMostly = cacheManager.getCache("plansByMemberId");
+        Cache writeHeavy = cacheManager.getCache("checkboxesByPlanId");
+        Cache idle = cacheManager.getCache("groupsByPlanId");
+        IntStream.range(0, 8).forEach(i -> read(readMostly, "member" + i, 5));
+        IntStream.range(0, 8).forEach(i -> {
+            read(writeHeavy, "plan" + i, 1);
+            writeHeavy.evict("plan" + i);
+        });
+        idle.put("plan", "value");
+
+        // when
+        ttlPolicy.roll();
+
+        // then
+        assertThat(ttlPolicy.remoteTtl("plansByMemberId", "member9")).isGreaterThan(BASE_TTL);
+        assertThat(ttlPolicy.remoteTtl("checkboxesByPlanId", "plan9")).isEqualTo(MIN_TTL);
+        assertThat(ttlPolicy.remoteTtl("groupsByPlanId", "other")).isEqualTo(MIN_TTL);
+
+    }
+
+    @Test
+    @DisplayName("아주 많이 읽히는 key는 L1에 다시 채울 때 더 오래 둔다.")
+    @SuppressWarnings("unchecked")
+    void promoteTest_localTtl() {
+
+        // given
+        Cache cache = cacheManager.getCache("plan");
+        read(cache, 1L, 60);
+        read(cache, 2L, 1);
+
+        // when
+        cache.evict(1L);
+        cache.evict(2L);
+        read(cache, 1L, 1);
+        read(cache, 2L, 1);
+
+        // then
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache =
+                (com.github.benmanes.caffeine.cache.Cache<String, Object>) cache.getNativeCache();
+        Duration promoted = localCache.policy().expireVariably().orElseThrow().getExpiresAfter("1").orElseThrow();
+        Duration normal = localCache.policy().expireVariably().orElseThrow().getExpiresAfter("2").orElseThrow();
+        assertThat(promoted).isGreaterThan(LOCAL_TTL);
+        assertThat(normal).isLessThanOrEqualTo(LOCAL_TTL);
+
+    }
+
+    @Test
+    @DisplayName("핫 키는 캐시마다 조회가 많은 순서로 보여 준다.")
+    void hotKeysTest() {
+
+        // given
+        Cache cache = cacheManager.getCache("plan");
+        read(cache, 1L, 30);
+        read(cache, 2L, 15);
+        read(cache, 3L, 1);
+
+        // when
+        Map<String, List<CacheAccessStats.HotKey>> hotKeys = cacheManager.hotKeys(10);
+
+        // then
+        assertThat(hotKeys).containsOnlyKeys("plan");
+        assertThat(hotKeys.get("plan")).extracting(CacheAccessStats.HotKey::key).containsExactly("1", "2");
+
+    }
+
+}
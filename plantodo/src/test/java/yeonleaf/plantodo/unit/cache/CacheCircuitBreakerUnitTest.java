@@ -0,0 +1,81 @@
+package yeonleaf.plantodo.unit.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import yeonleaf.plantodo.cache.CacheCircuitBreaker;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * target : {@link CacheCircuitBreaker}
+ * test description : 연속 실패로 열리고, openDuration이 지나면 요청 하나로 복구 여부를 확인하는지 본다.
+ */
+public class CacheCircuitBreakerUnitTest {
+
+    @Test
+    @DisplayName("연속으로 threshold번 실패하면 열린다.")
+    void recordFailureTest_open() {
+
+        // given
+        CacheCircuitBreaker circuitBreaker = new CacheCircuitBreaker(3, Duration.ofMinutes(1L));
+
+        // when
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordSuccess();
+        circuitBreaker.recordFailure();
+        boolean beforeThreshold = circuitBreaker.allowRequest();
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+
+        // then
+        assertThat(beforeThreshold).isTrue();
+        assertThat(circuitBreaker.isOpen()).isTrue();
+        assertThat(circuitBreaker.allowRequest()).isFalse();
+
+    }
+
+    @Test
+    @DisplayName("openDuration이 지나면 요청 하나만 보내 보고, 성공하면 닫힌다.")
+    void allowRequestTest_halfOpen() {
+
+        // given
+        CacheCircuitBreaker circuitBreaker = new CacheCircuitBreaker(1, Duration.ZERO);
+        circuitBreaker.recordFailure();
+
+        // when
+        boolean probe = circuitBreaker.allowRequest();
+        boolean concurrent = circuitBreaker.allowRequest();
+        circuitBreaker.recordSuccess();
+
+        // then
+        assertThat(probe).isTrue();
+        assertThat(concurrent).isFalse();
+        assertThat(circuitBreaker.isOpen()).isFalse();
+
+    }
+
+    @Test
+    @DisplayName("half-open의 시험 요청이 장애가 아닌 예외로 끝나도 다시 열려서, openDuration이 지나면 다시 시험 요청을 보낸다.")
+    void recordUnexpectedFailureTest_halfOpen() {
+
+        // given
+        CacheCircuitBreaker circuitBreaker = new CacheCircuitBreaker(1, Duration.ZERO);
+        circuitBreaker.recordUnexpectedFailure();
+        boolean closed = circuitBreaker.isOpen();
+        circuitBreaker.recordFailure();
+        circuitBreaker.allowRequest();
+
+        // when
+        circuitBreaker.recordUnexpectedFailure();
+
+        // then
+        assertThat(closed).isFalse();
+        assertThat(circuitBreaker.isOpen()).isTrue();
+        assertThat(circuitBreaker.allowRequest()).isTrue();
+
+    }
+
+}
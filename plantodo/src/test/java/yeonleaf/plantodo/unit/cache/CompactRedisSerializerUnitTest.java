@@ -0,0 +1,189 @@
+package yeonleaf.plantodo.unit.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import yeonleaf.plantodo.cache.CachedResponse;
+import yeonleaf.plantodo.cache.CompactRedisSerializer;
+import yeonleaf.plantodo.cache.TimedCacheValue;
+import yeonleaf.plantodo.domain.PlanStatus;
+import yeonleaf.plantodo.dto.CheckboxResDto;
+import yeonleaf.plantodo.dto.GroupResDto;
+import yeonleaf.plantodo.dto.PlanResDto;
+import yeonleaf.plantodo.wrapper.PlanResDtoWrap;
+import yeonleaf.plantodo.wrapper.SliceWrap;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * target : {@link CompactRedisSerializer}
+ * test description : 캐시되는 값이 직렬화 후 그대로 복원되는지, 큰 값은 압축되는지,
+ *                    이전에 Jackson으로 저장된 값도 읽을 수 있는지 확인한다.
+ */
+public class CompactRedisSerializerUnitTest {
+
+    private final CompactRedisSerializer serializer = new CompactRedisSerializer(512);
+
+    @Test
+    @DisplayName("PlanResDto - null 필드를 포함해서 그대로 복원")
+    void planResDtoTest() {
+
+        // given
+        PlanResDto planResDto = new PlanResDto(1L, "일정", LocalDate.of(2023, 7, 19), null, PlanStatus.NOW);
+
+        // when
+        PlanResDto result = (PlanResDto) serializer.deserialize(serializer.serialize(planResDto));
+
+        // then
+        assertThat(result).usingRecursiveComparison().isEqualTo(planResDto);
+
+    }
+
+    @Test
+    @DisplayName("PlanResDtoWrap - threshold보다 크면 압축하고, 압축한 값도 그대로 복원")
+    void planResDtoWrapTest_compressed() {
+
+        // given
+        PlanResDtoWrap planResDtoWrap = planResDtoWrap(200);
+        byte[] jacksonBytes = new GenericJackson2JsonRedisSerializer().serialize(planResDtoWrap);
+
+        // when
+        byte[] bytes = serializer.serialize(planResDtoWrap);
+        PlanResDtoWrap result = (PlanResDtoWrap) serializer.deserialize(bytes);
+
+        // then
+        assertThat(bytes[1]).isEqualTo((byte) 1);
+        assertThat(bytes.length).isLessThan(jacksonBytes.length / 5);
+        assertThat(result.getWrap()).usingRecursiveFieldByFieldElementComparator().isEqualTo(planResDtoWrap.getWrap());
+
+    }
+
+    @Test
+    @DisplayName("CachedResponse - Content-Type과 두 벌의 응답 byte를 그대로 복원")
+    void cachedResponseTest() {
+
+        // given
+        CachedResponse cachedResponse = new CachedResponse("application/hal+json", "{\"id\":1}".getBytes(StandardCharsets.UTF_8), new byte[]{31, -117, 8, 0});
+
+        // when
+        CachedResponse result = (CachedResponse) serializer.deserialize(serializer.serialize(cachedResponse));
+
+        // then
+        assertThat(result).usingRecursiveComparison().isEqualTo(cachedResponse);
+
+    }
+
+    @Test
+    @DisplayName("SliceWrap - hasNext와 원소를 그대로 복원")
+    void sliceWrapTest() {
+
+        // given
+        SliceWrap<CheckboxResDto> slice = new SliceWrap<>(List.of(new CheckboxResDto(1L, "할일", LocalDate.of(2023, 7, 19), true)), true);
+
+        // when
+        SliceWrap<?> result = (SliceWrap<?>) serializer.deserialize(serializer.serialize(slice));
+
+        // then
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getWrap()).usingRecursiveFieldByFieldElementComparator().isEqualTo(slice.getWrap());
+
+    }
+
+    @Test
+    @DisplayName("NullValue - 그대로 NullValue로 복원")
+    void nullValueTest() {
+
+        // when
+        Object result = serializer.deserialize(serializer.serialize(NullValue.INSTANCE));
+
+        // then
+        assertThat(result).isSameAs(NullValue.INSTANCE);
+
+    }
+
+    @Test
+    @DisplayName("TimedCacheValue - delta, 만료 시각과 감싼 값을 그대로 복원")
+    void timedCacheValueTest() {
+
+        // given
+        TimedCacheValue timedCacheValue = new TimedCacheValue(planResDtoWrap(3), 12L, 1690000000000L);
+
+        // when
+        TimedCacheValue result = (TimedCacheValue) serializer.deserialize(serializer.serialize(timedCacheValue));
+
+        // then
+        assertThat(result.getDeltaMillis()).isEqualTo(12L);
+        assertThat(result.getExpiresAtMillis()).isEqualTo(1690000000000L);
+        assertThat(((PlanResDtoWrap) result.getValue()).getWrap()).usingRecursiveFieldByFieldElementComparator()
+                .isEqualTo(((PlanResDtoWrap) timedCacheValue.getValue()).getWrap());
+
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 타입 - Jackson으로 직렬화해서 복원")
+    void fallbackTest() {
+
+        // given
+        HashMap<String, String> value = new HashMap<>(Map.of("a", "b"));
+
+        // when
+        Object result = serializer.deserialize(serializer.serialize(value));
+
+        // then
+        assertThat(result).isEqualTo(value);
+
+    }
+
+    @Test
+    @DisplayName("List - 원소마다 타입에 맞게 직렬화해서 ArrayList로 복원")
+    void listTest() {
+
+        // given
+        List<Object> value = List.of(
+                new GroupResDto(1L, "그룹", 3, List.of("월", "수")),
+                new CheckboxResDto(2L, "할일", LocalDate.of(2023, 7, 19), true),
+                "etc");
+
+        // when
+        Object result = serializer.deserialize(serializer.serialize(value));
+
+        // then
+        assertThat(result).isInstanceOf(ArrayList.class);
+        assertThat((List<?>) result).usingRecursiveFieldByFieldElementComparator().isEqualTo(value);
+
+    }
+
+    @Test
+    @DisplayName("이전에 Jackson으로 저장된 값 - Jackson으로 읽는다.")
+    void legacyJsonTest() {
+
+        // given
+        PlanResDtoWrap planResDtoWrap = planResDtoWrap(3);
+        byte[] legacy = new GenericJackson2JsonRedisSerializer().serialize(planResDtoWrap);
+
+        // when
+        PlanResDtoWrap result = (PlanResDtoWrap) serializer.deserialize(legacy);
+
+        // then
+        assertThat(result.getWrap()).usingRecursiveFieldByFieldElementComparator().isEqualTo(planResDtoWrap.getWrap());
+
+    }
+
+    private PlanResDtoWrap planResDtoWrap(int size) {
+        List<PlanResDto> plans = new ArrayList<>();
+        LocalDate start = LocalDate.of(2023, 7, 1);
+        for (int i = 0; i < size; i++) {
+            plans.add(new PlanResDto((long) i, "plan" + i, start.plusDays(i % 30), start.plusDays(i % 30 + 14), PlanStatus.NOW));
+        }
+        return new PlanResDtoWrap(plans);
+    }
+
+}
@@ -0,0 +1,71 @@
+package yeonleaf.plantodo.unit.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import yeonleaf.plantodo.cache.NotFoundCache;
+import yeonleaf.plantodo.exceptions.ResourceNotFoundException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * target : {@link NotFoundCache}
+ * test description : 찾지 못한 id를 기억했다가 DB 조회 없이 예외를 던지는지,
+ *                    ttl이 지나거나 같은 id로 생성되면 다시 조회하게 하는지 확인한다.
+ */
+public class NotFoundCacheUnitTest {
+
+    @Test
+    @DisplayName("찾지 못한 id를 기억하면 다음 확인에서 stack trace 없는 ResourceNotFoundException을 던진다.")
+    void checkTest_missing() {
+
+        // given
+        NotFoundCache notFoundCache = new NotFoundCache(new ConcurrentMapCacheManager(), Duration.ofSeconds(30L));
+        assertThatNoException().isThrownBy(() -> notFoundCache.check(NotFoundCache.PLAN, 1L));
+
+        // when
+        ResourceNotFoundException missing = notFoundCache.missing(NotFoundCache.PLAN, 1L);
+
+        // then
+        assertThat(missing.getStackTrace()).isEmpty();
+        assertThatThrownBy(() -> notFoundCache.check(NotFoundCache.PLAN, 1L)).isInstanceOf(ResourceNotFoundException.class);
+        assertThatNoException().isThrownBy(() -> notFoundCache.check(NotFoundCache.GROUP, 1L));
+
+    }
+
+    @Test
+    @DisplayName("같은 id로 생성되면 기억해 둔 항목을 지운다.")
+    void forgetTest() {
+
+        // given
+        NotFoundCache notFoundCache = new NotFoundCache(new ConcurrentMapCacheManager(), Duration.ofSeconds(30L));
+        notFoundCache.missing(NotFoundCache.CHECKBOX, 1L);
+
+        // when
+        notFoundCache.forget(NotFoundCache.CHECKBOX, 1L);
+
+        // then
+        assertThatNoException().isThrownBy(() -> notFoundCache.check(NotFoundCache.CHECKBOX, 1L));
+
+    }
+
+    @Test
+    @DisplayName("ttl이 지난 항목은 캐시에 남아 있어도 무시한다.")
+    void checkTest_expired() {
+
+        // given
+        NotFoundCache notFoundCache = new NotFoundCache(new ConcurrentMapCacheManager(), Duration.ZERO);
+
+        // when
+        notFoundCache.missing(NotFoundCache.MEMBER, 1L);
+
+        // then
+        assertThatNoException().isThrownBy(() -> notFoundCache.check(NotFoundCache.MEMBER, 1L));
+
+    }
+
+}
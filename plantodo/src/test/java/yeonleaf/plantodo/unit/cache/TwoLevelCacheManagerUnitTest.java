@@ -0,0 +1,319 @@
+package yeonleaf.plantodo.unit.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import yeonleaf.plantodo.cache.CacheLoadLease;
+import yeonleaf.plantodo.cache.CacheRefreshPolicy;
+import yeonleaf.plantodo.cache.MultiGetCache;
+import yeonleaf.plantodo.cache.StaleIfErrorPolicy;
+import yeonleaf.plantodo.cache.TimedCacheValue;
+import yeonleaf.plantodo.cache.TwoLevelCacheManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * target : {@link TwoLevelCacheManager}
+ * test description : 두 노드가 하나의 L2를 공유하는 상황을 만들어
+ *                    L1 read-through와 invalidation 발행/반영을 확인한다.
+ *                    L2는 ConcurrentMapCacheManager로, pub/sub은 발행된 메시지를 모으는 리스트로 대신한다.
+ */
+public class TwoLevelCacheManagerUnitTest {
+
+    private ConcurrentMapCacheManager remoteCacheManager;
+    private List<String> published;
+    private TwoLevelCacheManager node1;
+    private TwoLevelCacheManager node2;
+
+    @BeforeEach
+    void setUp() {
+        remoteCacheManager = new ConcurrentMapCacheManager();
+        published = new ArrayList<>();
+        node1 = new TwoLevelCacheManager(remoteCacheManager, Caffeine.newBuilder().maximumSize(100L),
+                (cacheName, key) -> published.add(cacheName + ":" + key));
+        node2 = new TwoLevelCacheManager(remoteCacheManager, Caffeine.newBuilder().maximumSize(100L),
+                (cacheName, key) -> published.add(cacheName + ":" + key));
+    }
+
+    @Test
+    @DisplayName("L1에 없으면 L2에서 읽어서 L1에 채운다.")
+    void getTest_readThrough() {
+
+        // given
+        node1.getCache("plan").put(1L, "plan1");
+
+        // when
+        Cache.ValueWrapper value = node2.getCache("plan").get(1L);
+        remoteCacheManager.getCache("plan").put(1L, "changed");
+
+        // then
+        assertThat(value.get()).isEqualTo("plan1");
+        assertThat(node2.getCache("plan").get(1L).get()).isEqualTo("plan1");
+
+    }
+
+    @Test
+    @DisplayName("삭제하면 invalidation을 발행하고, 받은 노드는 L1에서 지운다.")
+    void evictTest_invalidation() {
+
+        // given
+        node1.getCache("plan").put(1L, "plan1");
+        node2.getCache("plan").get(1L);
+
+        // when
+        node1.getCache("plan").evict(1L);
+        node2.evictLocal("plan", "1");
+
+        // then
+        assertThat(published).containsExactly("plan:1", "plan:1");
+        assertThat(node2.getCache("plan").get(1L)).isNull();
+
+    }
+
+    @Test
+    @DisplayName("L2를 읽는 동안 invalidation이 오면 읽어 온 값을 L1에 채우지 않는다.")
+    void getTest_invalidatedDuringRemoteRead() {
+
+        // given
+        // L2(replica)에서 이전 값을 읽는 도중에 다른 노드의 invalidation이 도착한 것처럼 evictLocal을 호출한다.
+        AtomicReference<TwoLevelCacheManager> nodeRef = new AtomicReference<>();
+        ConcurrentMapCacheManager laggingRemoteCacheManager = new ConcurrentMapCacheManager() {
+            @Override
+            protected Cache createConcurrentMapCache(String name) {
+                return new ConcurrentMapCache(name) {
+                    @Override
+                    public ValueWrapper get(Object key) {
+                        ValueWrapper value = super.get(key);
+                        nodeRef.get().evictLocal(name, String.valueOf(key));
+                        return value;
+                    }
+                };
+            }
+        };
+        laggingRemoteCacheManager.getCache("plan").put(1L, "old");
+        TwoLevelCacheManager node = new TwoLevelCacheManager(laggingRemoteCacheManager, Caffeine.newBuilder().maximumSize(100L), (cacheName, key) -> {});
+        nodeRef.set(node);
+
+        // when
+        Cache.ValueWrapper value = node.getCache("plan").get(1L);
+        Map<Object, Cache.ValueWrapper> values = MultiGetCache.getAll(node.getCache("plan"), List.of(1L));
+
+        // then
+        assertThat(value.get()).isEqualTo("old");
+        assertThat(values.get(1L).get()).isEqualTo("old");
+        assertThat(((com.github.benmanes.caffeine.cache.Cache<?, ?>) node.getCache("plan").getNativeCache()).asMap()).isEmpty();
+
+    }
+
+    @Test
+    @DisplayName("여러 key 조회 - L1에 없는 key만 L2에서 읽어서 L1에 채우고, 어디에도 없는 key는 뺀다.")
+    void getAllTest() {
+
+        // given
+        node1.getCache("plan").put(1L, "plan1");
+        node1.getCache("plan").put(2L, "plan2");
+        node2.getCache("plan").get(1L);
+
+        // when
+        Map<Object, Cache.ValueWrapper> values = MultiGetCache.getAll(node2.getCache("plan"), List.of(1L, 2L, 3L));
+        remoteCacheManager.getCache("plan").put(2L, "changed");
+
+        // then
+        assertThat(values).containsOnlyKeys(1L, 2L);
+        assertThat(values.get(2L).get()).isEqualTo("plan2");
+        assertThat(node2.getCache("plan").get(2L).get()).isEqualTo("plan2");
+
+    }
+
+    @Test
+    @DisplayName("sync 조회 - 값이 없을 때만 loader를 실행한다.")
+    void getTest_valueLoader() {
+
+        // given
+        Cache cache = node1.getCache("plan");
+
+        // when
+        String first = cache.get(1L, () -> "loaded");
+        String second = cache.get(1L, () -> "reloaded");
+
+        // then
+        assertThat(first).isEqualTo("loaded");
+        assertThat(second).isEqualTo("loaded");
+        assertThat(remoteCacheManager.getCache("plan").get(1L).get()).isEqualTo("loaded");
+
+    }
+
+    @Test
+    @DisplayName("sync 조회 - 여러 노드에서 동시에 miss가 나도 loader는 한 번만 실행한다.")
+    void getTest_singleFlight() throws Exception {
+
+        // given
+        ConcurrentMap<String, String> leases = new ConcurrentHashMap<>();
+        CacheLoadLease loadLease = new CacheLoadLease() {
+            @Override
+            public String tryAcquire(String leaseKey) {
+                String token = UUID.randomUUID().toString();
+                return leases.putIfAbsent(leaseKey, token) == null ? token : null;
+            }
+
+            @Override
+            public void release(String leaseKey, String token) {
+                leases.remove(leaseKey, token);
+            }
+        };
+        List<TwoLevelCacheManager> nodes = List.of(
+                new TwoLevelCacheManager(remoteCacheManager, Caffeine.newBuilder().maximumSize(100L), (cacheName, key) -> {}, loadLease, CacheRefreshPolicy.NONE, StaleIfErrorPolicy.NONE),
+                new TwoLevelCacheManager(remoteCacheManager, Caffeine.newBuilder().maximumSize(100L), (cacheName, key) -> {}, loadLease, CacheRefreshPolicy.NONE, StaleIfErrorPolicy.NONE)
+        );
+        AtomicInteger loadCount = new AtomicInteger();
+        Callable<String> valueLoader = () -> {
+            loadCount.incrementAndGet();
+            Thread.sleep(100L);
+            return "loaded";
+        };
+
+        // when
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            Cache cache = nodes.get(i % 2).getCache("plan");
+            results.add(executorService.submit(() -> cache.get(1L, valueLoader)));
+        }
+        executorService.shutdown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo("loaded");
+        }
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(leases).isEmpty();
+
+    }
+
+    @Test
+    @DisplayName("early refresh - 만료가 가까운 값은 지금 값을 돌려주고 다시 읽어 온 값으로 바꿔 둔다.")
+    void getTest_earlyRefresh() {
+
+        // given
+        // TTL 0 : 항상 만료가 가까운 값, executor는 호출한 스레드에서 바로 실행
+        CacheRefreshPolicy refreshPolicy = new CacheRefreshPolicy(Duration.ZERO, 1.0, Runnable::run);
+        TwoLevelCacheManager node = new TwoLevelCacheManager(remoteCacheManager, Caffeine.newBuilder().maximumSize(100L),
+                (cacheName, key) -> published.add(cacheName + ":" + key), CacheLoadLease.NONE, refreshPolicy, StaleIfErrorPolicy.NONE);
+        Cache cache = node.getCache("plan");
+        cache.get(1L, () -> "v1");
+        published.clear();
+
+        // when
+        String current = cache.get(1L, () -> "v2");
+
+        // then
+        assertThat(current).isEqualTo("v1");
+        assertThat(cache.get(1L).get()).isEqualTo("v2");
+        assertThat(((TimedCacheValue) remoteCacheManager.getCache("plan").get(1L).get()).getValue()).isEqualTo("v2");
+        assertThat(published).containsExactly("plan:1");
+
+    }
+
+    @Test
+    @DisplayName("early refresh - 다시 읽어 오는 loader는 설정한 읽기 전용 트랜잭션 안에서 실행한다.")
+    void getTest_earlyRefreshReadOnly() {
+
+        // given
+        // RoutingDataSource처럼 읽기 전용 트랜잭션이면 replica, 아니면 master에서 읽었다고 돌려주는 loader
+        TransactionOperations readOnly = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+                try {
+                    return action.doInTransaction(new SimpleTransactionStatus());
+                } finally {
+                    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+                }
+            }
+        };
+        CacheRefreshPolicy refreshPolicy = new CacheRefreshPolicy(Duration.ZERO, 1.0, Runnable::run, readOnly);
+        TwoLevelCacheManager node = new TwoLevelCacheManager(remoteCacheManager, Caffeine.newBuilder().maximumSize(100L),
+                (cacheName, key) -> {}, CacheLoadLease.NONE, refreshPolicy, StaleIfErrorPolicy.NONE);
+        Cache cache = node.getCache("plan");
+        cache.get(1L, () -> "v1");
+
+        // when
+        cache.get(1L, () -> TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? "replica" : "master");
+
+        // then
+        assertThat(cache.get(1L).get()).isEqualTo("replica");
+
+    }
+
+    @Test
+    @DisplayName("early refresh - 다시 읽어 오는 동안 값이 바뀌면 다시 읽어 온 값을 버린다.")
+    void getTest_earlyRefreshInvalidated() {
+
+        // given
+        // executor는 갱신을 실행하기 전에 다른 요청이 값을 바꾼 것처럼 put한다.
+        AtomicReference<Cache> cacheRef = new AtomicReference<>();
+        CacheRefreshPolicy refreshPolicy = new CacheRefreshPolicy(Duration.ZERO, 1.0, task -> {
+            cacheRef.get().put(1L, "v3");
+            task.run();
+        });
+        TwoLevelCacheManager node = new TwoLevelCacheManager(remoteCacheManager, Caffeine.newBuilder().maximumSize(100L),
+                (cacheName, key) -> published.add(cacheName + ":" + key), CacheLoadLease.NONE, refreshPolicy, StaleIfErrorPolicy.NONE);
+        Cache cache = node.getCache("plan");
+        cacheRef.set(cache);
+        cache.get(1L, () -> "v1");
+
+        // when
+        String current = cache.get(1L, () -> "v2");
+
+        // then
+        assertThat(current).isEqualTo("v1");
+        assertThat(cache.get(1L).get()).isEqualTo("v3");
+        assertThat(remoteCacheManager.getCache("plan").get(1L).get()).isEqualTo("v3");
+
+    }
+
+    @Test
+    @DisplayName("stale-if-error - loader가 DB 오류로 실패하면 마지막으로 읽어 온 값을 돌려준다.")
+    void getTest_staleIfError() {
+
+        // given
+        TwoLevelCacheManager node = new TwoLevelCacheManager(remoteCacheManager, Caffeine.newBuilder().maximumSize(100L),
+                (cacheName, key) -> {}, CacheLoadLease.NONE, CacheRefreshPolicy.NONE, new StaleIfErrorPolicy(Duration.ofMinutes(30L), 100L));
+        Cache cache = node.getCache("plan");
+        cache.get(1L, () -> "v1");
+        node.evictLocal("plan", "1");
+        remoteCacheManager.getCache("plan").clear();
+
+        // when
+        String stale = cache.get(1L, () -> {
+            throw new CannotCreateTransactionException("db down");
+        });
+
+        // then
+        assertThat(stale).isEqualTo("v1");
+        assertThatThrownBy(() -> cache.get(2L, () -> {
+            throw new CannotCreateTransactionException("db down");
+        })).isInstanceOf(Cache.ValueRetrievalException.class);
+
+    }
+
+}
@@ -22,6 +22,7 @@ import yeonleaf.plantodo.service.CheckboxServiceTestImpl;
 import yeonleaf.plantodo.domain.Checkbox;
 import yeonleaf.plantodo.exceptions.ApiBindingError;
 import yeonleaf.plantodo.exceptions.ApiSimpleError;
+import yeonleaf.plantodo.wrapper.SliceWrap;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -325,8 +326,8 @@ public class CheckboxControllerUnitTest {
     /**
      * 순수 컬렉션 조회 API 관련 테스트
      * 순수 컬렉션이란 필터링이 걸려 있지 않은 컬렉션 조회 API를 의미함
-     * @see CheckboxController#allByPlan(Long)
-     * @see CheckboxController#allByGroup(Long)
+     * @see CheckboxController#pageByPlan(Long, String, Integer)
+     * @see CheckboxController#pageByGroup(Long, Long, Integer)
      * @throws Exception mockMvc.perform()
      */
     @Test
@@ -339,7 +340,7 @@ public class CheckboxControllerUnitTest {
                 .param("planId", "1");
 
         // when
-        when(checkboxService.allByPlan(any())).thenReturn(checkboxes);
+        when(checkboxService.pageByPlan(any(), any(), anyInt())).thenReturn(SliceWrap.of(checkboxes, SliceWrap.DEFAULT_LIMIT));
 
         // then
         mockMvc.perform(request)
@@ -359,7 +360,7 @@ public class CheckboxControllerUnitTest {
                 .param("groupId", "1");
 
         // when
-        when(checkboxService.allByGroup(any())).thenReturn(checkboxes);
+        when(checkboxService.pageByGroup(any(), any(), anyInt())).thenReturn(SliceWrap.of(checkboxes, SliceWrap.DEFAULT_LIMIT));
 
         // then
         mockMvc.perform(request)
@@ -378,7 +379,7 @@ public class CheckboxControllerUnitTest {
                 .param("planId", "1");
 
         // when
-        doThrow(ResourceNotFoundException.class).when(checkboxService).allByPlan(any());
+        doThrow(ResourceNotFoundException.class).when(checkboxService).pageByPlan(any(), any(), anyInt());
 
         // then
         mockMvc.perform(request)
@@ -396,7 +397,7 @@ public class CheckboxControllerUnitTest {
                 .param("groupId", "1");
 
         // when
-        doThrow(ResourceNotFoundException.class).when(checkboxService).allByGroup(any());
+        doThrow(ResourceNotFoundException.class).when(checkboxService).pageByGroup(any(), any(), anyInt());
 
         // then
         mockMvc.perform(request)
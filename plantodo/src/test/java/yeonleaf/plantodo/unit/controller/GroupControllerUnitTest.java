@@ -21,6 +21,7 @@ import yeonleaf.plantodo.exceptions.ResourceNotFoundException;
 import yeonleaf.plantodo.service.GroupService;
 import yeonleaf.plantodo.exceptions.ApiBindingError;
 import yeonleaf.plantodo.exceptions.ApiSimpleError;
+import yeonleaf.plantodo.wrapper.SliceWrap;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -305,7 +306,7 @@ public class GroupControllerUnitTest {
     /**
      * 순수 컬렉션 조회 API 관련 테스트
      * 순수 컬렉션이란 필터링이 걸려 있지 않은 컬렉션 조회 API를 의미함
-     * @see GroupController#all(Long)
+     * @see GroupController#page(Long, Long, Integer)
      * @throws Exception mockMvc.perform()
      */
     @Test
@@ -318,7 +319,7 @@ public class GroupControllerUnitTest {
                 .param("planId", "1");
 
         // when
-        when(groupService.all(any())).thenReturn(groups);
+        when(groupService.page(any(), any(), anyInt())).thenReturn(SliceWrap.of(groups, SliceWrap.DEFAULT_LIMIT));
 
         // then
         mockMvc.perform(request)
@@ -336,7 +337,7 @@ public class GroupControllerUnitTest {
                 .param("planId", "1");
 
         // when
-        doThrow(ResourceNotFoundException.class).when(groupService).all(any());
+        doThrow(ResourceNotFoundException.class).when(groupService).page(any(), any(), anyInt());
 
         // then
         mockMvc.perform(request)
@@ -23,11 +23,13 @@ import yeonleaf.plantodo.service.PlanService;
 import yeonleaf.plantodo.exceptions.ApiBindingError;
 import yeonleaf.plantodo.exceptions.ApiSimpleError;
 import yeonleaf.plantodo.wrapper.PlanResDtoWrap;
+import yeonleaf.plantodo.wrapper.SliceWrap;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -427,7 +429,7 @@ public class PlanControllerUnitTest {
     /**
      * 순수 컬렉션 조회 API 관련 테스트
      * 순수 컬렉션이란 필터링이 걸려 있지 않은 컬렉션 조회 API를 의미함
-     * @see PlanController#all(Long)
+     * @see PlanController#page(Long, Long, Integer)
      * @throws Exception mockMvc.perform()
      */
     @Test
@@ -435,12 +437,12 @@ public class PlanControllerUnitTest {
     void allTestNormal() throws Exception {
 
         // given
-        PlanResDtoWrap planResDtoWrap = new PlanResDtoWrap(makeSamplePlans());
+        SliceWrap<PlanResDto> slice = SliceWrap.of(makeSamplePlans(), SliceWrap.DEFAULT_LIMIT);
         MockHttpServletRequestBuilder request = get("/plans")
                 .param("memberId", "1");
 
         // when
-        doReturn(planResDtoWrap).when(planService).all(any());
+        doReturn(slice).when(planService).page(any(), any(), anyInt());
 
         // then
         mockMvc.perform(request)
@@ -458,7 +460,7 @@ public class PlanControllerUnitTest {
                 .param("memberId", "1");
 
         // when
-        doThrow(ResourceNotFoundException.class).when(planService).all(any());
+        doThrow(ResourceNotFoundException.class).when(planService).page(any(), any(), anyInt());
 
         // then
         mockMvc.perform(request)
@@ -467,6 +469,44 @@ public class PlanControllerUnitTest {
 
     }
 
+    @Test
+    @DisplayName("정상 순수 컬렉션 조회 - 다음 페이지가 있으면 next 링크를 준다.")
+    void allTestNormal_nextLink() throws Exception {
+
+        // given
+        SliceWrap<PlanResDto> slice = SliceWrap.of(makeSamplePlans(), 2);
+        MockHttpServletRequestBuilder request = get("/plans")
+                .param("memberId", "1")
+                .param("limit", "2");
+
+        // when
+        doReturn(slice).when(planService).page(any(), any(), anyInt());
+
+        // then
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.planResDtoList.length()").value(2))
+                .andExpect(jsonPath("_links.next.href").value(containsString("after=2")));
+
+    }
+
+    @Test
+    @DisplayName("비정상 순수 컬렉션 조회 - limit이 범위를 벗어난 경우")
+    void allTestAbnormal_invalidLimit() throws Exception {
+
+        // given
+        MockHttpServletRequestBuilder request = get("/plans")
+                .param("memberId", "1")
+                .param("limit", String.valueOf(SliceWrap.MAX_LIMIT + 1));
+
+        // when - then
+        mockMvc.perform(request)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("message").value("Invalid query strings"))
+                .andExpect(jsonPath("errors.limit").isNotEmpty());
+
+    }
+
 
     /**
      * 일별 컬렉션 API 관련 테스트
@@ -27,6 +27,8 @@ import yeonleaf.plantodo.exceptions.ApiBindingError;
 import yeonleaf.plantodo.exceptions.ApiSimpleError;
 import yeonleaf.plantodo.exceptions.ResourceNotFoundException;
 import yeonleaf.plantodo.provider.JwtProvider;
+import yeonleaf.plantodo.provider.RefreshTokenStore;
+import yeonleaf.plantodo.service.CacheWarmer;
 import yeonleaf.plantodo.service.MemberService;
 import java.time.Duration;
 import java.util.Date;
@@ -34,6 +36,7 @@ import java.util.Date;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -60,6 +63,12 @@ public class MemberControllerLoginUnitTest {
     @MockBean
     MemberService memberService;
 
+    @MockBean
+    CacheWarmer cacheWarmer;
+
+    @MockBean
+    RefreshTokenStore refreshTokenStore;
+
     ObjectMapper objectMapper = new ObjectMapper();
 
     private MockHttpServletRequestBuilder makeLoginRequest(MemberReqDto memberReqDto) throws JsonProcessingException {
@@ -95,13 +104,16 @@ public class MemberControllerLoginUnitTest {
 
         // when
         when(memberService.login(any())).thenReturn(1L);
-        when(jwtProvider.generateToken(any())).thenReturn(validJwtToken());
+        when(refreshTokenStore.issue(any())).thenReturn(new RefreshTokenStore.RefreshToken("refresh", 1L, "family"));
+        when(jwtProvider.generateToken(any(), any())).thenReturn(validJwtToken());
 
         // then
         mockMvc.perform(request)
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("token").isString())
+                .andExpect(jsonPath("refreshToken").value("refresh"))
                 .andExpect(jsonPath("_links.plans").exists());
+        verify(cacheWarmer).warmUp(1L);
 
     }
 
@@ -17,6 +17,8 @@ import yeonleaf.plantodo.controller.MemberController;
 import yeonleaf.plantodo.dto.MemberReqDto;
 import yeonleaf.plantodo.dto.MemberResDto;
 import yeonleaf.plantodo.exceptions.ApiBindingError;
+import yeonleaf.plantodo.provider.RefreshTokenStore;
+import yeonleaf.plantodo.service.CacheWarmer;
 import yeonleaf.plantodo.service.MemberServiceImpl;
 import yeonleaf.plantodo.validator.JoinFormatCheckValidator;
 
@@ -44,6 +46,12 @@ public class MemberControllerSaveUnitTest {
     @MockBean
     private MemberServiceImpl memberService;
 
+    @MockBean
+    private CacheWarmer cacheWarmer;
+
+    @MockBean
+    private RefreshTokenStore refreshTokenStore;
+
     @Autowired
     private ObjectMapper objectMapper;
 
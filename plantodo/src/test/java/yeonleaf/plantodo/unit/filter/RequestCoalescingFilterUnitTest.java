@@ -0,0 +1,204 @@
+package yeonleaf.plantodo.unit.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import yeonleaf.plantodo.filter.RequestCoalescer;
+import yeonleaf.plantodo.filter.RequestCoalescingFilter;
+import yeonleaf.plantodo.interceptor.RequestCoalescingInterceptor;
+import yeonleaf.plantodo.util.MemberContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * target : {@link RequestCoalescingFilter}, {@link RequestCoalescingInterceptor}, {@link RequestCoalescer}
+ * test description : 같은 회원의 같은 GET 요청이 처리 중이면 뒤의 요청은 컨트롤러를 실행하지 않고 앞 요청의 응답 byte를 받는지,
+ *                    앞 요청이 실패하거나 같은 회원의 쓰기 요청이 끝난 뒤라면 뒤의 요청이 직접 처리하는지 확인한다.
+ */
+public class RequestCoalescingFilterUnitTest {
+
+    private final RequestCoalescer requestCoalescer = new RequestCoalescer(5_000L);
+    private final RequestCoalescingFilter filter = new RequestCoalescingFilter(requestCoalescer);
+    private final RequestCoalescingInterceptor interceptor = new RequestCoalescingInterceptor(requestCoalescer);
+
+    private final AtomicInteger computed = new AtomicInteger();
+
+    private MockHttpServletRequest makeRequest(Long memberId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/plans");
+        request.setQueryString("memberId=" + memberId);
+        MemberContext.set(request, memberId);
+        return request;
+    }
+
+    /**
+     * 인터셉터를 통과하면 컨트롤러처럼 응답을 쓰는 FilterChain
+     */
+    private FilterChain chain(int status, CountDownLatch entered, CountDownLatch release) {
+        return (request, response) -> {
+            try {
+                if (!interceptor.preHandle((HttpServletRequest) request, (HttpServletResponse) response, null)) {
+                    return;
+                }
+                computed.incrementAndGet();
+                entered.countDown();
+                release.await();
+                HttpServletResponse httpResponse = (HttpServletResponse) response;
+                httpResponse.setStatus(status);
+                httpResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                httpResponse.getOutputStream().write("{\"wrap\":[]}".getBytes(StandardCharsets.UTF_8));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    private Thread startFollower(MockHttpServletRequest request, MockHttpServletResponse response, int status) {
+        Thread follower = new Thread(() -> {
+            try {
+                filter.doFilter(request, response, chain(status, new CountDownLatch(1), new CountDownLatch(0)));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        follower.start();
+        return follower;
+    }
+
+    /**
+     * follower는 leader의 응답을 기다리는 동안만 TIMED_WAITING 상태가 된다.
+     */
+    private void awaitWaiting(Thread follower) throws InterruptedException {
+        while (follower.getState() != Thread.State.TIMED_WAITING) {
+            Thread.sleep(5L);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 요청이 처리 중이면 컨트롤러를 한 번만 실행하고 뒤의 요청은 같은 응답 byte를 받는다.")
+    void coalesceTest_normal() throws Exception {
+
+        // given
+        MockHttpServletRequest leaderRequest = makeRequest(1L);
+        MockHttpServletResponse leaderResponse = new MockHttpServletResponse();
+        MockHttpServletResponse followerResponse = new MockHttpServletResponse();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread leader = new Thread(() -> {
+            try {
+                filter.doFilter(leaderRequest, leaderResponse, chain(200, entered, release));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        leader.start();
+        entered.await();
+        Thread follower = startFollower(makeRequest(1L), followerResponse, 200);
+        awaitWaiting(follower);
+
+        // when
+        release.countDown();
+        leader.join();
+        follower.join();
+
+        // then
+        assertThat(computed.get()).isEqualTo(1);
+        assertThat(followerResponse.getStatus()).isEqualTo(200);
+        assertThat(followerResponse.getContentAsString()).isEqualTo(leaderResponse.getContentAsString()).isEqualTo("{\"wrap\":[]}");
+
+    }
+
+    @Test
+    @DisplayName("앞 요청의 응답이 200이 아니면 뒤의 요청은 직접 처리한다.")
+    void coalesceTest_leaderFailed() throws Exception {
+
+        // given
+        MockHttpServletRequest leaderRequest = makeRequest(2L);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread leader = new Thread(() -> {
+            try {
+                filter.doFilter(leaderRequest, new MockHttpServletResponse(), chain(500, entered, release));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        leader.start();
+        entered.await();
+        MockHttpServletResponse followerResponse = new MockHttpServletResponse();
+        Thread follower = startFollower(makeRequest(2L), followerResponse, 200);
+        awaitWaiting(follower);
+
+        // when
+        release.countDown();
+        leader.join();
+        follower.join();
+
+        // then
+        assertThat(computed.get()).isEqualTo(2);
+        assertThat(followerResponse.getStatus()).isEqualTo(200);
+
+    }
+
+    @Test
+    @DisplayName("같은 회원의 쓰기 요청이 끝난 뒤에 온 요청은 처리 중인 요청을 기다리지 않고 직접 처리한다.")
+    void coalesceTest_afterWrite() throws Exception {
+
+        // given
+        MockHttpServletRequest leaderRequest = makeRequest(3L);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread leader = new Thread(() -> {
+            try {
+                filter.doFilter(leaderRequest, new MockHttpServletResponse(), chain(200, entered, release));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        leader.start();
+        entered.await();
+
+        MockHttpServletRequest writeRequest = new MockHttpServletRequest("PUT", "/plan/1");
+        MemberContext.set(writeRequest, 3L);
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        interceptor.preHandle(writeRequest, writeResponse, null);
+        interceptor.afterCompletion(writeRequest, writeResponse, null, null);
+
+        // when
+        MockHttpServletResponse followerResponse = new MockHttpServletResponse();
+        Thread follower = startFollower(makeRequest(3L), followerResponse, 200);
+        follower.join();
+        release.countDown();
+        leader.join();
+
+        // then
+        assertThat(computed.get()).isEqualTo(2);
+        assertThat(followerResponse.getStatus()).isEqualTo(200);
+
+    }
+
+    @Test
+    @DisplayName("다른 회원의 같은 요청은 합치지 않는다.")
+    void keyTest_member() {
+
+        // given
+        MockHttpServletRequest request1 = makeRequest(1L);
+        MockHttpServletRequest request2 = makeRequest(1L);
+
+        // when - then
+        assertThat(RequestCoalescer.key(1L, request1)).isNotEqualTo(RequestCoalescer.key(2L, request2));
+
+    }
+
+}
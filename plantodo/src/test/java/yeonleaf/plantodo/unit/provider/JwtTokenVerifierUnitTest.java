@@ -0,0 +1,87 @@
+package yeonleaf.plantodo.unit.provider;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import yeonleaf.plantodo.exceptions.CustomJwtException;
+import yeonleaf.plantodo.provider.JwtTestProvider;
+import yeonleaf.plantodo.provider.JwtTokenVerifier;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * target : {@link JwtTokenVerifier}
+ * test description : 한 번 확인한 토큰은 다시 파싱하지 않고 같은 claims를 돌려주는지,
+ *                    확인에 실패한 토큰과 exp가 지난 토큰은 통과시키지 않는지 확인한다.
+ */
+public class JwtTokenVerifierUnitTest {
+
+    private final JwtTestProvider jwtTestProvider = new JwtTestProvider();
+
+    private final JwtTokenVerifier verifier = new JwtTokenVerifier(jwtTestProvider.secretKey(), 100L, Duration.ofMinutes(30));
+
+    private String makeToken(Date expiration) {
+        return jwtTestProvider.jwtBuilder().signWith(jwtTestProvider.secretKey(), SignatureAlgorithm.HS256)
+                .setIssuedAt(new Date())
+                .setExpiration(expiration)
+                .claim("id", 1L)
+                .compact();
+    }
+
+    @Test
+    @DisplayName("같은 토큰을 다시 확인하면 파싱하지 않고 처음에 확인한 claims를 돌려준다.")
+    void verifyTest_cached() {
+
+        // given
+        String token = makeToken(new Date(System.currentTimeMillis() + Duration.ofMinutes(30).toMillis()));
+
+        // when
+        Claims first = verifier.verify(token);
+        Claims second = verifier.verify(token);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(second.get("id", Long.class)).isEqualTo(1L);
+
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명한 토큰은 확인할 때마다 실패한다.")
+    void verifyTest_invalidSignature() {
+
+        // given
+        String token = jwtTestProvider.jwtBuilder().signWith(Keys.secretKeyFor(SignatureAlgorithm.HS256), SignatureAlgorithm.HS256)
+                .setExpiration(new Date(System.currentTimeMillis() + Duration.ofMinutes(30).toMillis()))
+                .compact();
+
+        // when - then
+        assertThatThrownBy(() -> verifier.verify(token)).isInstanceOf(CustomJwtException.class);
+        assertThatThrownBy(() -> verifier.verify(token)).isInstanceOf(CustomJwtException.class);
+
+    }
+
+    @Test
+    @DisplayName("확인해 둔 토큰도 exp가 지나면 만료로 실패한다.")
+    void verifyTest_expired() throws InterruptedException {
+
+        // given
+        String token = makeToken(new Date(System.currentTimeMillis() + 2_000L));
+        verifier.verify(token);
+
+        // when
+        Thread.sleep(2_500L);
+
+        // then
+        assertThatThrownBy(() -> verifier.verify(token))
+                .isInstanceOf(CustomJwtException.class)
+                .hasMessage("JWT TOKEN이 만료 (재로그인 필요)");
+
+    }
+
+}
@@ -0,0 +1,99 @@
+package yeonleaf.plantodo.unit.provider;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import yeonleaf.plantodo.provider.MemoryRefreshTokenStore;
+import yeonleaf.plantodo.provider.RefreshTokenStore;
+import yeonleaf.plantodo.provider.RefreshTokenStore.RefreshToken;
+import yeonleaf.plantodo.util.BloomFilter;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * target : {@link MemoryRefreshTokenStore}, {@link BloomFilter}
+ * test description : refresh 토큰을 쓰면 같은 family의 새 토큰이 발급되는지,
+ *                    이미 쓴 토큰을 다시 쓰거나 로그아웃하면 family가 폐기되는지 확인한다.
+ *                    Bloom filter는 넣은 값을 빠뜨리지 않는지 확인한다.
+ */
+public class MemoryRefreshTokenStoreUnitTest {
+
+    private final RefreshTokenStore refreshTokenStore = new MemoryRefreshTokenStore(Duration.ofDays(14), Duration.ofMinutes(30));
+
+    @Test
+    @DisplayName("refresh 토큰을 쓰면 같은 family의 새 토큰을 발급하고, 새 토큰도 한 번 쓸 수 있다.")
+    void rotateTest_normal() {
+
+        // given
+        RefreshToken issued = refreshTokenStore.issue(1L);
+
+        // when
+        RefreshToken rotated = refreshTokenStore.rotate(issued.value());
+
+        // then
+        assertThat(rotated).isNotNull();
+        assertThat(rotated.value()).isNotEqualTo(issued.value());
+        assertThat(rotated.memberId()).isEqualTo(1L);
+        assertThat(rotated.familyId()).isEqualTo(issued.familyId());
+        assertThat(refreshTokenStore.rotate(rotated.value())).isNotNull();
+        assertThat(refreshTokenStore.isRevoked(issued.familyId())).isFalse();
+
+    }
+
+    @Test
+    @DisplayName("이미 쓴 refresh 토큰을 다시 쓰면 null을 리턴하고 family를 폐기해서 최신 토큰도 쓸 수 없다.")
+    void rotateTest_reused() {
+
+        // given
+        RefreshToken issued = refreshTokenStore.issue(1L);
+        RefreshToken rotated = refreshTokenStore.rotate(issued.value());
+
+        // when
+        RefreshToken reused = refreshTokenStore.rotate(issued.value());
+
+        // then
+        assertThat(reused).isNull();
+        assertThat(refreshTokenStore.isRevoked(issued.familyId())).isTrue();
+        assertThat(refreshTokenStore.rotate(rotated.value())).isNull();
+
+    }
+
+    @Test
+    @DisplayName("로그아웃하면 family가 폐기되고 다른 로그인의 family는 영향을 받지 않는다.")
+    void revokeTest() {
+
+        // given
+        RefreshToken first = refreshTokenStore.issue(1L);
+        RefreshToken second = refreshTokenStore.issue(1L);
+
+        // when
+        refreshTokenStore.revoke(first.value());
+
+        // then
+        assertThat(refreshTokenStore.isRevoked(first.familyId())).isTrue();
+        assertThat(refreshTokenStore.rotate(first.value())).isNull();
+        assertThat(refreshTokenStore.isRevoked(second.familyId())).isFalse();
+
+    }
+
+    @Test
+    @DisplayName("Bloom filter는 넣은 값을 모두 포함한다고 답한다.")
+    void bloomFilterTest_noFalseNegative() {
+
+        // given
+        BloomFilter filter = new BloomFilter(1000, 0.001);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            filter.put("family-" + i);
+        }
+
+        // then
+        for (int i = 0; i < 1000; i++) {
+            assertThat(filter.mightContain("family-" + i)).isTrue();
+        }
+
+    }
+
+}
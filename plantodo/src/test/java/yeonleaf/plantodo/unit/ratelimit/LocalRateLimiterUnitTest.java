@@ -0,0 +1,101 @@
+package yeonleaf.plantodo.unit.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import yeonleaf.plantodo.exceptions.RateLimitExceededException;
+import yeonleaf.plantodo.interceptor.RateLimitInterceptor;
+import yeonleaf.plantodo.ratelimit.LocalRateLimiter;
+import yeonleaf.plantodo.ratelimit.RateLimit;
+import yeonleaf.plantodo.ratelimit.RateLimitPolicy;
+import yeonleaf.plantodo.util.MemberContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * target : {@link LocalRateLimiter}, {@link RateLimitInterceptor}
+ * test description : burst만큼은 바로 통과시키고 그 뒤의 요청은 다음 토큰까지 기다릴 시간을 리턴하는지,
+ *                    회원과 API 묶음마다 bucket이 따로인지,
+ *                    인터셉터가 한도를 넘은 요청에 Retry-After 초를 담아 {@link RateLimitExceededException}을 던지는지 확인한다.
+ */
+public class LocalRateLimiterUnitTest {
+
+    private final LocalRateLimiter rateLimiter = new LocalRateLimiter();
+
+    @Test
+    @DisplayName("burst만큼 통과시킨 뒤에는 다음 토큰이 채워질 때까지의 시간을 리턴한다.")
+    void acquireTest_burst() {
+
+        // given
+        RateLimit limit = new RateLimit(1, 3);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.acquire("1:read", limit)).isZero();
+        }
+        long wait = rateLimiter.acquire("1:read", limit);
+
+        // then
+        assertThat(wait).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+
+    }
+
+    @Test
+    @DisplayName("되돌린 토큰은 다시 쓸 수 있다.")
+    void refundTest() {
+
+        // given
+        RateLimit limit = new RateLimit(1, 1);
+        rateLimiter.acquire("1:read", limit);
+
+        // when
+        rateLimiter.refund("1:read", limit);
+
+        // then
+        assertThat(rateLimiter.acquire("1:read", limit)).isZero();
+        assertThat(rateLimiter.acquire("1:read", limit)).isPositive();
+
+    }
+
+    @Test
+    @DisplayName("다른 회원이나 다른 API 묶음의 bucket은 영향을 받지 않는다.")
+    void acquireTest_separateBuckets() {
+
+        // given
+        RateLimit limit = new RateLimit(1, 1);
+        rateLimiter.acquire("1:read", limit);
+
+        // when - then
+        assertThat(rateLimiter.acquire("1:read", limit)).isPositive();
+        assertThat(rateLimiter.acquire("2:read", limit)).isZero();
+        assertThat(rateLimiter.acquire("1:calendar", limit)).isZero();
+
+    }
+
+    @Test
+    @DisplayName("캘린더 한도를 넘은 요청은 Retry-After 초와 함께 RateLimitExceededException을 던지고, 로그인하지 않은 요청은 세지 않는다.")
+    void interceptorTest_calendar() throws Exception {
+
+        // given
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(rateLimiter, new RateLimitPolicy(20, 100, 5, 30, 0.5, 1));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/calendar/range");
+        MemberContext.set(request, 1L);
+        MockHttpServletRequest anonymous = new MockHttpServletRequest("GET", "/calendar/range");
+
+        // when
+        boolean first = interceptor.preHandle(request, new MockHttpServletResponse(), null);
+
+        // then
+        assertThat(first).isTrue();
+        assertThatThrownBy(() -> interceptor.preHandle(request, new MockHttpServletResponse(), null))
+                .isInstanceOf(RateLimitExceededException.class)
+                .extracting("retryAfterSeconds").isEqualTo(2L);
+        assertThat(interceptor.preHandle(anonymous, new MockHttpServletResponse(), null)).isTrue();
+
+    }
+
+}
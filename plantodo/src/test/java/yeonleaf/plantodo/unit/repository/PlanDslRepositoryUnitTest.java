@@ -0,0 +1,95 @@
+package yeonleaf.plantodo.unit.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import yeonleaf.plantodo.DslConfig;
+import yeonleaf.plantodo.domain.Member;
+import yeonleaf.plantodo.domain.Plan;
+import yeonleaf.plantodo.dto.PlanResDto;
+import yeonleaf.plantodo.exceptions.ResourceNotFoundException;
+import yeonleaf.plantodo.repository.MemberRepository;
+import yeonleaf.plantodo.repository.PlanDslRepository;
+import yeonleaf.plantodo.repository.PlanRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({DslConfig.class, PlanDslRepository.class})
+public class PlanDslRepositoryUnitTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    private PlanDslRepository planDslRepository;
+
+    @Test
+    @DisplayName("단건 조회 - 엔티티를 거치지 않고 DTO로 조회")
+    void findResDtoByIdTest() {
+
+        // given
+        Member member = memberRepository.save(new Member("test@abc.co.kr", "a63d@$ga"));
+        Plan plan = planRepository.save(new Plan("plan", LocalDate.of(2023, 7, 19), LocalDate.of(2023, 7, 31), member));
+
+        // when
+        PlanResDto planResDto = planDslRepository.findResDtoById(plan.getId()).orElseThrow(ResourceNotFoundException::new);
+
+        // then
+        assertThat(planResDto.getId()).isEqualTo(plan.getId());
+        assertThat(planResDto.getTitle()).isEqualTo("plan");
+        assertThat(planResDto.getStart()).isEqualTo(plan.getStart());
+        assertThat(planResDto.getEnd()).isEqualTo(plan.getEnd());
+        assertThat(planResDto.getStatus()).isEqualTo(plan.getStatus());
+
+    }
+
+    @Test
+    @DisplayName("기간 조회 - 검색 기간과 겹치는 일정만 조회")
+    void findAllResDtoByMemberIdAndDateRangeTest() {
+
+        // given
+        Member member = memberRepository.save(new Member("test@abc.co.kr", "a63d@$ga"));
+        Plan plan1 = planRepository.save(new Plan("plan1", LocalDate.of(2023, 7, 1), LocalDate.of(2023, 7, 10), member));
+        Plan plan2 = planRepository.save(new Plan("plan2", LocalDate.of(2023, 7, 15), LocalDate.of(2023, 7, 31), member));
+        planRepository.save(new Plan("plan3", LocalDate.of(2023, 8, 1), LocalDate.of(2023, 8, 10), member));
+
+        // when
+        List<PlanResDto> result = planDslRepository.findAllResDtoByMemberIdAndDateRange(member.getId(), LocalDate.of(2023, 7, 10), LocalDate.of(2023, 7, 15));
+
+        // then
+        assertThat(result).extracting(PlanResDto::getId).containsExactly(plan1.getId(), plan2.getId());
+
+    }
+
+    @Test
+    @DisplayName("키셋 페이지 조회 - after 다음 id부터 limit + 1개를 조회")
+    void findResDtoSliceByMemberIdTest() {
+
+        // given
+        Member member = memberRepository.save(new Member("test@abc.co.kr", "a63d@$ga"));
+        Plan plan1 = planRepository.save(new Plan("plan1", LocalDate.of(2023, 7, 1), LocalDate.of(2023, 7, 10), member));
+        Plan plan2 = planRepository.save(new Plan("plan2", LocalDate.of(2023, 7, 1), LocalDate.of(2023, 7, 10), member));
+        Plan plan3 = planRepository.save(new Plan("plan3", LocalDate.of(2023, 7, 1), LocalDate.of(2023, 7, 10), member));
+
+        // when
+        List<PlanResDto> first = planDslRepository.findResDtoSliceByMemberId(member.getId(), null, 1);
+        List<PlanResDto> second = planDslRepository.findResDtoSliceByMemberId(member.getId(), plan2.getId(), 1);
+
+        // then
+        assertThat(first).extracting(PlanResDto::getId).containsExactly(plan1.getId(), plan2.getId());
+        assertThat(second).extracting(PlanResDto::getId).containsExactly(plan3.getId());
+
+    }
+
+}
@@ -0,0 +1,83 @@
+package yeonleaf.plantodo.unit.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import yeonleaf.plantodo.service.CacheWarmer;
+import yeonleaf.plantodo.service.CheckboxService;
+import yeonleaf.plantodo.service.PlanService;
+import yeonleaf.plantodo.wrapper.PlanResDtoWrap;
+import yeonleaf.plantodo.wrapper.SliceWrap;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * target : {@link CacheWarmer}
+ * test description : 일정 목록 첫 페이지와 이번 달 날짜를 채우는지, 회원 하나의 작업은 한 번만 넣고 executor가 거절하면 채우지 않고 넘어가는지 본다.
+ */
+public class CacheWarmerUnitTest {
+
+    private final PlanService planService = mock(PlanService.class);
+    private final CheckboxService checkboxService = mock(CheckboxService.class);
+
+    @Test
+    @DisplayName("작업이 끝나기 전에 같은 회원으로 다시 호출하면 넣지 않고, 작업은 일정 목록 첫 페이지와 이번 달 날짜를 채운다.")
+    void warmUpTest_pending() {
+
+        // given
+        List<Runnable> queued = new ArrayList<>();
+        TaskExecutor executor = queued::add;
+        CacheWarmer cacheWarmer = new CacheWarmer(planService, checkboxService, executor);
+        when(planService.all(anyLong(), any(LocalDate.class))).thenReturn(new PlanResDtoWrap(new ArrayList<>()));
+
+        // when
+        boolean first = cacheWarmer.warmUp(1L);
+        boolean duplicate = cacheWarmer.warmUp(1L);
+        queued.get(0).run();
+        boolean afterRun = cacheWarmer.warmUp(1L);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(duplicate).isFalse();
+        assertThat(afterRun).isTrue();
+        verify(planService, times(1)).page(1L, null, SliceWrap.DEFAULT_LIMIT);
+        verify(planService).all(1L, LocalDate.now());
+        verify(planService, times(YearMonth.now().lengthOfMonth())).all(anyLong(), any(LocalDate.class));
+
+    }
+
+    @Test
+    @DisplayName("executor가 작업을 거절하면 조회하지 않고 다음 호출은 다시 넣을 수 있다.")
+    void warmUpTest_rejected() {
+
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+        TaskExecutor executor = task -> {
+            attempts.incrementAndGet();
+            throw new TaskRejectedException("full");
+        };
+        CacheWarmer cacheWarmer = new CacheWarmer(planService, checkboxService, executor);
+
+        // when
+        boolean first = cacheWarmer.warmUp(1L);
+        boolean second = cacheWarmer.warmUp(1L);
+
+        // then
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        assertThat(attempts.get()).isEqualTo(2);
+        verifyNoInteractions(planService, checkboxService);
+
+    }
+
+}
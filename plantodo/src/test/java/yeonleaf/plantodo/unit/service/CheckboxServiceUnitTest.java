@@ -114,6 +114,26 @@ public class CheckboxServiceUnitTest {
 
     }
 
+    @Test
+    @DisplayName("정상 저장 - 일정에 dailyGroup 참조가 없는 경우 repOption = 0인 그룹을 찾아 할일을 추가하고 참조를 채워 넣는지 확인한다.")
+    void saveTestNormal_withoutDailyGroupReference() {
+
+        // given
+        Member member = memberRepository.save(new Member("test@abc.co.kr", "13d^3ea#"));
+        PlanResDto planResDto = planService.save(new PlanReqDto("plan", LocalDate.now(), LocalDate.now().plusDays(3), member.getId()));
+        Plan plan = planRepository.findById(planResDto.getId()).orElseThrow(ResourceNotFoundException::new);
+        Group dailyGroup = plan.getDailyGroup();
+        plan.setDailyGroup(null);
+
+        // when
+        CheckboxResDto checkboxResDto = checkboxService.save(new CheckboxReqDto("title", planResDto.getId(), LocalDate.now()));
+
+        // then
+        assertThat(checkboxRepository.findById(checkboxResDto.getId()).orElseThrow(ResourceNotFoundException::new).getGroup()).isEqualTo(dailyGroup);
+        assertThat(plan.getDailyGroup()).isEqualTo(dailyGroup);
+
+    }
+
 
     /**
      * 일일 할일 단건 조회 메소드
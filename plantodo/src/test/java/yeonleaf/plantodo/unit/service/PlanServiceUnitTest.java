@@ -102,6 +102,24 @@ public class PlanServiceUnitTest {
 
     }
 
+    @Test
+    @DisplayName("정상 등록 - 생성된 일정이 repOption = 0인 group을 dailyGroup으로 참조하는지 확인한다.")
+    void saveTestNormal_dailyGroup() {
+
+        // given
+        MemberResDto member = memberService.save(new MemberReqDto("test@abc.co.kr", "3s1@adf2"));
+        PlanResDto plan = planService.save(new PlanReqDto("title", LocalDate.now(), LocalDate.now().plusDays(3), member.getId()));
+
+        // when
+        Plan findPlan = planRepository.findById(plan.getId()).orElseThrow(ResourceNotFoundException::new);
+        List<Group> groups = groupRepository.findByPlanId(plan.getId());
+
+        // then
+        assertThat(findPlan.getDailyGroup()).isNotNull();
+        assertThat(findPlan.getDailyGroup().getId()).isEqualTo(groups.get(0).getId());
+
+    }
+
 
     /**
      * 단건 조회 메소드 관련 테스트